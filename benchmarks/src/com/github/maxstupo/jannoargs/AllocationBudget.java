@@ -0,0 +1,221 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An allocation regression check for the parse hot path. Measures the bytes allocated per parse of representative schemas with
+ * {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}, and exits with a non-zero status if any exceeds its recorded budget, catching
+ * changes such as extra substrings, boxing or per-call map building before release.
+ * <p>
+ *
+ * Each measurement is the lowest of several rounds after a warm up, so JIT compilation and escape analysis have settled. After an intended change
+ * to the allocation of a parse, run with {@code record} to print the measured values and update {@link #BUDGETS}.
+ * <p>
+ *
+ * Run with: {@code java -cp benchmarks/target/benchmarks.jar com.github.maxstupo.jannoargs.AllocationBudget [record]}
+ *
+ * @author Maxstupo
+ */
+public class AllocationBudget {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 10_000;
+    private static final int ROUNDS = 5;
+
+    /** The bytes allocated per parse each scenario may not exceed, about a tenth above the recorded value to absorb JVM differences. */
+    private static final Map<String, Long> BUDGETS = new LinkedHashMap<>();
+
+    static {
+        BUDGETS.put("booleans", 272L);
+        BUDGETS.put("numerics", 400L);
+        BUDGETS.put("strings", 272L);
+        BUDGETS.put("ignoredObjects", 264L);
+        BUDGETS.put("events", 456L);
+        BUDGETS.put("argumentParser", 328L);
+    }
+
+    private static final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** Prevents the JIT from removing the measured work. */
+    private static volatile Object sink;
+
+    public static class Booleans {
+
+        @CmdArgument(key = "verbose")
+        private boolean verbose;
+
+        @CmdArgument(key = "quiet")
+        private boolean quiet;
+
+        @CmdArgument(key = "force")
+        private boolean force;
+
+        @CmdArgument(key = "dryRun")
+        private boolean dryRun;
+    }
+
+    public static class Numerics {
+
+        @CmdArgument(key = "port")
+        private int port;
+
+        @CmdArgument(key = "timeout")
+        private long timeout;
+
+        @CmdArgument(key = "ratio")
+        private double ratio;
+
+        @CmdArgument(key = "scale")
+        private float scale;
+    }
+
+    public static class Strings {
+
+        @CmdArgument(key = "host")
+        private String host;
+
+        @CmdArgument(key = "user")
+        private String user;
+
+        @CmdArgument(key = "name")
+        private String name;
+    }
+
+    public static class Ignored {
+
+        @CmdArgument(key = "debug")
+        private boolean debug;
+
+        @CmdArgument(key = "level")
+        private int level;
+    }
+
+    public static class Evented {
+
+        @CmdArgument(key = "notify")
+        private boolean notify;
+
+        @CmdArgument(key = "count")
+        private int count;
+    }
+
+    private interface Scenario {
+        void run();
+    }
+
+    public static void main(String[] args) {
+        boolean record = args.length > 0 && args[0].equals("record");
+
+        final JAnnoArgs jargs = JAnnoArgs.get();
+        jargs.registerEvent("notify", new IArgumentEvent() {
+            @Override
+            public void onEvent(String name) {
+                sink = name;
+            }
+        });
+
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+
+        final Booleans booleans = new Booleans();
+        final String[] booleanArgs = { "+verbose", "-quiet", "+force", "-dryRun" };
+        scenarios.put("booleans", new Scenario() {
+            @Override
+            public void run() {
+                sink = jargs.parseArguments(false, null, false, booleans, booleanArgs);
+            }
+        });
+
+        final Numerics numerics = new Numerics();
+        final String[] numericArgs = { "--port", "8080", "--timeout", "30000", "--ratio", "0.75", "--scale", "1.5" };
+        scenarios.put("numerics", new Scenario() {
+            @Override
+            public void run() {
+                sink = jargs.parseArguments(false, null, false, numerics, numericArgs);
+            }
+        });
+
+        final Strings strings = new Strings();
+        final String[] stringArgs = { "--host", "localhost", "--user", "admin", "--name", "service" };
+        scenarios.put("strings", new Scenario() {
+            @Override
+            public void run() {
+                sink = jargs.parseArguments(false, null, false, strings, stringArgs);
+            }
+        });
+
+        final Strings ignoring = new Strings();
+        final Object[] ignoreObjs = { new Ignored() };
+        final String[] ignoredArgs = { "--host", "localhost", "+debug", "--level", "3" };
+        scenarios.put("ignoredObjects", new Scenario() {
+            @Override
+            public void run() {
+                sink = jargs.parseArguments(false, null, false, ignoring, ignoreObjs, ignoredArgs);
+            }
+        });
+
+        final Evented evented = new Evented();
+        final String[] eventArgs = { "+notify", "--count", "5" };
+        scenarios.put("events", new Scenario() {
+            @Override
+            public void run() {
+                sink = jargs.parseArguments(false, null, false, evented, eventArgs);
+            }
+        });
+
+        final ArgumentParser<Numerics> parser = ArgumentParser.builder(Numerics.class).build();
+        final Numerics parsed = new Numerics();
+        scenarios.put("argumentParser", new Scenario() {
+            @Override
+            public void run() {
+                sink = parser.parse(parsed, numericArgs);
+            }
+        });
+
+        System.out.println(String.format("%-24s %12s %12s", "Scenario", "bytes/op", "budget"));
+
+        int failures = 0;
+        for (Map.Entry<String, Scenario> entry : scenarios.entrySet()) {
+            String name = entry.getKey();
+            double bytesPerOp = measure(entry.getValue());
+            Long budget = BUDGETS.get(name);
+
+            if (record) {
+                System.out.println(String.format("%-24s %12.1f %12s", name, bytesPerOp, "-"));
+            } else if (budget == null) {
+                System.out.println(String.format("%-24s %12.1f %12s  FAIL (no budget recorded)", name, bytesPerOp, "-"));
+                failures++;
+            } else {
+                boolean over = bytesPerOp > budget;
+                System.out.println(String.format("%-24s %12.1f %12d%s", name, bytesPerOp, budget, over ? "  FAIL" : ""));
+                if (over)
+                    failures++;
+            }
+        }
+
+        if (failures > 0) {
+            System.err.println(failures + " scenario(s) exceeded their allocation budget");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return the lowest bytes allocated per run over several rounds.
+     */
+    private static double measure(Scenario scenario) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+            scenario.run();
+
+        long threadId = Thread.currentThread().getId();
+        double lowest = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = threadBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS; i++)
+                scenario.run();
+            long bytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+            lowest = Math.min(lowest, bytes / (double) ITERATIONS);
+        }
+        return lowest;
+    }
+}
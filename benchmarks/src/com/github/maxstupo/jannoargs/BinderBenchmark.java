@@ -0,0 +1,83 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH microbenchmark comparing the reflective {@link Field#set(Object, Object)} path used by previous versions with the cached
+ * {@link FieldBinder}. Each operation sets an int, a double and a boolean field.
+ * <p>
+ *
+ * Run with: {@code java -jar benchmarks/target/benchmarks.jar BinderBenchmark -prof gc}
+ *
+ * @author Maxstupo
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BinderBenchmark {
+
+    @CmdArgument(key = "port")
+    private int port;
+
+    @CmdArgument(key = "ratio")
+    private double ratio;
+
+    @CmdArgument(key = "debug")
+    private boolean debug;
+
+    /** The value set, changed by each operation so no store can be folded away. */
+    private int value;
+
+    private Field portField;
+    private Field ratioField;
+    private Field debugField;
+
+    private FieldBinder portBinder;
+    private FieldBinder ratioBinder;
+    private FieldBinder debugBinder;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        portField = BinderBenchmark.class.getDeclaredField("port");
+        ratioField = BinderBenchmark.class.getDeclaredField("ratio");
+        debugField = BinderBenchmark.class.getDeclaredField("debug");
+
+        portBinder = FieldBinder.of(portField);
+        ratioBinder = FieldBinder.of(ratioField);
+        debugBinder = FieldBinder.of(debugField);
+    }
+
+    @Benchmark
+    public void fieldSet() throws IllegalAccessException {
+        int i = value++;
+        portField.setAccessible(true);
+        portField.set(this, i);
+        ratioField.setAccessible(true);
+        ratioField.set(this, (double) i);
+        debugField.setAccessible(true);
+        debugField.set(this, (i & 1) == 0);
+    }
+
+    @Benchmark
+    public void fieldBinder() {
+        int i = value++;
+        portBinder.setInt(this, i);
+        ratioBinder.setDouble(this, i);
+        debugBinder.setBoolean(this, (i & 1) == 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A concurrency stress test for {@link ArgumentParser} and {@link JAnnoArgs}. Parses from many threads at once, all started together, and checks
+ * every parsed object and event count. Exits with a non-zero status if any parse produced a wrong result.
+ * <p>
+ *
+ * Run with: {@code java -cp benchmarks/target/benchmarks.jar com.github.maxstupo.jannoargs.ConcurrentParseStress [threads] [iterations]}
+ *
+ * @author Maxstupo
+ */
+public class ConcurrentParseStress {
+
+    public static class Options {
+
+        @CmdArgument(key = "host")
+        private String host;
+
+        @CmdArgument(key = "port")
+        private int port;
+
+        @CmdArgument(key = "ratio")
+        private double ratio;
+
+        @CmdArgument(key = "verbose")
+        private boolean verbose;
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 4;
+        final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+
+        final AtomicLong parserEvents = new AtomicLong();
+        final AtomicLong singletonEvents = new AtomicLong();
+
+        final ArgumentParser<Options> parser = ArgumentParser.builder(Options.class).event("verbose", new IArgumentEvent() {
+            @Override
+            public void onEvent(String name) {
+                parserEvents.incrementAndGet();
+            }
+        }).build();
+
+        JAnnoArgs.get().registerEvent("verbose", new IArgumentEvent() {
+            @Override
+            public void onEvent(String name) {
+                singletonEvents.incrementAndGet();
+            }
+        });
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final AtomicInteger failures = new AtomicInteger();
+
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = 0; i < iterations; i++) {
+                            int port = id * iterations + i;
+                            String host = "host" + id;
+                            String[] argv = { "--host", host, "--port", Integer.toString(port), "--ratio", "0.5", "+verbose" };
+
+                            Options options = new Options();
+                            boolean parsed = (i & 1) == 0 ? parser.parse(options, argv) : JAnnoArgs.get().parseArguments(false, null, false, options, argv);
+                            if (!parsed || !host.equals(options.host) || options.port != port || options.ratio != 0.5 || !options.verbose)
+                                failures.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }, "stress-" + t);
+            thread.start();
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - startTime;
+
+        long total = (long) threads * iterations;
+        long expectedParserEvents = threads * ((iterations + 1L) / 2);
+        long expectedSingletonEvents = total - expectedParserEvents;
+
+        System.out.println(String.format("%d threads x %d parses in %.1f ms (%.0f ns/parse)", threads, iterations, elapsed / 1e6, elapsed / (double) total));
+        System.out.println("Failed parses: " + failures.get());
+        System.out.println("Parser events: " + parserEvents.get() + "/" + expectedParserEvents + ", singleton events: " + singletonEvents.get() + "/" + expectedSingletonEvents);
+
+        if (failures.get() != 0 || parserEvents.get() != expectedParserEvents || singletonEvents.get() != expectedSingletonEvents)
+            System.exit(1);
+    }
+}
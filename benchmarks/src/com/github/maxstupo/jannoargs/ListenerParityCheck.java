@@ -0,0 +1,80 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.Arrays;
+
+/**
+ * A check that attaching a {@link ParseListener} doesn't change what a parse accepts. A parse with a listener converts and binds each value in
+ * separately timed steps, so each argument vector is parsed with and without a listener and the results are compared, including values out of
+ * their {@link CmdArgument} bounds. Exits with a non-zero status if any result differs.
+ * <p>
+ *
+ * Run with: {@code java -cp benchmarks/target/benchmarks.jar com.github.maxstupo.jannoargs.ListenerParityCheck}
+ *
+ * @author Maxstupo
+ */
+public class ListenerParityCheck {
+
+    public static class Bounded {
+
+        @CmdArgument(key = "port", min = 1, max = 65535)
+        private int port;
+
+        @CmdArgument(key = "size", maxLong = 9007199254740993L)
+        private long size;
+
+        @CmdArgument(key = "count", min = 0)
+        private Integer count;
+
+        @CmdArgument(key = "level", min = -5, max = 5)
+        private short level;
+
+        @CmdArgument(key = "ratio", max = 0.1)
+        private float ratio;
+
+        @CmdArgument(key = "scale", min = 0.5)
+        private double scale;
+
+        @Override
+        public String toString() {
+            return "port=" + port + " size=" + size + " count=" + count + " level=" + level + " ratio=" + ratio + " scale=" + scale;
+        }
+    }
+
+    private static final String[][] ARGUMENTS = {
+            { "--port", "8080", "--size", "9007199254740993", "--count", "3", "--level", "-5", "--ratio", "0.1", "--scale", "0.5" },
+            { "--port", "99999" },
+            { "--port", "0" },
+            { "--size", "9007199254740994" },
+            { "--count", "-1" },
+            { "--level", "6" },
+            { "--ratio", "0.2" },
+            { "--scale", "0.25" },
+            { "--port", "not a number" },
+    };
+
+    public static void main(String[] args) {
+        ArgumentParser<Bounded> plain = ArgumentParser.builder(Bounded.class).build();
+        ArgumentParser<Bounded> listened = ArgumentParser.builder(Bounded.class).listener(new ParseListener() {
+        }).build();
+
+        int failures = 0;
+        for (String[] arguments : ARGUMENTS) {
+            String expected = parse(plain, arguments);
+            String actual = parse(listened, arguments);
+            if (!expected.equals(actual)) {
+                System.err.println(Arrays.toString(arguments) + ": without a listener " + expected + ", with a listener " + actual);
+                failures++;
+            }
+        }
+
+        System.out.println("Argument vectors: " + ARGUMENTS.length + ", differing with a listener: " + failures);
+        if (failures > 0)
+            System.exit(1);
+    }
+
+    private static String parse(ArgumentParser<Bounded> parser, String[] arguments) {
+        Bounded bounded = new Bounded();
+        ParseResult<Bounded> result = parser.parseResult(bounded, arguments);
+        return result.isSuccess() ? "set " + bounded : result.getFailureCause() + " " + result.getFailure();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark comparing the validate then parse numeric conversion used by previous versions with the single pass {@link NumberParser}, over
+ * a mix of valid and invalid numbers.
+ * <p>
+ *
+ * Run with: {@code java -jar benchmarks/target/benchmarks.jar NumberBenchmark -prof gc}
+ *
+ * @author Maxstupo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NumberBenchmark {
+
+    private String[] numbers = { "0", "42", "-17", "2147483647", "123456789", "not a number", "3.14159", "-2.5e10" };
+
+    @Benchmark
+    public void isIntThenParseInt(Blackhole blackhole) {
+        for (String number : numbers) {
+            if (Util.isInt(number))
+                blackhole.consume(Integer.parseInt(number));
+        }
+    }
+
+    @Benchmark
+    public void isDoubleThenParseDouble(Blackhole blackhole) {
+        for (String number : numbers) {
+            if (Util.isDouble(number))
+                blackhole.consume(Double.parseDouble(number));
+        }
+    }
+
+    @Benchmark
+    public void numberParserParseInt(Blackhole blackhole) {
+        for (String number : numbers) {
+            long value = NumberParser.parseInt(number);
+            if (value != NumberParser.INVALID)
+                blackhole.consume(value);
+        }
+    }
+}
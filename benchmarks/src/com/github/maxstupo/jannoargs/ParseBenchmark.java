@@ -0,0 +1,122 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark of the parse hot path, unknown key suggestions, resetting to defaults, binding and help generation, for schemas of 10, 100
+ * and 1000 fields.
+ * <p>
+ *
+ * Run with the GC profiler, to report the bytes allocated per operation alongside the throughput:
+ * {@code java -jar benchmarks/target/benchmarks.jar ParseBenchmark -prof gc}
+ *
+ * @author Maxstupo
+ * @see NumberBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseBenchmark {
+
+    /** A mistyped key, reported with suggestions of the closest keys. */
+    private static final String[] TYPO = { "--strnig1", "value" };
+
+    @Param({ "10", "100", "1000" })
+    private int size;
+
+    private Object obj;
+    private String[] arguments;
+    private ArgumentParser<Object> resettingParser;
+
+    @Setup
+    public void setup() {
+        obj = schemaOf(size);
+        arguments = argumentsFor(size);
+        resettingParser = parserOf(obj.getClass());
+    }
+
+    @Benchmark
+    public boolean parseArguments() {
+        return JAnnoArgs.get().parseArguments(false, null, false, obj, arguments);
+    }
+
+    @Benchmark
+    public boolean unknownKey() {
+        return JAnnoArgs.get().parseArguments(false, null, false, obj, TYPO);
+    }
+
+    @Benchmark
+    public Object reset() {
+        resettingParser.reset(obj);
+        return obj;
+    }
+
+    @Benchmark
+    public Map<String, ?> createKeyToFieldsMap() {
+        return JAnnoArgs.createKeyToFieldsMap(obj);
+    }
+
+    @Benchmark
+    public String generateHelp() {
+        return JAnnoArgs.generateHelp("Benchmark", true, obj);
+    }
+
+    private static Object schemaOf(int size) {
+        switch (size) {
+            case 10:
+                return new Schema10();
+            case 100:
+                return new Schema100();
+            case 1000:
+                return new Schema1000();
+            default:
+                throw new IllegalArgumentException("No schema of " + size + " fields");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentParser<Object> parserOf(Class<?> type) {
+        return ArgumentParser.builder((Class<Object>) type).resetToDefaults(true).build();
+    }
+
+    /**
+     * Returns arguments that set every field of the schema of the given size.
+     */
+    private static String[] argumentsFor(int size) {
+        List<String> args = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            switch (i % 3) {
+                case 0:
+                    args.add("--int" + i);
+                    args.add(Integer.toString(i * 31));
+                    break;
+                case 1:
+                    args.add("--string" + i);
+                    args.add("value" + i);
+                    break;
+                default:
+                    args.add((i & 1) == 0 ? "+bool" + i : "-bool" + i);
+                    break;
+            }
+        }
+        return args.toArray(new String[args.size()]);
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * A generated schema of 10 fields for {@link ParseBenchmark}, a third each of int, String and boolean fields, each keyed by its name.
+ *
+ * @author Maxstupo
+ */
+public class Schema10 {
+
+    @CmdArgument(key = "int0", desc = "An int field.")
+    private int int0;
+
+    @CmdArgument(key = "string1", desc = "A string field.")
+    private String string1;
+
+    @CmdArgument(key = "bool2", desc = "A boolean field.")
+    private boolean bool2;
+
+    @CmdArgument(key = "int3", desc = "An int field.")
+    private int int3;
+
+    @CmdArgument(key = "string4", desc = "A string field.")
+    private String string4;
+
+    @CmdArgument(key = "bool5", desc = "A boolean field.")
+    private boolean bool5;
+
+    @CmdArgument(key = "int6", desc = "An int field.")
+    private int int6;
+
+    @CmdArgument(key = "string7", desc = "A string field.")
+    private String string7;
+
+    @CmdArgument(key = "bool8", desc = "A boolean field.")
+    private boolean bool8;
+
+    @CmdArgument(key = "int9", desc = "An int field.")
+    private int int9;
+}
@@ -0,0 +1,309 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * A generated schema of 100 fields for {@link ParseBenchmark}, a third each of int, String and boolean fields, each keyed by its name.
+ *
+ * @author Maxstupo
+ */
+public class Schema100 {
+
+    @CmdArgument(key = "int0", desc = "An int field.")
+    private int int0;
+
+    @CmdArgument(key = "string1", desc = "A string field.")
+    private String string1;
+
+    @CmdArgument(key = "bool2", desc = "A boolean field.")
+    private boolean bool2;
+
+    @CmdArgument(key = "int3", desc = "An int field.")
+    private int int3;
+
+    @CmdArgument(key = "string4", desc = "A string field.")
+    private String string4;
+
+    @CmdArgument(key = "bool5", desc = "A boolean field.")
+    private boolean bool5;
+
+    @CmdArgument(key = "int6", desc = "An int field.")
+    private int int6;
+
+    @CmdArgument(key = "string7", desc = "A string field.")
+    private String string7;
+
+    @CmdArgument(key = "bool8", desc = "A boolean field.")
+    private boolean bool8;
+
+    @CmdArgument(key = "int9", desc = "An int field.")
+    private int int9;
+
+    @CmdArgument(key = "string10", desc = "A string field.")
+    private String string10;
+
+    @CmdArgument(key = "bool11", desc = "A boolean field.")
+    private boolean bool11;
+
+    @CmdArgument(key = "int12", desc = "An int field.")
+    private int int12;
+
+    @CmdArgument(key = "string13", desc = "A string field.")
+    private String string13;
+
+    @CmdArgument(key = "bool14", desc = "A boolean field.")
+    private boolean bool14;
+
+    @CmdArgument(key = "int15", desc = "An int field.")
+    private int int15;
+
+    @CmdArgument(key = "string16", desc = "A string field.")
+    private String string16;
+
+    @CmdArgument(key = "bool17", desc = "A boolean field.")
+    private boolean bool17;
+
+    @CmdArgument(key = "int18", desc = "An int field.")
+    private int int18;
+
+    @CmdArgument(key = "string19", desc = "A string field.")
+    private String string19;
+
+    @CmdArgument(key = "bool20", desc = "A boolean field.")
+    private boolean bool20;
+
+    @CmdArgument(key = "int21", desc = "An int field.")
+    private int int21;
+
+    @CmdArgument(key = "string22", desc = "A string field.")
+    private String string22;
+
+    @CmdArgument(key = "bool23", desc = "A boolean field.")
+    private boolean bool23;
+
+    @CmdArgument(key = "int24", desc = "An int field.")
+    private int int24;
+
+    @CmdArgument(key = "string25", desc = "A string field.")
+    private String string25;
+
+    @CmdArgument(key = "bool26", desc = "A boolean field.")
+    private boolean bool26;
+
+    @CmdArgument(key = "int27", desc = "An int field.")
+    private int int27;
+
+    @CmdArgument(key = "string28", desc = "A string field.")
+    private String string28;
+
+    @CmdArgument(key = "bool29", desc = "A boolean field.")
+    private boolean bool29;
+
+    @CmdArgument(key = "int30", desc = "An int field.")
+    private int int30;
+
+    @CmdArgument(key = "string31", desc = "A string field.")
+    private String string31;
+
+    @CmdArgument(key = "bool32", desc = "A boolean field.")
+    private boolean bool32;
+
+    @CmdArgument(key = "int33", desc = "An int field.")
+    private int int33;
+
+    @CmdArgument(key = "string34", desc = "A string field.")
+    private String string34;
+
+    @CmdArgument(key = "bool35", desc = "A boolean field.")
+    private boolean bool35;
+
+    @CmdArgument(key = "int36", desc = "An int field.")
+    private int int36;
+
+    @CmdArgument(key = "string37", desc = "A string field.")
+    private String string37;
+
+    @CmdArgument(key = "bool38", desc = "A boolean field.")
+    private boolean bool38;
+
+    @CmdArgument(key = "int39", desc = "An int field.")
+    private int int39;
+
+    @CmdArgument(key = "string40", desc = "A string field.")
+    private String string40;
+
+    @CmdArgument(key = "bool41", desc = "A boolean field.")
+    private boolean bool41;
+
+    @CmdArgument(key = "int42", desc = "An int field.")
+    private int int42;
+
+    @CmdArgument(key = "string43", desc = "A string field.")
+    private String string43;
+
+    @CmdArgument(key = "bool44", desc = "A boolean field.")
+    private boolean bool44;
+
+    @CmdArgument(key = "int45", desc = "An int field.")
+    private int int45;
+
+    @CmdArgument(key = "string46", desc = "A string field.")
+    private String string46;
+
+    @CmdArgument(key = "bool47", desc = "A boolean field.")
+    private boolean bool47;
+
+    @CmdArgument(key = "int48", desc = "An int field.")
+    private int int48;
+
+    @CmdArgument(key = "string49", desc = "A string field.")
+    private String string49;
+
+    @CmdArgument(key = "bool50", desc = "A boolean field.")
+    private boolean bool50;
+
+    @CmdArgument(key = "int51", desc = "An int field.")
+    private int int51;
+
+    @CmdArgument(key = "string52", desc = "A string field.")
+    private String string52;
+
+    @CmdArgument(key = "bool53", desc = "A boolean field.")
+    private boolean bool53;
+
+    @CmdArgument(key = "int54", desc = "An int field.")
+    private int int54;
+
+    @CmdArgument(key = "string55", desc = "A string field.")
+    private String string55;
+
+    @CmdArgument(key = "bool56", desc = "A boolean field.")
+    private boolean bool56;
+
+    @CmdArgument(key = "int57", desc = "An int field.")
+    private int int57;
+
+    @CmdArgument(key = "string58", desc = "A string field.")
+    private String string58;
+
+    @CmdArgument(key = "bool59", desc = "A boolean field.")
+    private boolean bool59;
+
+    @CmdArgument(key = "int60", desc = "An int field.")
+    private int int60;
+
+    @CmdArgument(key = "string61", desc = "A string field.")
+    private String string61;
+
+    @CmdArgument(key = "bool62", desc = "A boolean field.")
+    private boolean bool62;
+
+    @CmdArgument(key = "int63", desc = "An int field.")
+    private int int63;
+
+    @CmdArgument(key = "string64", desc = "A string field.")
+    private String string64;
+
+    @CmdArgument(key = "bool65", desc = "A boolean field.")
+    private boolean bool65;
+
+    @CmdArgument(key = "int66", desc = "An int field.")
+    private int int66;
+
+    @CmdArgument(key = "string67", desc = "A string field.")
+    private String string67;
+
+    @CmdArgument(key = "bool68", desc = "A boolean field.")
+    private boolean bool68;
+
+    @CmdArgument(key = "int69", desc = "An int field.")
+    private int int69;
+
+    @CmdArgument(key = "string70", desc = "A string field.")
+    private String string70;
+
+    @CmdArgument(key = "bool71", desc = "A boolean field.")
+    private boolean bool71;
+
+    @CmdArgument(key = "int72", desc = "An int field.")
+    private int int72;
+
+    @CmdArgument(key = "string73", desc = "A string field.")
+    private String string73;
+
+    @CmdArgument(key = "bool74", desc = "A boolean field.")
+    private boolean bool74;
+
+    @CmdArgument(key = "int75", desc = "An int field.")
+    private int int75;
+
+    @CmdArgument(key = "string76", desc = "A string field.")
+    private String string76;
+
+    @CmdArgument(key = "bool77", desc = "A boolean field.")
+    private boolean bool77;
+
+    @CmdArgument(key = "int78", desc = "An int field.")
+    private int int78;
+
+    @CmdArgument(key = "string79", desc = "A string field.")
+    private String string79;
+
+    @CmdArgument(key = "bool80", desc = "A boolean field.")
+    private boolean bool80;
+
+    @CmdArgument(key = "int81", desc = "An int field.")
+    private int int81;
+
+    @CmdArgument(key = "string82", desc = "A string field.")
+    private String string82;
+
+    @CmdArgument(key = "bool83", desc = "A boolean field.")
+    private boolean bool83;
+
+    @CmdArgument(key = "int84", desc = "An int field.")
+    private int int84;
+
+    @CmdArgument(key = "string85", desc = "A string field.")
+    private String string85;
+
+    @CmdArgument(key = "bool86", desc = "A boolean field.")
+    private boolean bool86;
+
+    @CmdArgument(key = "int87", desc = "An int field.")
+    private int int87;
+
+    @CmdArgument(key = "string88", desc = "A string field.")
+    private String string88;
+
+    @CmdArgument(key = "bool89", desc = "A boolean field.")
+    private boolean bool89;
+
+    @CmdArgument(key = "int90", desc = "An int field.")
+    private int int90;
+
+    @CmdArgument(key = "string91", desc = "A string field.")
+    private String string91;
+
+    @CmdArgument(key = "bool92", desc = "A boolean field.")
+    private boolean bool92;
+
+    @CmdArgument(key = "int93", desc = "An int field.")
+    private int int93;
+
+    @CmdArgument(key = "string94", desc = "A string field.")
+    private String string94;
+
+    @CmdArgument(key = "bool95", desc = "A boolean field.")
+    private boolean bool95;
+
+    @CmdArgument(key = "int96", desc = "An int field.")
+    private int int96;
+
+    @CmdArgument(key = "string97", desc = "A string field.")
+    private String string97;
+
+    @CmdArgument(key = "bool98", desc = "A boolean field.")
+    private boolean bool98;
+
+    @CmdArgument(key = "int99", desc = "An int field.")
+    private int int99;
+}
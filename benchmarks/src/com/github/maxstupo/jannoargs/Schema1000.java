@@ -0,0 +1,3009 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * A generated schema of 1000 fields for {@link ParseBenchmark}, a third each of int, String and boolean fields, each keyed by its name.
+ *
+ * @author Maxstupo
+ */
+public class Schema1000 {
+
+    @CmdArgument(key = "int0", desc = "An int field.")
+    private int int0;
+
+    @CmdArgument(key = "string1", desc = "A string field.")
+    private String string1;
+
+    @CmdArgument(key = "bool2", desc = "A boolean field.")
+    private boolean bool2;
+
+    @CmdArgument(key = "int3", desc = "An int field.")
+    private int int3;
+
+    @CmdArgument(key = "string4", desc = "A string field.")
+    private String string4;
+
+    @CmdArgument(key = "bool5", desc = "A boolean field.")
+    private boolean bool5;
+
+    @CmdArgument(key = "int6", desc = "An int field.")
+    private int int6;
+
+    @CmdArgument(key = "string7", desc = "A string field.")
+    private String string7;
+
+    @CmdArgument(key = "bool8", desc = "A boolean field.")
+    private boolean bool8;
+
+    @CmdArgument(key = "int9", desc = "An int field.")
+    private int int9;
+
+    @CmdArgument(key = "string10", desc = "A string field.")
+    private String string10;
+
+    @CmdArgument(key = "bool11", desc = "A boolean field.")
+    private boolean bool11;
+
+    @CmdArgument(key = "int12", desc = "An int field.")
+    private int int12;
+
+    @CmdArgument(key = "string13", desc = "A string field.")
+    private String string13;
+
+    @CmdArgument(key = "bool14", desc = "A boolean field.")
+    private boolean bool14;
+
+    @CmdArgument(key = "int15", desc = "An int field.")
+    private int int15;
+
+    @CmdArgument(key = "string16", desc = "A string field.")
+    private String string16;
+
+    @CmdArgument(key = "bool17", desc = "A boolean field.")
+    private boolean bool17;
+
+    @CmdArgument(key = "int18", desc = "An int field.")
+    private int int18;
+
+    @CmdArgument(key = "string19", desc = "A string field.")
+    private String string19;
+
+    @CmdArgument(key = "bool20", desc = "A boolean field.")
+    private boolean bool20;
+
+    @CmdArgument(key = "int21", desc = "An int field.")
+    private int int21;
+
+    @CmdArgument(key = "string22", desc = "A string field.")
+    private String string22;
+
+    @CmdArgument(key = "bool23", desc = "A boolean field.")
+    private boolean bool23;
+
+    @CmdArgument(key = "int24", desc = "An int field.")
+    private int int24;
+
+    @CmdArgument(key = "string25", desc = "A string field.")
+    private String string25;
+
+    @CmdArgument(key = "bool26", desc = "A boolean field.")
+    private boolean bool26;
+
+    @CmdArgument(key = "int27", desc = "An int field.")
+    private int int27;
+
+    @CmdArgument(key = "string28", desc = "A string field.")
+    private String string28;
+
+    @CmdArgument(key = "bool29", desc = "A boolean field.")
+    private boolean bool29;
+
+    @CmdArgument(key = "int30", desc = "An int field.")
+    private int int30;
+
+    @CmdArgument(key = "string31", desc = "A string field.")
+    private String string31;
+
+    @CmdArgument(key = "bool32", desc = "A boolean field.")
+    private boolean bool32;
+
+    @CmdArgument(key = "int33", desc = "An int field.")
+    private int int33;
+
+    @CmdArgument(key = "string34", desc = "A string field.")
+    private String string34;
+
+    @CmdArgument(key = "bool35", desc = "A boolean field.")
+    private boolean bool35;
+
+    @CmdArgument(key = "int36", desc = "An int field.")
+    private int int36;
+
+    @CmdArgument(key = "string37", desc = "A string field.")
+    private String string37;
+
+    @CmdArgument(key = "bool38", desc = "A boolean field.")
+    private boolean bool38;
+
+    @CmdArgument(key = "int39", desc = "An int field.")
+    private int int39;
+
+    @CmdArgument(key = "string40", desc = "A string field.")
+    private String string40;
+
+    @CmdArgument(key = "bool41", desc = "A boolean field.")
+    private boolean bool41;
+
+    @CmdArgument(key = "int42", desc = "An int field.")
+    private int int42;
+
+    @CmdArgument(key = "string43", desc = "A string field.")
+    private String string43;
+
+    @CmdArgument(key = "bool44", desc = "A boolean field.")
+    private boolean bool44;
+
+    @CmdArgument(key = "int45", desc = "An int field.")
+    private int int45;
+
+    @CmdArgument(key = "string46", desc = "A string field.")
+    private String string46;
+
+    @CmdArgument(key = "bool47", desc = "A boolean field.")
+    private boolean bool47;
+
+    @CmdArgument(key = "int48", desc = "An int field.")
+    private int int48;
+
+    @CmdArgument(key = "string49", desc = "A string field.")
+    private String string49;
+
+    @CmdArgument(key = "bool50", desc = "A boolean field.")
+    private boolean bool50;
+
+    @CmdArgument(key = "int51", desc = "An int field.")
+    private int int51;
+
+    @CmdArgument(key = "string52", desc = "A string field.")
+    private String string52;
+
+    @CmdArgument(key = "bool53", desc = "A boolean field.")
+    private boolean bool53;
+
+    @CmdArgument(key = "int54", desc = "An int field.")
+    private int int54;
+
+    @CmdArgument(key = "string55", desc = "A string field.")
+    private String string55;
+
+    @CmdArgument(key = "bool56", desc = "A boolean field.")
+    private boolean bool56;
+
+    @CmdArgument(key = "int57", desc = "An int field.")
+    private int int57;
+
+    @CmdArgument(key = "string58", desc = "A string field.")
+    private String string58;
+
+    @CmdArgument(key = "bool59", desc = "A boolean field.")
+    private boolean bool59;
+
+    @CmdArgument(key = "int60", desc = "An int field.")
+    private int int60;
+
+    @CmdArgument(key = "string61", desc = "A string field.")
+    private String string61;
+
+    @CmdArgument(key = "bool62", desc = "A boolean field.")
+    private boolean bool62;
+
+    @CmdArgument(key = "int63", desc = "An int field.")
+    private int int63;
+
+    @CmdArgument(key = "string64", desc = "A string field.")
+    private String string64;
+
+    @CmdArgument(key = "bool65", desc = "A boolean field.")
+    private boolean bool65;
+
+    @CmdArgument(key = "int66", desc = "An int field.")
+    private int int66;
+
+    @CmdArgument(key = "string67", desc = "A string field.")
+    private String string67;
+
+    @CmdArgument(key = "bool68", desc = "A boolean field.")
+    private boolean bool68;
+
+    @CmdArgument(key = "int69", desc = "An int field.")
+    private int int69;
+
+    @CmdArgument(key = "string70", desc = "A string field.")
+    private String string70;
+
+    @CmdArgument(key = "bool71", desc = "A boolean field.")
+    private boolean bool71;
+
+    @CmdArgument(key = "int72", desc = "An int field.")
+    private int int72;
+
+    @CmdArgument(key = "string73", desc = "A string field.")
+    private String string73;
+
+    @CmdArgument(key = "bool74", desc = "A boolean field.")
+    private boolean bool74;
+
+    @CmdArgument(key = "int75", desc = "An int field.")
+    private int int75;
+
+    @CmdArgument(key = "string76", desc = "A string field.")
+    private String string76;
+
+    @CmdArgument(key = "bool77", desc = "A boolean field.")
+    private boolean bool77;
+
+    @CmdArgument(key = "int78", desc = "An int field.")
+    private int int78;
+
+    @CmdArgument(key = "string79", desc = "A string field.")
+    private String string79;
+
+    @CmdArgument(key = "bool80", desc = "A boolean field.")
+    private boolean bool80;
+
+    @CmdArgument(key = "int81", desc = "An int field.")
+    private int int81;
+
+    @CmdArgument(key = "string82", desc = "A string field.")
+    private String string82;
+
+    @CmdArgument(key = "bool83", desc = "A boolean field.")
+    private boolean bool83;
+
+    @CmdArgument(key = "int84", desc = "An int field.")
+    private int int84;
+
+    @CmdArgument(key = "string85", desc = "A string field.")
+    private String string85;
+
+    @CmdArgument(key = "bool86", desc = "A boolean field.")
+    private boolean bool86;
+
+    @CmdArgument(key = "int87", desc = "An int field.")
+    private int int87;
+
+    @CmdArgument(key = "string88", desc = "A string field.")
+    private String string88;
+
+    @CmdArgument(key = "bool89", desc = "A boolean field.")
+    private boolean bool89;
+
+    @CmdArgument(key = "int90", desc = "An int field.")
+    private int int90;
+
+    @CmdArgument(key = "string91", desc = "A string field.")
+    private String string91;
+
+    @CmdArgument(key = "bool92", desc = "A boolean field.")
+    private boolean bool92;
+
+    @CmdArgument(key = "int93", desc = "An int field.")
+    private int int93;
+
+    @CmdArgument(key = "string94", desc = "A string field.")
+    private String string94;
+
+    @CmdArgument(key = "bool95", desc = "A boolean field.")
+    private boolean bool95;
+
+    @CmdArgument(key = "int96", desc = "An int field.")
+    private int int96;
+
+    @CmdArgument(key = "string97", desc = "A string field.")
+    private String string97;
+
+    @CmdArgument(key = "bool98", desc = "A boolean field.")
+    private boolean bool98;
+
+    @CmdArgument(key = "int99", desc = "An int field.")
+    private int int99;
+
+    @CmdArgument(key = "string100", desc = "A string field.")
+    private String string100;
+
+    @CmdArgument(key = "bool101", desc = "A boolean field.")
+    private boolean bool101;
+
+    @CmdArgument(key = "int102", desc = "An int field.")
+    private int int102;
+
+    @CmdArgument(key = "string103", desc = "A string field.")
+    private String string103;
+
+    @CmdArgument(key = "bool104", desc = "A boolean field.")
+    private boolean bool104;
+
+    @CmdArgument(key = "int105", desc = "An int field.")
+    private int int105;
+
+    @CmdArgument(key = "string106", desc = "A string field.")
+    private String string106;
+
+    @CmdArgument(key = "bool107", desc = "A boolean field.")
+    private boolean bool107;
+
+    @CmdArgument(key = "int108", desc = "An int field.")
+    private int int108;
+
+    @CmdArgument(key = "string109", desc = "A string field.")
+    private String string109;
+
+    @CmdArgument(key = "bool110", desc = "A boolean field.")
+    private boolean bool110;
+
+    @CmdArgument(key = "int111", desc = "An int field.")
+    private int int111;
+
+    @CmdArgument(key = "string112", desc = "A string field.")
+    private String string112;
+
+    @CmdArgument(key = "bool113", desc = "A boolean field.")
+    private boolean bool113;
+
+    @CmdArgument(key = "int114", desc = "An int field.")
+    private int int114;
+
+    @CmdArgument(key = "string115", desc = "A string field.")
+    private String string115;
+
+    @CmdArgument(key = "bool116", desc = "A boolean field.")
+    private boolean bool116;
+
+    @CmdArgument(key = "int117", desc = "An int field.")
+    private int int117;
+
+    @CmdArgument(key = "string118", desc = "A string field.")
+    private String string118;
+
+    @CmdArgument(key = "bool119", desc = "A boolean field.")
+    private boolean bool119;
+
+    @CmdArgument(key = "int120", desc = "An int field.")
+    private int int120;
+
+    @CmdArgument(key = "string121", desc = "A string field.")
+    private String string121;
+
+    @CmdArgument(key = "bool122", desc = "A boolean field.")
+    private boolean bool122;
+
+    @CmdArgument(key = "int123", desc = "An int field.")
+    private int int123;
+
+    @CmdArgument(key = "string124", desc = "A string field.")
+    private String string124;
+
+    @CmdArgument(key = "bool125", desc = "A boolean field.")
+    private boolean bool125;
+
+    @CmdArgument(key = "int126", desc = "An int field.")
+    private int int126;
+
+    @CmdArgument(key = "string127", desc = "A string field.")
+    private String string127;
+
+    @CmdArgument(key = "bool128", desc = "A boolean field.")
+    private boolean bool128;
+
+    @CmdArgument(key = "int129", desc = "An int field.")
+    private int int129;
+
+    @CmdArgument(key = "string130", desc = "A string field.")
+    private String string130;
+
+    @CmdArgument(key = "bool131", desc = "A boolean field.")
+    private boolean bool131;
+
+    @CmdArgument(key = "int132", desc = "An int field.")
+    private int int132;
+
+    @CmdArgument(key = "string133", desc = "A string field.")
+    private String string133;
+
+    @CmdArgument(key = "bool134", desc = "A boolean field.")
+    private boolean bool134;
+
+    @CmdArgument(key = "int135", desc = "An int field.")
+    private int int135;
+
+    @CmdArgument(key = "string136", desc = "A string field.")
+    private String string136;
+
+    @CmdArgument(key = "bool137", desc = "A boolean field.")
+    private boolean bool137;
+
+    @CmdArgument(key = "int138", desc = "An int field.")
+    private int int138;
+
+    @CmdArgument(key = "string139", desc = "A string field.")
+    private String string139;
+
+    @CmdArgument(key = "bool140", desc = "A boolean field.")
+    private boolean bool140;
+
+    @CmdArgument(key = "int141", desc = "An int field.")
+    private int int141;
+
+    @CmdArgument(key = "string142", desc = "A string field.")
+    private String string142;
+
+    @CmdArgument(key = "bool143", desc = "A boolean field.")
+    private boolean bool143;
+
+    @CmdArgument(key = "int144", desc = "An int field.")
+    private int int144;
+
+    @CmdArgument(key = "string145", desc = "A string field.")
+    private String string145;
+
+    @CmdArgument(key = "bool146", desc = "A boolean field.")
+    private boolean bool146;
+
+    @CmdArgument(key = "int147", desc = "An int field.")
+    private int int147;
+
+    @CmdArgument(key = "string148", desc = "A string field.")
+    private String string148;
+
+    @CmdArgument(key = "bool149", desc = "A boolean field.")
+    private boolean bool149;
+
+    @CmdArgument(key = "int150", desc = "An int field.")
+    private int int150;
+
+    @CmdArgument(key = "string151", desc = "A string field.")
+    private String string151;
+
+    @CmdArgument(key = "bool152", desc = "A boolean field.")
+    private boolean bool152;
+
+    @CmdArgument(key = "int153", desc = "An int field.")
+    private int int153;
+
+    @CmdArgument(key = "string154", desc = "A string field.")
+    private String string154;
+
+    @CmdArgument(key = "bool155", desc = "A boolean field.")
+    private boolean bool155;
+
+    @CmdArgument(key = "int156", desc = "An int field.")
+    private int int156;
+
+    @CmdArgument(key = "string157", desc = "A string field.")
+    private String string157;
+
+    @CmdArgument(key = "bool158", desc = "A boolean field.")
+    private boolean bool158;
+
+    @CmdArgument(key = "int159", desc = "An int field.")
+    private int int159;
+
+    @CmdArgument(key = "string160", desc = "A string field.")
+    private String string160;
+
+    @CmdArgument(key = "bool161", desc = "A boolean field.")
+    private boolean bool161;
+
+    @CmdArgument(key = "int162", desc = "An int field.")
+    private int int162;
+
+    @CmdArgument(key = "string163", desc = "A string field.")
+    private String string163;
+
+    @CmdArgument(key = "bool164", desc = "A boolean field.")
+    private boolean bool164;
+
+    @CmdArgument(key = "int165", desc = "An int field.")
+    private int int165;
+
+    @CmdArgument(key = "string166", desc = "A string field.")
+    private String string166;
+
+    @CmdArgument(key = "bool167", desc = "A boolean field.")
+    private boolean bool167;
+
+    @CmdArgument(key = "int168", desc = "An int field.")
+    private int int168;
+
+    @CmdArgument(key = "string169", desc = "A string field.")
+    private String string169;
+
+    @CmdArgument(key = "bool170", desc = "A boolean field.")
+    private boolean bool170;
+
+    @CmdArgument(key = "int171", desc = "An int field.")
+    private int int171;
+
+    @CmdArgument(key = "string172", desc = "A string field.")
+    private String string172;
+
+    @CmdArgument(key = "bool173", desc = "A boolean field.")
+    private boolean bool173;
+
+    @CmdArgument(key = "int174", desc = "An int field.")
+    private int int174;
+
+    @CmdArgument(key = "string175", desc = "A string field.")
+    private String string175;
+
+    @CmdArgument(key = "bool176", desc = "A boolean field.")
+    private boolean bool176;
+
+    @CmdArgument(key = "int177", desc = "An int field.")
+    private int int177;
+
+    @CmdArgument(key = "string178", desc = "A string field.")
+    private String string178;
+
+    @CmdArgument(key = "bool179", desc = "A boolean field.")
+    private boolean bool179;
+
+    @CmdArgument(key = "int180", desc = "An int field.")
+    private int int180;
+
+    @CmdArgument(key = "string181", desc = "A string field.")
+    private String string181;
+
+    @CmdArgument(key = "bool182", desc = "A boolean field.")
+    private boolean bool182;
+
+    @CmdArgument(key = "int183", desc = "An int field.")
+    private int int183;
+
+    @CmdArgument(key = "string184", desc = "A string field.")
+    private String string184;
+
+    @CmdArgument(key = "bool185", desc = "A boolean field.")
+    private boolean bool185;
+
+    @CmdArgument(key = "int186", desc = "An int field.")
+    private int int186;
+
+    @CmdArgument(key = "string187", desc = "A string field.")
+    private String string187;
+
+    @CmdArgument(key = "bool188", desc = "A boolean field.")
+    private boolean bool188;
+
+    @CmdArgument(key = "int189", desc = "An int field.")
+    private int int189;
+
+    @CmdArgument(key = "string190", desc = "A string field.")
+    private String string190;
+
+    @CmdArgument(key = "bool191", desc = "A boolean field.")
+    private boolean bool191;
+
+    @CmdArgument(key = "int192", desc = "An int field.")
+    private int int192;
+
+    @CmdArgument(key = "string193", desc = "A string field.")
+    private String string193;
+
+    @CmdArgument(key = "bool194", desc = "A boolean field.")
+    private boolean bool194;
+
+    @CmdArgument(key = "int195", desc = "An int field.")
+    private int int195;
+
+    @CmdArgument(key = "string196", desc = "A string field.")
+    private String string196;
+
+    @CmdArgument(key = "bool197", desc = "A boolean field.")
+    private boolean bool197;
+
+    @CmdArgument(key = "int198", desc = "An int field.")
+    private int int198;
+
+    @CmdArgument(key = "string199", desc = "A string field.")
+    private String string199;
+
+    @CmdArgument(key = "bool200", desc = "A boolean field.")
+    private boolean bool200;
+
+    @CmdArgument(key = "int201", desc = "An int field.")
+    private int int201;
+
+    @CmdArgument(key = "string202", desc = "A string field.")
+    private String string202;
+
+    @CmdArgument(key = "bool203", desc = "A boolean field.")
+    private boolean bool203;
+
+    @CmdArgument(key = "int204", desc = "An int field.")
+    private int int204;
+
+    @CmdArgument(key = "string205", desc = "A string field.")
+    private String string205;
+
+    @CmdArgument(key = "bool206", desc = "A boolean field.")
+    private boolean bool206;
+
+    @CmdArgument(key = "int207", desc = "An int field.")
+    private int int207;
+
+    @CmdArgument(key = "string208", desc = "A string field.")
+    private String string208;
+
+    @CmdArgument(key = "bool209", desc = "A boolean field.")
+    private boolean bool209;
+
+    @CmdArgument(key = "int210", desc = "An int field.")
+    private int int210;
+
+    @CmdArgument(key = "string211", desc = "A string field.")
+    private String string211;
+
+    @CmdArgument(key = "bool212", desc = "A boolean field.")
+    private boolean bool212;
+
+    @CmdArgument(key = "int213", desc = "An int field.")
+    private int int213;
+
+    @CmdArgument(key = "string214", desc = "A string field.")
+    private String string214;
+
+    @CmdArgument(key = "bool215", desc = "A boolean field.")
+    private boolean bool215;
+
+    @CmdArgument(key = "int216", desc = "An int field.")
+    private int int216;
+
+    @CmdArgument(key = "string217", desc = "A string field.")
+    private String string217;
+
+    @CmdArgument(key = "bool218", desc = "A boolean field.")
+    private boolean bool218;
+
+    @CmdArgument(key = "int219", desc = "An int field.")
+    private int int219;
+
+    @CmdArgument(key = "string220", desc = "A string field.")
+    private String string220;
+
+    @CmdArgument(key = "bool221", desc = "A boolean field.")
+    private boolean bool221;
+
+    @CmdArgument(key = "int222", desc = "An int field.")
+    private int int222;
+
+    @CmdArgument(key = "string223", desc = "A string field.")
+    private String string223;
+
+    @CmdArgument(key = "bool224", desc = "A boolean field.")
+    private boolean bool224;
+
+    @CmdArgument(key = "int225", desc = "An int field.")
+    private int int225;
+
+    @CmdArgument(key = "string226", desc = "A string field.")
+    private String string226;
+
+    @CmdArgument(key = "bool227", desc = "A boolean field.")
+    private boolean bool227;
+
+    @CmdArgument(key = "int228", desc = "An int field.")
+    private int int228;
+
+    @CmdArgument(key = "string229", desc = "A string field.")
+    private String string229;
+
+    @CmdArgument(key = "bool230", desc = "A boolean field.")
+    private boolean bool230;
+
+    @CmdArgument(key = "int231", desc = "An int field.")
+    private int int231;
+
+    @CmdArgument(key = "string232", desc = "A string field.")
+    private String string232;
+
+    @CmdArgument(key = "bool233", desc = "A boolean field.")
+    private boolean bool233;
+
+    @CmdArgument(key = "int234", desc = "An int field.")
+    private int int234;
+
+    @CmdArgument(key = "string235", desc = "A string field.")
+    private String string235;
+
+    @CmdArgument(key = "bool236", desc = "A boolean field.")
+    private boolean bool236;
+
+    @CmdArgument(key = "int237", desc = "An int field.")
+    private int int237;
+
+    @CmdArgument(key = "string238", desc = "A string field.")
+    private String string238;
+
+    @CmdArgument(key = "bool239", desc = "A boolean field.")
+    private boolean bool239;
+
+    @CmdArgument(key = "int240", desc = "An int field.")
+    private int int240;
+
+    @CmdArgument(key = "string241", desc = "A string field.")
+    private String string241;
+
+    @CmdArgument(key = "bool242", desc = "A boolean field.")
+    private boolean bool242;
+
+    @CmdArgument(key = "int243", desc = "An int field.")
+    private int int243;
+
+    @CmdArgument(key = "string244", desc = "A string field.")
+    private String string244;
+
+    @CmdArgument(key = "bool245", desc = "A boolean field.")
+    private boolean bool245;
+
+    @CmdArgument(key = "int246", desc = "An int field.")
+    private int int246;
+
+    @CmdArgument(key = "string247", desc = "A string field.")
+    private String string247;
+
+    @CmdArgument(key = "bool248", desc = "A boolean field.")
+    private boolean bool248;
+
+    @CmdArgument(key = "int249", desc = "An int field.")
+    private int int249;
+
+    @CmdArgument(key = "string250", desc = "A string field.")
+    private String string250;
+
+    @CmdArgument(key = "bool251", desc = "A boolean field.")
+    private boolean bool251;
+
+    @CmdArgument(key = "int252", desc = "An int field.")
+    private int int252;
+
+    @CmdArgument(key = "string253", desc = "A string field.")
+    private String string253;
+
+    @CmdArgument(key = "bool254", desc = "A boolean field.")
+    private boolean bool254;
+
+    @CmdArgument(key = "int255", desc = "An int field.")
+    private int int255;
+
+    @CmdArgument(key = "string256", desc = "A string field.")
+    private String string256;
+
+    @CmdArgument(key = "bool257", desc = "A boolean field.")
+    private boolean bool257;
+
+    @CmdArgument(key = "int258", desc = "An int field.")
+    private int int258;
+
+    @CmdArgument(key = "string259", desc = "A string field.")
+    private String string259;
+
+    @CmdArgument(key = "bool260", desc = "A boolean field.")
+    private boolean bool260;
+
+    @CmdArgument(key = "int261", desc = "An int field.")
+    private int int261;
+
+    @CmdArgument(key = "string262", desc = "A string field.")
+    private String string262;
+
+    @CmdArgument(key = "bool263", desc = "A boolean field.")
+    private boolean bool263;
+
+    @CmdArgument(key = "int264", desc = "An int field.")
+    private int int264;
+
+    @CmdArgument(key = "string265", desc = "A string field.")
+    private String string265;
+
+    @CmdArgument(key = "bool266", desc = "A boolean field.")
+    private boolean bool266;
+
+    @CmdArgument(key = "int267", desc = "An int field.")
+    private int int267;
+
+    @CmdArgument(key = "string268", desc = "A string field.")
+    private String string268;
+
+    @CmdArgument(key = "bool269", desc = "A boolean field.")
+    private boolean bool269;
+
+    @CmdArgument(key = "int270", desc = "An int field.")
+    private int int270;
+
+    @CmdArgument(key = "string271", desc = "A string field.")
+    private String string271;
+
+    @CmdArgument(key = "bool272", desc = "A boolean field.")
+    private boolean bool272;
+
+    @CmdArgument(key = "int273", desc = "An int field.")
+    private int int273;
+
+    @CmdArgument(key = "string274", desc = "A string field.")
+    private String string274;
+
+    @CmdArgument(key = "bool275", desc = "A boolean field.")
+    private boolean bool275;
+
+    @CmdArgument(key = "int276", desc = "An int field.")
+    private int int276;
+
+    @CmdArgument(key = "string277", desc = "A string field.")
+    private String string277;
+
+    @CmdArgument(key = "bool278", desc = "A boolean field.")
+    private boolean bool278;
+
+    @CmdArgument(key = "int279", desc = "An int field.")
+    private int int279;
+
+    @CmdArgument(key = "string280", desc = "A string field.")
+    private String string280;
+
+    @CmdArgument(key = "bool281", desc = "A boolean field.")
+    private boolean bool281;
+
+    @CmdArgument(key = "int282", desc = "An int field.")
+    private int int282;
+
+    @CmdArgument(key = "string283", desc = "A string field.")
+    private String string283;
+
+    @CmdArgument(key = "bool284", desc = "A boolean field.")
+    private boolean bool284;
+
+    @CmdArgument(key = "int285", desc = "An int field.")
+    private int int285;
+
+    @CmdArgument(key = "string286", desc = "A string field.")
+    private String string286;
+
+    @CmdArgument(key = "bool287", desc = "A boolean field.")
+    private boolean bool287;
+
+    @CmdArgument(key = "int288", desc = "An int field.")
+    private int int288;
+
+    @CmdArgument(key = "string289", desc = "A string field.")
+    private String string289;
+
+    @CmdArgument(key = "bool290", desc = "A boolean field.")
+    private boolean bool290;
+
+    @CmdArgument(key = "int291", desc = "An int field.")
+    private int int291;
+
+    @CmdArgument(key = "string292", desc = "A string field.")
+    private String string292;
+
+    @CmdArgument(key = "bool293", desc = "A boolean field.")
+    private boolean bool293;
+
+    @CmdArgument(key = "int294", desc = "An int field.")
+    private int int294;
+
+    @CmdArgument(key = "string295", desc = "A string field.")
+    private String string295;
+
+    @CmdArgument(key = "bool296", desc = "A boolean field.")
+    private boolean bool296;
+
+    @CmdArgument(key = "int297", desc = "An int field.")
+    private int int297;
+
+    @CmdArgument(key = "string298", desc = "A string field.")
+    private String string298;
+
+    @CmdArgument(key = "bool299", desc = "A boolean field.")
+    private boolean bool299;
+
+    @CmdArgument(key = "int300", desc = "An int field.")
+    private int int300;
+
+    @CmdArgument(key = "string301", desc = "A string field.")
+    private String string301;
+
+    @CmdArgument(key = "bool302", desc = "A boolean field.")
+    private boolean bool302;
+
+    @CmdArgument(key = "int303", desc = "An int field.")
+    private int int303;
+
+    @CmdArgument(key = "string304", desc = "A string field.")
+    private String string304;
+
+    @CmdArgument(key = "bool305", desc = "A boolean field.")
+    private boolean bool305;
+
+    @CmdArgument(key = "int306", desc = "An int field.")
+    private int int306;
+
+    @CmdArgument(key = "string307", desc = "A string field.")
+    private String string307;
+
+    @CmdArgument(key = "bool308", desc = "A boolean field.")
+    private boolean bool308;
+
+    @CmdArgument(key = "int309", desc = "An int field.")
+    private int int309;
+
+    @CmdArgument(key = "string310", desc = "A string field.")
+    private String string310;
+
+    @CmdArgument(key = "bool311", desc = "A boolean field.")
+    private boolean bool311;
+
+    @CmdArgument(key = "int312", desc = "An int field.")
+    private int int312;
+
+    @CmdArgument(key = "string313", desc = "A string field.")
+    private String string313;
+
+    @CmdArgument(key = "bool314", desc = "A boolean field.")
+    private boolean bool314;
+
+    @CmdArgument(key = "int315", desc = "An int field.")
+    private int int315;
+
+    @CmdArgument(key = "string316", desc = "A string field.")
+    private String string316;
+
+    @CmdArgument(key = "bool317", desc = "A boolean field.")
+    private boolean bool317;
+
+    @CmdArgument(key = "int318", desc = "An int field.")
+    private int int318;
+
+    @CmdArgument(key = "string319", desc = "A string field.")
+    private String string319;
+
+    @CmdArgument(key = "bool320", desc = "A boolean field.")
+    private boolean bool320;
+
+    @CmdArgument(key = "int321", desc = "An int field.")
+    private int int321;
+
+    @CmdArgument(key = "string322", desc = "A string field.")
+    private String string322;
+
+    @CmdArgument(key = "bool323", desc = "A boolean field.")
+    private boolean bool323;
+
+    @CmdArgument(key = "int324", desc = "An int field.")
+    private int int324;
+
+    @CmdArgument(key = "string325", desc = "A string field.")
+    private String string325;
+
+    @CmdArgument(key = "bool326", desc = "A boolean field.")
+    private boolean bool326;
+
+    @CmdArgument(key = "int327", desc = "An int field.")
+    private int int327;
+
+    @CmdArgument(key = "string328", desc = "A string field.")
+    private String string328;
+
+    @CmdArgument(key = "bool329", desc = "A boolean field.")
+    private boolean bool329;
+
+    @CmdArgument(key = "int330", desc = "An int field.")
+    private int int330;
+
+    @CmdArgument(key = "string331", desc = "A string field.")
+    private String string331;
+
+    @CmdArgument(key = "bool332", desc = "A boolean field.")
+    private boolean bool332;
+
+    @CmdArgument(key = "int333", desc = "An int field.")
+    private int int333;
+
+    @CmdArgument(key = "string334", desc = "A string field.")
+    private String string334;
+
+    @CmdArgument(key = "bool335", desc = "A boolean field.")
+    private boolean bool335;
+
+    @CmdArgument(key = "int336", desc = "An int field.")
+    private int int336;
+
+    @CmdArgument(key = "string337", desc = "A string field.")
+    private String string337;
+
+    @CmdArgument(key = "bool338", desc = "A boolean field.")
+    private boolean bool338;
+
+    @CmdArgument(key = "int339", desc = "An int field.")
+    private int int339;
+
+    @CmdArgument(key = "string340", desc = "A string field.")
+    private String string340;
+
+    @CmdArgument(key = "bool341", desc = "A boolean field.")
+    private boolean bool341;
+
+    @CmdArgument(key = "int342", desc = "An int field.")
+    private int int342;
+
+    @CmdArgument(key = "string343", desc = "A string field.")
+    private String string343;
+
+    @CmdArgument(key = "bool344", desc = "A boolean field.")
+    private boolean bool344;
+
+    @CmdArgument(key = "int345", desc = "An int field.")
+    private int int345;
+
+    @CmdArgument(key = "string346", desc = "A string field.")
+    private String string346;
+
+    @CmdArgument(key = "bool347", desc = "A boolean field.")
+    private boolean bool347;
+
+    @CmdArgument(key = "int348", desc = "An int field.")
+    private int int348;
+
+    @CmdArgument(key = "string349", desc = "A string field.")
+    private String string349;
+
+    @CmdArgument(key = "bool350", desc = "A boolean field.")
+    private boolean bool350;
+
+    @CmdArgument(key = "int351", desc = "An int field.")
+    private int int351;
+
+    @CmdArgument(key = "string352", desc = "A string field.")
+    private String string352;
+
+    @CmdArgument(key = "bool353", desc = "A boolean field.")
+    private boolean bool353;
+
+    @CmdArgument(key = "int354", desc = "An int field.")
+    private int int354;
+
+    @CmdArgument(key = "string355", desc = "A string field.")
+    private String string355;
+
+    @CmdArgument(key = "bool356", desc = "A boolean field.")
+    private boolean bool356;
+
+    @CmdArgument(key = "int357", desc = "An int field.")
+    private int int357;
+
+    @CmdArgument(key = "string358", desc = "A string field.")
+    private String string358;
+
+    @CmdArgument(key = "bool359", desc = "A boolean field.")
+    private boolean bool359;
+
+    @CmdArgument(key = "int360", desc = "An int field.")
+    private int int360;
+
+    @CmdArgument(key = "string361", desc = "A string field.")
+    private String string361;
+
+    @CmdArgument(key = "bool362", desc = "A boolean field.")
+    private boolean bool362;
+
+    @CmdArgument(key = "int363", desc = "An int field.")
+    private int int363;
+
+    @CmdArgument(key = "string364", desc = "A string field.")
+    private String string364;
+
+    @CmdArgument(key = "bool365", desc = "A boolean field.")
+    private boolean bool365;
+
+    @CmdArgument(key = "int366", desc = "An int field.")
+    private int int366;
+
+    @CmdArgument(key = "string367", desc = "A string field.")
+    private String string367;
+
+    @CmdArgument(key = "bool368", desc = "A boolean field.")
+    private boolean bool368;
+
+    @CmdArgument(key = "int369", desc = "An int field.")
+    private int int369;
+
+    @CmdArgument(key = "string370", desc = "A string field.")
+    private String string370;
+
+    @CmdArgument(key = "bool371", desc = "A boolean field.")
+    private boolean bool371;
+
+    @CmdArgument(key = "int372", desc = "An int field.")
+    private int int372;
+
+    @CmdArgument(key = "string373", desc = "A string field.")
+    private String string373;
+
+    @CmdArgument(key = "bool374", desc = "A boolean field.")
+    private boolean bool374;
+
+    @CmdArgument(key = "int375", desc = "An int field.")
+    private int int375;
+
+    @CmdArgument(key = "string376", desc = "A string field.")
+    private String string376;
+
+    @CmdArgument(key = "bool377", desc = "A boolean field.")
+    private boolean bool377;
+
+    @CmdArgument(key = "int378", desc = "An int field.")
+    private int int378;
+
+    @CmdArgument(key = "string379", desc = "A string field.")
+    private String string379;
+
+    @CmdArgument(key = "bool380", desc = "A boolean field.")
+    private boolean bool380;
+
+    @CmdArgument(key = "int381", desc = "An int field.")
+    private int int381;
+
+    @CmdArgument(key = "string382", desc = "A string field.")
+    private String string382;
+
+    @CmdArgument(key = "bool383", desc = "A boolean field.")
+    private boolean bool383;
+
+    @CmdArgument(key = "int384", desc = "An int field.")
+    private int int384;
+
+    @CmdArgument(key = "string385", desc = "A string field.")
+    private String string385;
+
+    @CmdArgument(key = "bool386", desc = "A boolean field.")
+    private boolean bool386;
+
+    @CmdArgument(key = "int387", desc = "An int field.")
+    private int int387;
+
+    @CmdArgument(key = "string388", desc = "A string field.")
+    private String string388;
+
+    @CmdArgument(key = "bool389", desc = "A boolean field.")
+    private boolean bool389;
+
+    @CmdArgument(key = "int390", desc = "An int field.")
+    private int int390;
+
+    @CmdArgument(key = "string391", desc = "A string field.")
+    private String string391;
+
+    @CmdArgument(key = "bool392", desc = "A boolean field.")
+    private boolean bool392;
+
+    @CmdArgument(key = "int393", desc = "An int field.")
+    private int int393;
+
+    @CmdArgument(key = "string394", desc = "A string field.")
+    private String string394;
+
+    @CmdArgument(key = "bool395", desc = "A boolean field.")
+    private boolean bool395;
+
+    @CmdArgument(key = "int396", desc = "An int field.")
+    private int int396;
+
+    @CmdArgument(key = "string397", desc = "A string field.")
+    private String string397;
+
+    @CmdArgument(key = "bool398", desc = "A boolean field.")
+    private boolean bool398;
+
+    @CmdArgument(key = "int399", desc = "An int field.")
+    private int int399;
+
+    @CmdArgument(key = "string400", desc = "A string field.")
+    private String string400;
+
+    @CmdArgument(key = "bool401", desc = "A boolean field.")
+    private boolean bool401;
+
+    @CmdArgument(key = "int402", desc = "An int field.")
+    private int int402;
+
+    @CmdArgument(key = "string403", desc = "A string field.")
+    private String string403;
+
+    @CmdArgument(key = "bool404", desc = "A boolean field.")
+    private boolean bool404;
+
+    @CmdArgument(key = "int405", desc = "An int field.")
+    private int int405;
+
+    @CmdArgument(key = "string406", desc = "A string field.")
+    private String string406;
+
+    @CmdArgument(key = "bool407", desc = "A boolean field.")
+    private boolean bool407;
+
+    @CmdArgument(key = "int408", desc = "An int field.")
+    private int int408;
+
+    @CmdArgument(key = "string409", desc = "A string field.")
+    private String string409;
+
+    @CmdArgument(key = "bool410", desc = "A boolean field.")
+    private boolean bool410;
+
+    @CmdArgument(key = "int411", desc = "An int field.")
+    private int int411;
+
+    @CmdArgument(key = "string412", desc = "A string field.")
+    private String string412;
+
+    @CmdArgument(key = "bool413", desc = "A boolean field.")
+    private boolean bool413;
+
+    @CmdArgument(key = "int414", desc = "An int field.")
+    private int int414;
+
+    @CmdArgument(key = "string415", desc = "A string field.")
+    private String string415;
+
+    @CmdArgument(key = "bool416", desc = "A boolean field.")
+    private boolean bool416;
+
+    @CmdArgument(key = "int417", desc = "An int field.")
+    private int int417;
+
+    @CmdArgument(key = "string418", desc = "A string field.")
+    private String string418;
+
+    @CmdArgument(key = "bool419", desc = "A boolean field.")
+    private boolean bool419;
+
+    @CmdArgument(key = "int420", desc = "An int field.")
+    private int int420;
+
+    @CmdArgument(key = "string421", desc = "A string field.")
+    private String string421;
+
+    @CmdArgument(key = "bool422", desc = "A boolean field.")
+    private boolean bool422;
+
+    @CmdArgument(key = "int423", desc = "An int field.")
+    private int int423;
+
+    @CmdArgument(key = "string424", desc = "A string field.")
+    private String string424;
+
+    @CmdArgument(key = "bool425", desc = "A boolean field.")
+    private boolean bool425;
+
+    @CmdArgument(key = "int426", desc = "An int field.")
+    private int int426;
+
+    @CmdArgument(key = "string427", desc = "A string field.")
+    private String string427;
+
+    @CmdArgument(key = "bool428", desc = "A boolean field.")
+    private boolean bool428;
+
+    @CmdArgument(key = "int429", desc = "An int field.")
+    private int int429;
+
+    @CmdArgument(key = "string430", desc = "A string field.")
+    private String string430;
+
+    @CmdArgument(key = "bool431", desc = "A boolean field.")
+    private boolean bool431;
+
+    @CmdArgument(key = "int432", desc = "An int field.")
+    private int int432;
+
+    @CmdArgument(key = "string433", desc = "A string field.")
+    private String string433;
+
+    @CmdArgument(key = "bool434", desc = "A boolean field.")
+    private boolean bool434;
+
+    @CmdArgument(key = "int435", desc = "An int field.")
+    private int int435;
+
+    @CmdArgument(key = "string436", desc = "A string field.")
+    private String string436;
+
+    @CmdArgument(key = "bool437", desc = "A boolean field.")
+    private boolean bool437;
+
+    @CmdArgument(key = "int438", desc = "An int field.")
+    private int int438;
+
+    @CmdArgument(key = "string439", desc = "A string field.")
+    private String string439;
+
+    @CmdArgument(key = "bool440", desc = "A boolean field.")
+    private boolean bool440;
+
+    @CmdArgument(key = "int441", desc = "An int field.")
+    private int int441;
+
+    @CmdArgument(key = "string442", desc = "A string field.")
+    private String string442;
+
+    @CmdArgument(key = "bool443", desc = "A boolean field.")
+    private boolean bool443;
+
+    @CmdArgument(key = "int444", desc = "An int field.")
+    private int int444;
+
+    @CmdArgument(key = "string445", desc = "A string field.")
+    private String string445;
+
+    @CmdArgument(key = "bool446", desc = "A boolean field.")
+    private boolean bool446;
+
+    @CmdArgument(key = "int447", desc = "An int field.")
+    private int int447;
+
+    @CmdArgument(key = "string448", desc = "A string field.")
+    private String string448;
+
+    @CmdArgument(key = "bool449", desc = "A boolean field.")
+    private boolean bool449;
+
+    @CmdArgument(key = "int450", desc = "An int field.")
+    private int int450;
+
+    @CmdArgument(key = "string451", desc = "A string field.")
+    private String string451;
+
+    @CmdArgument(key = "bool452", desc = "A boolean field.")
+    private boolean bool452;
+
+    @CmdArgument(key = "int453", desc = "An int field.")
+    private int int453;
+
+    @CmdArgument(key = "string454", desc = "A string field.")
+    private String string454;
+
+    @CmdArgument(key = "bool455", desc = "A boolean field.")
+    private boolean bool455;
+
+    @CmdArgument(key = "int456", desc = "An int field.")
+    private int int456;
+
+    @CmdArgument(key = "string457", desc = "A string field.")
+    private String string457;
+
+    @CmdArgument(key = "bool458", desc = "A boolean field.")
+    private boolean bool458;
+
+    @CmdArgument(key = "int459", desc = "An int field.")
+    private int int459;
+
+    @CmdArgument(key = "string460", desc = "A string field.")
+    private String string460;
+
+    @CmdArgument(key = "bool461", desc = "A boolean field.")
+    private boolean bool461;
+
+    @CmdArgument(key = "int462", desc = "An int field.")
+    private int int462;
+
+    @CmdArgument(key = "string463", desc = "A string field.")
+    private String string463;
+
+    @CmdArgument(key = "bool464", desc = "A boolean field.")
+    private boolean bool464;
+
+    @CmdArgument(key = "int465", desc = "An int field.")
+    private int int465;
+
+    @CmdArgument(key = "string466", desc = "A string field.")
+    private String string466;
+
+    @CmdArgument(key = "bool467", desc = "A boolean field.")
+    private boolean bool467;
+
+    @CmdArgument(key = "int468", desc = "An int field.")
+    private int int468;
+
+    @CmdArgument(key = "string469", desc = "A string field.")
+    private String string469;
+
+    @CmdArgument(key = "bool470", desc = "A boolean field.")
+    private boolean bool470;
+
+    @CmdArgument(key = "int471", desc = "An int field.")
+    private int int471;
+
+    @CmdArgument(key = "string472", desc = "A string field.")
+    private String string472;
+
+    @CmdArgument(key = "bool473", desc = "A boolean field.")
+    private boolean bool473;
+
+    @CmdArgument(key = "int474", desc = "An int field.")
+    private int int474;
+
+    @CmdArgument(key = "string475", desc = "A string field.")
+    private String string475;
+
+    @CmdArgument(key = "bool476", desc = "A boolean field.")
+    private boolean bool476;
+
+    @CmdArgument(key = "int477", desc = "An int field.")
+    private int int477;
+
+    @CmdArgument(key = "string478", desc = "A string field.")
+    private String string478;
+
+    @CmdArgument(key = "bool479", desc = "A boolean field.")
+    private boolean bool479;
+
+    @CmdArgument(key = "int480", desc = "An int field.")
+    private int int480;
+
+    @CmdArgument(key = "string481", desc = "A string field.")
+    private String string481;
+
+    @CmdArgument(key = "bool482", desc = "A boolean field.")
+    private boolean bool482;
+
+    @CmdArgument(key = "int483", desc = "An int field.")
+    private int int483;
+
+    @CmdArgument(key = "string484", desc = "A string field.")
+    private String string484;
+
+    @CmdArgument(key = "bool485", desc = "A boolean field.")
+    private boolean bool485;
+
+    @CmdArgument(key = "int486", desc = "An int field.")
+    private int int486;
+
+    @CmdArgument(key = "string487", desc = "A string field.")
+    private String string487;
+
+    @CmdArgument(key = "bool488", desc = "A boolean field.")
+    private boolean bool488;
+
+    @CmdArgument(key = "int489", desc = "An int field.")
+    private int int489;
+
+    @CmdArgument(key = "string490", desc = "A string field.")
+    private String string490;
+
+    @CmdArgument(key = "bool491", desc = "A boolean field.")
+    private boolean bool491;
+
+    @CmdArgument(key = "int492", desc = "An int field.")
+    private int int492;
+
+    @CmdArgument(key = "string493", desc = "A string field.")
+    private String string493;
+
+    @CmdArgument(key = "bool494", desc = "A boolean field.")
+    private boolean bool494;
+
+    @CmdArgument(key = "int495", desc = "An int field.")
+    private int int495;
+
+    @CmdArgument(key = "string496", desc = "A string field.")
+    private String string496;
+
+    @CmdArgument(key = "bool497", desc = "A boolean field.")
+    private boolean bool497;
+
+    @CmdArgument(key = "int498", desc = "An int field.")
+    private int int498;
+
+    @CmdArgument(key = "string499", desc = "A string field.")
+    private String string499;
+
+    @CmdArgument(key = "bool500", desc = "A boolean field.")
+    private boolean bool500;
+
+    @CmdArgument(key = "int501", desc = "An int field.")
+    private int int501;
+
+    @CmdArgument(key = "string502", desc = "A string field.")
+    private String string502;
+
+    @CmdArgument(key = "bool503", desc = "A boolean field.")
+    private boolean bool503;
+
+    @CmdArgument(key = "int504", desc = "An int field.")
+    private int int504;
+
+    @CmdArgument(key = "string505", desc = "A string field.")
+    private String string505;
+
+    @CmdArgument(key = "bool506", desc = "A boolean field.")
+    private boolean bool506;
+
+    @CmdArgument(key = "int507", desc = "An int field.")
+    private int int507;
+
+    @CmdArgument(key = "string508", desc = "A string field.")
+    private String string508;
+
+    @CmdArgument(key = "bool509", desc = "A boolean field.")
+    private boolean bool509;
+
+    @CmdArgument(key = "int510", desc = "An int field.")
+    private int int510;
+
+    @CmdArgument(key = "string511", desc = "A string field.")
+    private String string511;
+
+    @CmdArgument(key = "bool512", desc = "A boolean field.")
+    private boolean bool512;
+
+    @CmdArgument(key = "int513", desc = "An int field.")
+    private int int513;
+
+    @CmdArgument(key = "string514", desc = "A string field.")
+    private String string514;
+
+    @CmdArgument(key = "bool515", desc = "A boolean field.")
+    private boolean bool515;
+
+    @CmdArgument(key = "int516", desc = "An int field.")
+    private int int516;
+
+    @CmdArgument(key = "string517", desc = "A string field.")
+    private String string517;
+
+    @CmdArgument(key = "bool518", desc = "A boolean field.")
+    private boolean bool518;
+
+    @CmdArgument(key = "int519", desc = "An int field.")
+    private int int519;
+
+    @CmdArgument(key = "string520", desc = "A string field.")
+    private String string520;
+
+    @CmdArgument(key = "bool521", desc = "A boolean field.")
+    private boolean bool521;
+
+    @CmdArgument(key = "int522", desc = "An int field.")
+    private int int522;
+
+    @CmdArgument(key = "string523", desc = "A string field.")
+    private String string523;
+
+    @CmdArgument(key = "bool524", desc = "A boolean field.")
+    private boolean bool524;
+
+    @CmdArgument(key = "int525", desc = "An int field.")
+    private int int525;
+
+    @CmdArgument(key = "string526", desc = "A string field.")
+    private String string526;
+
+    @CmdArgument(key = "bool527", desc = "A boolean field.")
+    private boolean bool527;
+
+    @CmdArgument(key = "int528", desc = "An int field.")
+    private int int528;
+
+    @CmdArgument(key = "string529", desc = "A string field.")
+    private String string529;
+
+    @CmdArgument(key = "bool530", desc = "A boolean field.")
+    private boolean bool530;
+
+    @CmdArgument(key = "int531", desc = "An int field.")
+    private int int531;
+
+    @CmdArgument(key = "string532", desc = "A string field.")
+    private String string532;
+
+    @CmdArgument(key = "bool533", desc = "A boolean field.")
+    private boolean bool533;
+
+    @CmdArgument(key = "int534", desc = "An int field.")
+    private int int534;
+
+    @CmdArgument(key = "string535", desc = "A string field.")
+    private String string535;
+
+    @CmdArgument(key = "bool536", desc = "A boolean field.")
+    private boolean bool536;
+
+    @CmdArgument(key = "int537", desc = "An int field.")
+    private int int537;
+
+    @CmdArgument(key = "string538", desc = "A string field.")
+    private String string538;
+
+    @CmdArgument(key = "bool539", desc = "A boolean field.")
+    private boolean bool539;
+
+    @CmdArgument(key = "int540", desc = "An int field.")
+    private int int540;
+
+    @CmdArgument(key = "string541", desc = "A string field.")
+    private String string541;
+
+    @CmdArgument(key = "bool542", desc = "A boolean field.")
+    private boolean bool542;
+
+    @CmdArgument(key = "int543", desc = "An int field.")
+    private int int543;
+
+    @CmdArgument(key = "string544", desc = "A string field.")
+    private String string544;
+
+    @CmdArgument(key = "bool545", desc = "A boolean field.")
+    private boolean bool545;
+
+    @CmdArgument(key = "int546", desc = "An int field.")
+    private int int546;
+
+    @CmdArgument(key = "string547", desc = "A string field.")
+    private String string547;
+
+    @CmdArgument(key = "bool548", desc = "A boolean field.")
+    private boolean bool548;
+
+    @CmdArgument(key = "int549", desc = "An int field.")
+    private int int549;
+
+    @CmdArgument(key = "string550", desc = "A string field.")
+    private String string550;
+
+    @CmdArgument(key = "bool551", desc = "A boolean field.")
+    private boolean bool551;
+
+    @CmdArgument(key = "int552", desc = "An int field.")
+    private int int552;
+
+    @CmdArgument(key = "string553", desc = "A string field.")
+    private String string553;
+
+    @CmdArgument(key = "bool554", desc = "A boolean field.")
+    private boolean bool554;
+
+    @CmdArgument(key = "int555", desc = "An int field.")
+    private int int555;
+
+    @CmdArgument(key = "string556", desc = "A string field.")
+    private String string556;
+
+    @CmdArgument(key = "bool557", desc = "A boolean field.")
+    private boolean bool557;
+
+    @CmdArgument(key = "int558", desc = "An int field.")
+    private int int558;
+
+    @CmdArgument(key = "string559", desc = "A string field.")
+    private String string559;
+
+    @CmdArgument(key = "bool560", desc = "A boolean field.")
+    private boolean bool560;
+
+    @CmdArgument(key = "int561", desc = "An int field.")
+    private int int561;
+
+    @CmdArgument(key = "string562", desc = "A string field.")
+    private String string562;
+
+    @CmdArgument(key = "bool563", desc = "A boolean field.")
+    private boolean bool563;
+
+    @CmdArgument(key = "int564", desc = "An int field.")
+    private int int564;
+
+    @CmdArgument(key = "string565", desc = "A string field.")
+    private String string565;
+
+    @CmdArgument(key = "bool566", desc = "A boolean field.")
+    private boolean bool566;
+
+    @CmdArgument(key = "int567", desc = "An int field.")
+    private int int567;
+
+    @CmdArgument(key = "string568", desc = "A string field.")
+    private String string568;
+
+    @CmdArgument(key = "bool569", desc = "A boolean field.")
+    private boolean bool569;
+
+    @CmdArgument(key = "int570", desc = "An int field.")
+    private int int570;
+
+    @CmdArgument(key = "string571", desc = "A string field.")
+    private String string571;
+
+    @CmdArgument(key = "bool572", desc = "A boolean field.")
+    private boolean bool572;
+
+    @CmdArgument(key = "int573", desc = "An int field.")
+    private int int573;
+
+    @CmdArgument(key = "string574", desc = "A string field.")
+    private String string574;
+
+    @CmdArgument(key = "bool575", desc = "A boolean field.")
+    private boolean bool575;
+
+    @CmdArgument(key = "int576", desc = "An int field.")
+    private int int576;
+
+    @CmdArgument(key = "string577", desc = "A string field.")
+    private String string577;
+
+    @CmdArgument(key = "bool578", desc = "A boolean field.")
+    private boolean bool578;
+
+    @CmdArgument(key = "int579", desc = "An int field.")
+    private int int579;
+
+    @CmdArgument(key = "string580", desc = "A string field.")
+    private String string580;
+
+    @CmdArgument(key = "bool581", desc = "A boolean field.")
+    private boolean bool581;
+
+    @CmdArgument(key = "int582", desc = "An int field.")
+    private int int582;
+
+    @CmdArgument(key = "string583", desc = "A string field.")
+    private String string583;
+
+    @CmdArgument(key = "bool584", desc = "A boolean field.")
+    private boolean bool584;
+
+    @CmdArgument(key = "int585", desc = "An int field.")
+    private int int585;
+
+    @CmdArgument(key = "string586", desc = "A string field.")
+    private String string586;
+
+    @CmdArgument(key = "bool587", desc = "A boolean field.")
+    private boolean bool587;
+
+    @CmdArgument(key = "int588", desc = "An int field.")
+    private int int588;
+
+    @CmdArgument(key = "string589", desc = "A string field.")
+    private String string589;
+
+    @CmdArgument(key = "bool590", desc = "A boolean field.")
+    private boolean bool590;
+
+    @CmdArgument(key = "int591", desc = "An int field.")
+    private int int591;
+
+    @CmdArgument(key = "string592", desc = "A string field.")
+    private String string592;
+
+    @CmdArgument(key = "bool593", desc = "A boolean field.")
+    private boolean bool593;
+
+    @CmdArgument(key = "int594", desc = "An int field.")
+    private int int594;
+
+    @CmdArgument(key = "string595", desc = "A string field.")
+    private String string595;
+
+    @CmdArgument(key = "bool596", desc = "A boolean field.")
+    private boolean bool596;
+
+    @CmdArgument(key = "int597", desc = "An int field.")
+    private int int597;
+
+    @CmdArgument(key = "string598", desc = "A string field.")
+    private String string598;
+
+    @CmdArgument(key = "bool599", desc = "A boolean field.")
+    private boolean bool599;
+
+    @CmdArgument(key = "int600", desc = "An int field.")
+    private int int600;
+
+    @CmdArgument(key = "string601", desc = "A string field.")
+    private String string601;
+
+    @CmdArgument(key = "bool602", desc = "A boolean field.")
+    private boolean bool602;
+
+    @CmdArgument(key = "int603", desc = "An int field.")
+    private int int603;
+
+    @CmdArgument(key = "string604", desc = "A string field.")
+    private String string604;
+
+    @CmdArgument(key = "bool605", desc = "A boolean field.")
+    private boolean bool605;
+
+    @CmdArgument(key = "int606", desc = "An int field.")
+    private int int606;
+
+    @CmdArgument(key = "string607", desc = "A string field.")
+    private String string607;
+
+    @CmdArgument(key = "bool608", desc = "A boolean field.")
+    private boolean bool608;
+
+    @CmdArgument(key = "int609", desc = "An int field.")
+    private int int609;
+
+    @CmdArgument(key = "string610", desc = "A string field.")
+    private String string610;
+
+    @CmdArgument(key = "bool611", desc = "A boolean field.")
+    private boolean bool611;
+
+    @CmdArgument(key = "int612", desc = "An int field.")
+    private int int612;
+
+    @CmdArgument(key = "string613", desc = "A string field.")
+    private String string613;
+
+    @CmdArgument(key = "bool614", desc = "A boolean field.")
+    private boolean bool614;
+
+    @CmdArgument(key = "int615", desc = "An int field.")
+    private int int615;
+
+    @CmdArgument(key = "string616", desc = "A string field.")
+    private String string616;
+
+    @CmdArgument(key = "bool617", desc = "A boolean field.")
+    private boolean bool617;
+
+    @CmdArgument(key = "int618", desc = "An int field.")
+    private int int618;
+
+    @CmdArgument(key = "string619", desc = "A string field.")
+    private String string619;
+
+    @CmdArgument(key = "bool620", desc = "A boolean field.")
+    private boolean bool620;
+
+    @CmdArgument(key = "int621", desc = "An int field.")
+    private int int621;
+
+    @CmdArgument(key = "string622", desc = "A string field.")
+    private String string622;
+
+    @CmdArgument(key = "bool623", desc = "A boolean field.")
+    private boolean bool623;
+
+    @CmdArgument(key = "int624", desc = "An int field.")
+    private int int624;
+
+    @CmdArgument(key = "string625", desc = "A string field.")
+    private String string625;
+
+    @CmdArgument(key = "bool626", desc = "A boolean field.")
+    private boolean bool626;
+
+    @CmdArgument(key = "int627", desc = "An int field.")
+    private int int627;
+
+    @CmdArgument(key = "string628", desc = "A string field.")
+    private String string628;
+
+    @CmdArgument(key = "bool629", desc = "A boolean field.")
+    private boolean bool629;
+
+    @CmdArgument(key = "int630", desc = "An int field.")
+    private int int630;
+
+    @CmdArgument(key = "string631", desc = "A string field.")
+    private String string631;
+
+    @CmdArgument(key = "bool632", desc = "A boolean field.")
+    private boolean bool632;
+
+    @CmdArgument(key = "int633", desc = "An int field.")
+    private int int633;
+
+    @CmdArgument(key = "string634", desc = "A string field.")
+    private String string634;
+
+    @CmdArgument(key = "bool635", desc = "A boolean field.")
+    private boolean bool635;
+
+    @CmdArgument(key = "int636", desc = "An int field.")
+    private int int636;
+
+    @CmdArgument(key = "string637", desc = "A string field.")
+    private String string637;
+
+    @CmdArgument(key = "bool638", desc = "A boolean field.")
+    private boolean bool638;
+
+    @CmdArgument(key = "int639", desc = "An int field.")
+    private int int639;
+
+    @CmdArgument(key = "string640", desc = "A string field.")
+    private String string640;
+
+    @CmdArgument(key = "bool641", desc = "A boolean field.")
+    private boolean bool641;
+
+    @CmdArgument(key = "int642", desc = "An int field.")
+    private int int642;
+
+    @CmdArgument(key = "string643", desc = "A string field.")
+    private String string643;
+
+    @CmdArgument(key = "bool644", desc = "A boolean field.")
+    private boolean bool644;
+
+    @CmdArgument(key = "int645", desc = "An int field.")
+    private int int645;
+
+    @CmdArgument(key = "string646", desc = "A string field.")
+    private String string646;
+
+    @CmdArgument(key = "bool647", desc = "A boolean field.")
+    private boolean bool647;
+
+    @CmdArgument(key = "int648", desc = "An int field.")
+    private int int648;
+
+    @CmdArgument(key = "string649", desc = "A string field.")
+    private String string649;
+
+    @CmdArgument(key = "bool650", desc = "A boolean field.")
+    private boolean bool650;
+
+    @CmdArgument(key = "int651", desc = "An int field.")
+    private int int651;
+
+    @CmdArgument(key = "string652", desc = "A string field.")
+    private String string652;
+
+    @CmdArgument(key = "bool653", desc = "A boolean field.")
+    private boolean bool653;
+
+    @CmdArgument(key = "int654", desc = "An int field.")
+    private int int654;
+
+    @CmdArgument(key = "string655", desc = "A string field.")
+    private String string655;
+
+    @CmdArgument(key = "bool656", desc = "A boolean field.")
+    private boolean bool656;
+
+    @CmdArgument(key = "int657", desc = "An int field.")
+    private int int657;
+
+    @CmdArgument(key = "string658", desc = "A string field.")
+    private String string658;
+
+    @CmdArgument(key = "bool659", desc = "A boolean field.")
+    private boolean bool659;
+
+    @CmdArgument(key = "int660", desc = "An int field.")
+    private int int660;
+
+    @CmdArgument(key = "string661", desc = "A string field.")
+    private String string661;
+
+    @CmdArgument(key = "bool662", desc = "A boolean field.")
+    private boolean bool662;
+
+    @CmdArgument(key = "int663", desc = "An int field.")
+    private int int663;
+
+    @CmdArgument(key = "string664", desc = "A string field.")
+    private String string664;
+
+    @CmdArgument(key = "bool665", desc = "A boolean field.")
+    private boolean bool665;
+
+    @CmdArgument(key = "int666", desc = "An int field.")
+    private int int666;
+
+    @CmdArgument(key = "string667", desc = "A string field.")
+    private String string667;
+
+    @CmdArgument(key = "bool668", desc = "A boolean field.")
+    private boolean bool668;
+
+    @CmdArgument(key = "int669", desc = "An int field.")
+    private int int669;
+
+    @CmdArgument(key = "string670", desc = "A string field.")
+    private String string670;
+
+    @CmdArgument(key = "bool671", desc = "A boolean field.")
+    private boolean bool671;
+
+    @CmdArgument(key = "int672", desc = "An int field.")
+    private int int672;
+
+    @CmdArgument(key = "string673", desc = "A string field.")
+    private String string673;
+
+    @CmdArgument(key = "bool674", desc = "A boolean field.")
+    private boolean bool674;
+
+    @CmdArgument(key = "int675", desc = "An int field.")
+    private int int675;
+
+    @CmdArgument(key = "string676", desc = "A string field.")
+    private String string676;
+
+    @CmdArgument(key = "bool677", desc = "A boolean field.")
+    private boolean bool677;
+
+    @CmdArgument(key = "int678", desc = "An int field.")
+    private int int678;
+
+    @CmdArgument(key = "string679", desc = "A string field.")
+    private String string679;
+
+    @CmdArgument(key = "bool680", desc = "A boolean field.")
+    private boolean bool680;
+
+    @CmdArgument(key = "int681", desc = "An int field.")
+    private int int681;
+
+    @CmdArgument(key = "string682", desc = "A string field.")
+    private String string682;
+
+    @CmdArgument(key = "bool683", desc = "A boolean field.")
+    private boolean bool683;
+
+    @CmdArgument(key = "int684", desc = "An int field.")
+    private int int684;
+
+    @CmdArgument(key = "string685", desc = "A string field.")
+    private String string685;
+
+    @CmdArgument(key = "bool686", desc = "A boolean field.")
+    private boolean bool686;
+
+    @CmdArgument(key = "int687", desc = "An int field.")
+    private int int687;
+
+    @CmdArgument(key = "string688", desc = "A string field.")
+    private String string688;
+
+    @CmdArgument(key = "bool689", desc = "A boolean field.")
+    private boolean bool689;
+
+    @CmdArgument(key = "int690", desc = "An int field.")
+    private int int690;
+
+    @CmdArgument(key = "string691", desc = "A string field.")
+    private String string691;
+
+    @CmdArgument(key = "bool692", desc = "A boolean field.")
+    private boolean bool692;
+
+    @CmdArgument(key = "int693", desc = "An int field.")
+    private int int693;
+
+    @CmdArgument(key = "string694", desc = "A string field.")
+    private String string694;
+
+    @CmdArgument(key = "bool695", desc = "A boolean field.")
+    private boolean bool695;
+
+    @CmdArgument(key = "int696", desc = "An int field.")
+    private int int696;
+
+    @CmdArgument(key = "string697", desc = "A string field.")
+    private String string697;
+
+    @CmdArgument(key = "bool698", desc = "A boolean field.")
+    private boolean bool698;
+
+    @CmdArgument(key = "int699", desc = "An int field.")
+    private int int699;
+
+    @CmdArgument(key = "string700", desc = "A string field.")
+    private String string700;
+
+    @CmdArgument(key = "bool701", desc = "A boolean field.")
+    private boolean bool701;
+
+    @CmdArgument(key = "int702", desc = "An int field.")
+    private int int702;
+
+    @CmdArgument(key = "string703", desc = "A string field.")
+    private String string703;
+
+    @CmdArgument(key = "bool704", desc = "A boolean field.")
+    private boolean bool704;
+
+    @CmdArgument(key = "int705", desc = "An int field.")
+    private int int705;
+
+    @CmdArgument(key = "string706", desc = "A string field.")
+    private String string706;
+
+    @CmdArgument(key = "bool707", desc = "A boolean field.")
+    private boolean bool707;
+
+    @CmdArgument(key = "int708", desc = "An int field.")
+    private int int708;
+
+    @CmdArgument(key = "string709", desc = "A string field.")
+    private String string709;
+
+    @CmdArgument(key = "bool710", desc = "A boolean field.")
+    private boolean bool710;
+
+    @CmdArgument(key = "int711", desc = "An int field.")
+    private int int711;
+
+    @CmdArgument(key = "string712", desc = "A string field.")
+    private String string712;
+
+    @CmdArgument(key = "bool713", desc = "A boolean field.")
+    private boolean bool713;
+
+    @CmdArgument(key = "int714", desc = "An int field.")
+    private int int714;
+
+    @CmdArgument(key = "string715", desc = "A string field.")
+    private String string715;
+
+    @CmdArgument(key = "bool716", desc = "A boolean field.")
+    private boolean bool716;
+
+    @CmdArgument(key = "int717", desc = "An int field.")
+    private int int717;
+
+    @CmdArgument(key = "string718", desc = "A string field.")
+    private String string718;
+
+    @CmdArgument(key = "bool719", desc = "A boolean field.")
+    private boolean bool719;
+
+    @CmdArgument(key = "int720", desc = "An int field.")
+    private int int720;
+
+    @CmdArgument(key = "string721", desc = "A string field.")
+    private String string721;
+
+    @CmdArgument(key = "bool722", desc = "A boolean field.")
+    private boolean bool722;
+
+    @CmdArgument(key = "int723", desc = "An int field.")
+    private int int723;
+
+    @CmdArgument(key = "string724", desc = "A string field.")
+    private String string724;
+
+    @CmdArgument(key = "bool725", desc = "A boolean field.")
+    private boolean bool725;
+
+    @CmdArgument(key = "int726", desc = "An int field.")
+    private int int726;
+
+    @CmdArgument(key = "string727", desc = "A string field.")
+    private String string727;
+
+    @CmdArgument(key = "bool728", desc = "A boolean field.")
+    private boolean bool728;
+
+    @CmdArgument(key = "int729", desc = "An int field.")
+    private int int729;
+
+    @CmdArgument(key = "string730", desc = "A string field.")
+    private String string730;
+
+    @CmdArgument(key = "bool731", desc = "A boolean field.")
+    private boolean bool731;
+
+    @CmdArgument(key = "int732", desc = "An int field.")
+    private int int732;
+
+    @CmdArgument(key = "string733", desc = "A string field.")
+    private String string733;
+
+    @CmdArgument(key = "bool734", desc = "A boolean field.")
+    private boolean bool734;
+
+    @CmdArgument(key = "int735", desc = "An int field.")
+    private int int735;
+
+    @CmdArgument(key = "string736", desc = "A string field.")
+    private String string736;
+
+    @CmdArgument(key = "bool737", desc = "A boolean field.")
+    private boolean bool737;
+
+    @CmdArgument(key = "int738", desc = "An int field.")
+    private int int738;
+
+    @CmdArgument(key = "string739", desc = "A string field.")
+    private String string739;
+
+    @CmdArgument(key = "bool740", desc = "A boolean field.")
+    private boolean bool740;
+
+    @CmdArgument(key = "int741", desc = "An int field.")
+    private int int741;
+
+    @CmdArgument(key = "string742", desc = "A string field.")
+    private String string742;
+
+    @CmdArgument(key = "bool743", desc = "A boolean field.")
+    private boolean bool743;
+
+    @CmdArgument(key = "int744", desc = "An int field.")
+    private int int744;
+
+    @CmdArgument(key = "string745", desc = "A string field.")
+    private String string745;
+
+    @CmdArgument(key = "bool746", desc = "A boolean field.")
+    private boolean bool746;
+
+    @CmdArgument(key = "int747", desc = "An int field.")
+    private int int747;
+
+    @CmdArgument(key = "string748", desc = "A string field.")
+    private String string748;
+
+    @CmdArgument(key = "bool749", desc = "A boolean field.")
+    private boolean bool749;
+
+    @CmdArgument(key = "int750", desc = "An int field.")
+    private int int750;
+
+    @CmdArgument(key = "string751", desc = "A string field.")
+    private String string751;
+
+    @CmdArgument(key = "bool752", desc = "A boolean field.")
+    private boolean bool752;
+
+    @CmdArgument(key = "int753", desc = "An int field.")
+    private int int753;
+
+    @CmdArgument(key = "string754", desc = "A string field.")
+    private String string754;
+
+    @CmdArgument(key = "bool755", desc = "A boolean field.")
+    private boolean bool755;
+
+    @CmdArgument(key = "int756", desc = "An int field.")
+    private int int756;
+
+    @CmdArgument(key = "string757", desc = "A string field.")
+    private String string757;
+
+    @CmdArgument(key = "bool758", desc = "A boolean field.")
+    private boolean bool758;
+
+    @CmdArgument(key = "int759", desc = "An int field.")
+    private int int759;
+
+    @CmdArgument(key = "string760", desc = "A string field.")
+    private String string760;
+
+    @CmdArgument(key = "bool761", desc = "A boolean field.")
+    private boolean bool761;
+
+    @CmdArgument(key = "int762", desc = "An int field.")
+    private int int762;
+
+    @CmdArgument(key = "string763", desc = "A string field.")
+    private String string763;
+
+    @CmdArgument(key = "bool764", desc = "A boolean field.")
+    private boolean bool764;
+
+    @CmdArgument(key = "int765", desc = "An int field.")
+    private int int765;
+
+    @CmdArgument(key = "string766", desc = "A string field.")
+    private String string766;
+
+    @CmdArgument(key = "bool767", desc = "A boolean field.")
+    private boolean bool767;
+
+    @CmdArgument(key = "int768", desc = "An int field.")
+    private int int768;
+
+    @CmdArgument(key = "string769", desc = "A string field.")
+    private String string769;
+
+    @CmdArgument(key = "bool770", desc = "A boolean field.")
+    private boolean bool770;
+
+    @CmdArgument(key = "int771", desc = "An int field.")
+    private int int771;
+
+    @CmdArgument(key = "string772", desc = "A string field.")
+    private String string772;
+
+    @CmdArgument(key = "bool773", desc = "A boolean field.")
+    private boolean bool773;
+
+    @CmdArgument(key = "int774", desc = "An int field.")
+    private int int774;
+
+    @CmdArgument(key = "string775", desc = "A string field.")
+    private String string775;
+
+    @CmdArgument(key = "bool776", desc = "A boolean field.")
+    private boolean bool776;
+
+    @CmdArgument(key = "int777", desc = "An int field.")
+    private int int777;
+
+    @CmdArgument(key = "string778", desc = "A string field.")
+    private String string778;
+
+    @CmdArgument(key = "bool779", desc = "A boolean field.")
+    private boolean bool779;
+
+    @CmdArgument(key = "int780", desc = "An int field.")
+    private int int780;
+
+    @CmdArgument(key = "string781", desc = "A string field.")
+    private String string781;
+
+    @CmdArgument(key = "bool782", desc = "A boolean field.")
+    private boolean bool782;
+
+    @CmdArgument(key = "int783", desc = "An int field.")
+    private int int783;
+
+    @CmdArgument(key = "string784", desc = "A string field.")
+    private String string784;
+
+    @CmdArgument(key = "bool785", desc = "A boolean field.")
+    private boolean bool785;
+
+    @CmdArgument(key = "int786", desc = "An int field.")
+    private int int786;
+
+    @CmdArgument(key = "string787", desc = "A string field.")
+    private String string787;
+
+    @CmdArgument(key = "bool788", desc = "A boolean field.")
+    private boolean bool788;
+
+    @CmdArgument(key = "int789", desc = "An int field.")
+    private int int789;
+
+    @CmdArgument(key = "string790", desc = "A string field.")
+    private String string790;
+
+    @CmdArgument(key = "bool791", desc = "A boolean field.")
+    private boolean bool791;
+
+    @CmdArgument(key = "int792", desc = "An int field.")
+    private int int792;
+
+    @CmdArgument(key = "string793", desc = "A string field.")
+    private String string793;
+
+    @CmdArgument(key = "bool794", desc = "A boolean field.")
+    private boolean bool794;
+
+    @CmdArgument(key = "int795", desc = "An int field.")
+    private int int795;
+
+    @CmdArgument(key = "string796", desc = "A string field.")
+    private String string796;
+
+    @CmdArgument(key = "bool797", desc = "A boolean field.")
+    private boolean bool797;
+
+    @CmdArgument(key = "int798", desc = "An int field.")
+    private int int798;
+
+    @CmdArgument(key = "string799", desc = "A string field.")
+    private String string799;
+
+    @CmdArgument(key = "bool800", desc = "A boolean field.")
+    private boolean bool800;
+
+    @CmdArgument(key = "int801", desc = "An int field.")
+    private int int801;
+
+    @CmdArgument(key = "string802", desc = "A string field.")
+    private String string802;
+
+    @CmdArgument(key = "bool803", desc = "A boolean field.")
+    private boolean bool803;
+
+    @CmdArgument(key = "int804", desc = "An int field.")
+    private int int804;
+
+    @CmdArgument(key = "string805", desc = "A string field.")
+    private String string805;
+
+    @CmdArgument(key = "bool806", desc = "A boolean field.")
+    private boolean bool806;
+
+    @CmdArgument(key = "int807", desc = "An int field.")
+    private int int807;
+
+    @CmdArgument(key = "string808", desc = "A string field.")
+    private String string808;
+
+    @CmdArgument(key = "bool809", desc = "A boolean field.")
+    private boolean bool809;
+
+    @CmdArgument(key = "int810", desc = "An int field.")
+    private int int810;
+
+    @CmdArgument(key = "string811", desc = "A string field.")
+    private String string811;
+
+    @CmdArgument(key = "bool812", desc = "A boolean field.")
+    private boolean bool812;
+
+    @CmdArgument(key = "int813", desc = "An int field.")
+    private int int813;
+
+    @CmdArgument(key = "string814", desc = "A string field.")
+    private String string814;
+
+    @CmdArgument(key = "bool815", desc = "A boolean field.")
+    private boolean bool815;
+
+    @CmdArgument(key = "int816", desc = "An int field.")
+    private int int816;
+
+    @CmdArgument(key = "string817", desc = "A string field.")
+    private String string817;
+
+    @CmdArgument(key = "bool818", desc = "A boolean field.")
+    private boolean bool818;
+
+    @CmdArgument(key = "int819", desc = "An int field.")
+    private int int819;
+
+    @CmdArgument(key = "string820", desc = "A string field.")
+    private String string820;
+
+    @CmdArgument(key = "bool821", desc = "A boolean field.")
+    private boolean bool821;
+
+    @CmdArgument(key = "int822", desc = "An int field.")
+    private int int822;
+
+    @CmdArgument(key = "string823", desc = "A string field.")
+    private String string823;
+
+    @CmdArgument(key = "bool824", desc = "A boolean field.")
+    private boolean bool824;
+
+    @CmdArgument(key = "int825", desc = "An int field.")
+    private int int825;
+
+    @CmdArgument(key = "string826", desc = "A string field.")
+    private String string826;
+
+    @CmdArgument(key = "bool827", desc = "A boolean field.")
+    private boolean bool827;
+
+    @CmdArgument(key = "int828", desc = "An int field.")
+    private int int828;
+
+    @CmdArgument(key = "string829", desc = "A string field.")
+    private String string829;
+
+    @CmdArgument(key = "bool830", desc = "A boolean field.")
+    private boolean bool830;
+
+    @CmdArgument(key = "int831", desc = "An int field.")
+    private int int831;
+
+    @CmdArgument(key = "string832", desc = "A string field.")
+    private String string832;
+
+    @CmdArgument(key = "bool833", desc = "A boolean field.")
+    private boolean bool833;
+
+    @CmdArgument(key = "int834", desc = "An int field.")
+    private int int834;
+
+    @CmdArgument(key = "string835", desc = "A string field.")
+    private String string835;
+
+    @CmdArgument(key = "bool836", desc = "A boolean field.")
+    private boolean bool836;
+
+    @CmdArgument(key = "int837", desc = "An int field.")
+    private int int837;
+
+    @CmdArgument(key = "string838", desc = "A string field.")
+    private String string838;
+
+    @CmdArgument(key = "bool839", desc = "A boolean field.")
+    private boolean bool839;
+
+    @CmdArgument(key = "int840", desc = "An int field.")
+    private int int840;
+
+    @CmdArgument(key = "string841", desc = "A string field.")
+    private String string841;
+
+    @CmdArgument(key = "bool842", desc = "A boolean field.")
+    private boolean bool842;
+
+    @CmdArgument(key = "int843", desc = "An int field.")
+    private int int843;
+
+    @CmdArgument(key = "string844", desc = "A string field.")
+    private String string844;
+
+    @CmdArgument(key = "bool845", desc = "A boolean field.")
+    private boolean bool845;
+
+    @CmdArgument(key = "int846", desc = "An int field.")
+    private int int846;
+
+    @CmdArgument(key = "string847", desc = "A string field.")
+    private String string847;
+
+    @CmdArgument(key = "bool848", desc = "A boolean field.")
+    private boolean bool848;
+
+    @CmdArgument(key = "int849", desc = "An int field.")
+    private int int849;
+
+    @CmdArgument(key = "string850", desc = "A string field.")
+    private String string850;
+
+    @CmdArgument(key = "bool851", desc = "A boolean field.")
+    private boolean bool851;
+
+    @CmdArgument(key = "int852", desc = "An int field.")
+    private int int852;
+
+    @CmdArgument(key = "string853", desc = "A string field.")
+    private String string853;
+
+    @CmdArgument(key = "bool854", desc = "A boolean field.")
+    private boolean bool854;
+
+    @CmdArgument(key = "int855", desc = "An int field.")
+    private int int855;
+
+    @CmdArgument(key = "string856", desc = "A string field.")
+    private String string856;
+
+    @CmdArgument(key = "bool857", desc = "A boolean field.")
+    private boolean bool857;
+
+    @CmdArgument(key = "int858", desc = "An int field.")
+    private int int858;
+
+    @CmdArgument(key = "string859", desc = "A string field.")
+    private String string859;
+
+    @CmdArgument(key = "bool860", desc = "A boolean field.")
+    private boolean bool860;
+
+    @CmdArgument(key = "int861", desc = "An int field.")
+    private int int861;
+
+    @CmdArgument(key = "string862", desc = "A string field.")
+    private String string862;
+
+    @CmdArgument(key = "bool863", desc = "A boolean field.")
+    private boolean bool863;
+
+    @CmdArgument(key = "int864", desc = "An int field.")
+    private int int864;
+
+    @CmdArgument(key = "string865", desc = "A string field.")
+    private String string865;
+
+    @CmdArgument(key = "bool866", desc = "A boolean field.")
+    private boolean bool866;
+
+    @CmdArgument(key = "int867", desc = "An int field.")
+    private int int867;
+
+    @CmdArgument(key = "string868", desc = "A string field.")
+    private String string868;
+
+    @CmdArgument(key = "bool869", desc = "A boolean field.")
+    private boolean bool869;
+
+    @CmdArgument(key = "int870", desc = "An int field.")
+    private int int870;
+
+    @CmdArgument(key = "string871", desc = "A string field.")
+    private String string871;
+
+    @CmdArgument(key = "bool872", desc = "A boolean field.")
+    private boolean bool872;
+
+    @CmdArgument(key = "int873", desc = "An int field.")
+    private int int873;
+
+    @CmdArgument(key = "string874", desc = "A string field.")
+    private String string874;
+
+    @CmdArgument(key = "bool875", desc = "A boolean field.")
+    private boolean bool875;
+
+    @CmdArgument(key = "int876", desc = "An int field.")
+    private int int876;
+
+    @CmdArgument(key = "string877", desc = "A string field.")
+    private String string877;
+
+    @CmdArgument(key = "bool878", desc = "A boolean field.")
+    private boolean bool878;
+
+    @CmdArgument(key = "int879", desc = "An int field.")
+    private int int879;
+
+    @CmdArgument(key = "string880", desc = "A string field.")
+    private String string880;
+
+    @CmdArgument(key = "bool881", desc = "A boolean field.")
+    private boolean bool881;
+
+    @CmdArgument(key = "int882", desc = "An int field.")
+    private int int882;
+
+    @CmdArgument(key = "string883", desc = "A string field.")
+    private String string883;
+
+    @CmdArgument(key = "bool884", desc = "A boolean field.")
+    private boolean bool884;
+
+    @CmdArgument(key = "int885", desc = "An int field.")
+    private int int885;
+
+    @CmdArgument(key = "string886", desc = "A string field.")
+    private String string886;
+
+    @CmdArgument(key = "bool887", desc = "A boolean field.")
+    private boolean bool887;
+
+    @CmdArgument(key = "int888", desc = "An int field.")
+    private int int888;
+
+    @CmdArgument(key = "string889", desc = "A string field.")
+    private String string889;
+
+    @CmdArgument(key = "bool890", desc = "A boolean field.")
+    private boolean bool890;
+
+    @CmdArgument(key = "int891", desc = "An int field.")
+    private int int891;
+
+    @CmdArgument(key = "string892", desc = "A string field.")
+    private String string892;
+
+    @CmdArgument(key = "bool893", desc = "A boolean field.")
+    private boolean bool893;
+
+    @CmdArgument(key = "int894", desc = "An int field.")
+    private int int894;
+
+    @CmdArgument(key = "string895", desc = "A string field.")
+    private String string895;
+
+    @CmdArgument(key = "bool896", desc = "A boolean field.")
+    private boolean bool896;
+
+    @CmdArgument(key = "int897", desc = "An int field.")
+    private int int897;
+
+    @CmdArgument(key = "string898", desc = "A string field.")
+    private String string898;
+
+    @CmdArgument(key = "bool899", desc = "A boolean field.")
+    private boolean bool899;
+
+    @CmdArgument(key = "int900", desc = "An int field.")
+    private int int900;
+
+    @CmdArgument(key = "string901", desc = "A string field.")
+    private String string901;
+
+    @CmdArgument(key = "bool902", desc = "A boolean field.")
+    private boolean bool902;
+
+    @CmdArgument(key = "int903", desc = "An int field.")
+    private int int903;
+
+    @CmdArgument(key = "string904", desc = "A string field.")
+    private String string904;
+
+    @CmdArgument(key = "bool905", desc = "A boolean field.")
+    private boolean bool905;
+
+    @CmdArgument(key = "int906", desc = "An int field.")
+    private int int906;
+
+    @CmdArgument(key = "string907", desc = "A string field.")
+    private String string907;
+
+    @CmdArgument(key = "bool908", desc = "A boolean field.")
+    private boolean bool908;
+
+    @CmdArgument(key = "int909", desc = "An int field.")
+    private int int909;
+
+    @CmdArgument(key = "string910", desc = "A string field.")
+    private String string910;
+
+    @CmdArgument(key = "bool911", desc = "A boolean field.")
+    private boolean bool911;
+
+    @CmdArgument(key = "int912", desc = "An int field.")
+    private int int912;
+
+    @CmdArgument(key = "string913", desc = "A string field.")
+    private String string913;
+
+    @CmdArgument(key = "bool914", desc = "A boolean field.")
+    private boolean bool914;
+
+    @CmdArgument(key = "int915", desc = "An int field.")
+    private int int915;
+
+    @CmdArgument(key = "string916", desc = "A string field.")
+    private String string916;
+
+    @CmdArgument(key = "bool917", desc = "A boolean field.")
+    private boolean bool917;
+
+    @CmdArgument(key = "int918", desc = "An int field.")
+    private int int918;
+
+    @CmdArgument(key = "string919", desc = "A string field.")
+    private String string919;
+
+    @CmdArgument(key = "bool920", desc = "A boolean field.")
+    private boolean bool920;
+
+    @CmdArgument(key = "int921", desc = "An int field.")
+    private int int921;
+
+    @CmdArgument(key = "string922", desc = "A string field.")
+    private String string922;
+
+    @CmdArgument(key = "bool923", desc = "A boolean field.")
+    private boolean bool923;
+
+    @CmdArgument(key = "int924", desc = "An int field.")
+    private int int924;
+
+    @CmdArgument(key = "string925", desc = "A string field.")
+    private String string925;
+
+    @CmdArgument(key = "bool926", desc = "A boolean field.")
+    private boolean bool926;
+
+    @CmdArgument(key = "int927", desc = "An int field.")
+    private int int927;
+
+    @CmdArgument(key = "string928", desc = "A string field.")
+    private String string928;
+
+    @CmdArgument(key = "bool929", desc = "A boolean field.")
+    private boolean bool929;
+
+    @CmdArgument(key = "int930", desc = "An int field.")
+    private int int930;
+
+    @CmdArgument(key = "string931", desc = "A string field.")
+    private String string931;
+
+    @CmdArgument(key = "bool932", desc = "A boolean field.")
+    private boolean bool932;
+
+    @CmdArgument(key = "int933", desc = "An int field.")
+    private int int933;
+
+    @CmdArgument(key = "string934", desc = "A string field.")
+    private String string934;
+
+    @CmdArgument(key = "bool935", desc = "A boolean field.")
+    private boolean bool935;
+
+    @CmdArgument(key = "int936", desc = "An int field.")
+    private int int936;
+
+    @CmdArgument(key = "string937", desc = "A string field.")
+    private String string937;
+
+    @CmdArgument(key = "bool938", desc = "A boolean field.")
+    private boolean bool938;
+
+    @CmdArgument(key = "int939", desc = "An int field.")
+    private int int939;
+
+    @CmdArgument(key = "string940", desc = "A string field.")
+    private String string940;
+
+    @CmdArgument(key = "bool941", desc = "A boolean field.")
+    private boolean bool941;
+
+    @CmdArgument(key = "int942", desc = "An int field.")
+    private int int942;
+
+    @CmdArgument(key = "string943", desc = "A string field.")
+    private String string943;
+
+    @CmdArgument(key = "bool944", desc = "A boolean field.")
+    private boolean bool944;
+
+    @CmdArgument(key = "int945", desc = "An int field.")
+    private int int945;
+
+    @CmdArgument(key = "string946", desc = "A string field.")
+    private String string946;
+
+    @CmdArgument(key = "bool947", desc = "A boolean field.")
+    private boolean bool947;
+
+    @CmdArgument(key = "int948", desc = "An int field.")
+    private int int948;
+
+    @CmdArgument(key = "string949", desc = "A string field.")
+    private String string949;
+
+    @CmdArgument(key = "bool950", desc = "A boolean field.")
+    private boolean bool950;
+
+    @CmdArgument(key = "int951", desc = "An int field.")
+    private int int951;
+
+    @CmdArgument(key = "string952", desc = "A string field.")
+    private String string952;
+
+    @CmdArgument(key = "bool953", desc = "A boolean field.")
+    private boolean bool953;
+
+    @CmdArgument(key = "int954", desc = "An int field.")
+    private int int954;
+
+    @CmdArgument(key = "string955", desc = "A string field.")
+    private String string955;
+
+    @CmdArgument(key = "bool956", desc = "A boolean field.")
+    private boolean bool956;
+
+    @CmdArgument(key = "int957", desc = "An int field.")
+    private int int957;
+
+    @CmdArgument(key = "string958", desc = "A string field.")
+    private String string958;
+
+    @CmdArgument(key = "bool959", desc = "A boolean field.")
+    private boolean bool959;
+
+    @CmdArgument(key = "int960", desc = "An int field.")
+    private int int960;
+
+    @CmdArgument(key = "string961", desc = "A string field.")
+    private String string961;
+
+    @CmdArgument(key = "bool962", desc = "A boolean field.")
+    private boolean bool962;
+
+    @CmdArgument(key = "int963", desc = "An int field.")
+    private int int963;
+
+    @CmdArgument(key = "string964", desc = "A string field.")
+    private String string964;
+
+    @CmdArgument(key = "bool965", desc = "A boolean field.")
+    private boolean bool965;
+
+    @CmdArgument(key = "int966", desc = "An int field.")
+    private int int966;
+
+    @CmdArgument(key = "string967", desc = "A string field.")
+    private String string967;
+
+    @CmdArgument(key = "bool968", desc = "A boolean field.")
+    private boolean bool968;
+
+    @CmdArgument(key = "int969", desc = "An int field.")
+    private int int969;
+
+    @CmdArgument(key = "string970", desc = "A string field.")
+    private String string970;
+
+    @CmdArgument(key = "bool971", desc = "A boolean field.")
+    private boolean bool971;
+
+    @CmdArgument(key = "int972", desc = "An int field.")
+    private int int972;
+
+    @CmdArgument(key = "string973", desc = "A string field.")
+    private String string973;
+
+    @CmdArgument(key = "bool974", desc = "A boolean field.")
+    private boolean bool974;
+
+    @CmdArgument(key = "int975", desc = "An int field.")
+    private int int975;
+
+    @CmdArgument(key = "string976", desc = "A string field.")
+    private String string976;
+
+    @CmdArgument(key = "bool977", desc = "A boolean field.")
+    private boolean bool977;
+
+    @CmdArgument(key = "int978", desc = "An int field.")
+    private int int978;
+
+    @CmdArgument(key = "string979", desc = "A string field.")
+    private String string979;
+
+    @CmdArgument(key = "bool980", desc = "A boolean field.")
+    private boolean bool980;
+
+    @CmdArgument(key = "int981", desc = "An int field.")
+    private int int981;
+
+    @CmdArgument(key = "string982", desc = "A string field.")
+    private String string982;
+
+    @CmdArgument(key = "bool983", desc = "A boolean field.")
+    private boolean bool983;
+
+    @CmdArgument(key = "int984", desc = "An int field.")
+    private int int984;
+
+    @CmdArgument(key = "string985", desc = "A string field.")
+    private String string985;
+
+    @CmdArgument(key = "bool986", desc = "A boolean field.")
+    private boolean bool986;
+
+    @CmdArgument(key = "int987", desc = "An int field.")
+    private int int987;
+
+    @CmdArgument(key = "string988", desc = "A string field.")
+    private String string988;
+
+    @CmdArgument(key = "bool989", desc = "A boolean field.")
+    private boolean bool989;
+
+    @CmdArgument(key = "int990", desc = "An int field.")
+    private int int990;
+
+    @CmdArgument(key = "string991", desc = "A string field.")
+    private String string991;
+
+    @CmdArgument(key = "bool992", desc = "A boolean field.")
+    private boolean bool992;
+
+    @CmdArgument(key = "int993", desc = "An int field.")
+    private int int993;
+
+    @CmdArgument(key = "string994", desc = "A string field.")
+    private String string994;
+
+    @CmdArgument(key = "bool995", desc = "A boolean field.")
+    private boolean bool995;
+
+    @CmdArgument(key = "int996", desc = "An int field.")
+    private int int996;
+
+    @CmdArgument(key = "string997", desc = "A string field.")
+    private String string997;
+
+    @CmdArgument(key = "bool998", desc = "A boolean field.")
+    private boolean bool998;
+
+    @CmdArgument(key = "int999", desc = "An int field.")
+    private int int999;
+}
@@ -0,0 +1,112 @@
+package com.github.maxstupo.jannoargs;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@link ParseListener} that emits JDK Flight Recorder events. A {@code com.github.maxstupo.jannoargs.Parse} event is emitted for each parse
+ * and a {@code com.github.maxstupo.jannoargs.ParseFailure} event for each failure. A {@code com.github.maxstupo.jannoargs.ParsePhase} event per
+ * phase is available, but disabled unless enabled in the recording settings.
+ * <p>
+ *
+ * Events are only committed while a recording has them enabled, otherwise the cost of this listener is a check per callback.
+ * <p>
+ *
+ * The core library targets Java 8, so this listener is built from its own source set against Java 11 and is normally obtained with
+ * {@link ParseListener#flightRecorder()}.
+ *
+ * @author Maxstupo
+ */
+public class FlightRecorderListener implements ParseListener {
+
+    @Override
+    public void onPhase(Class<?> type, ParsePhase phase, long nanos) {
+        PhaseEvent event = new PhaseEvent();
+        if (!event.isEnabled())
+            return;
+        event.type = type;
+        event.phase = phase.name();
+        event.phaseTime = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void onFailure(Class<?> type, FailureCause cause, String failure) {
+        FailureEvent event = new FailureEvent();
+        if (!event.isEnabled())
+            return;
+        event.type = type;
+        event.cause = cause.name();
+        event.failure = failure;
+        event.commit();
+    }
+
+    @Override
+    public void onParse(Class<?> type, boolean success, long nanos) {
+        ParseEvent event = new ParseEvent();
+        if (!event.isEnabled())
+            return;
+        event.type = type;
+        event.success = success;
+        event.parseTime = nanos;
+        event.commit();
+    }
+
+    @Name("com.github.maxstupo.jannoargs.Parse")
+    @Label("Argument Parse")
+    @Category("JAnnoArgs")
+    @StackTrace(false)
+    static final class ParseEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Success")
+        boolean success;
+
+        @Label("Parse Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long parseTime;
+    }
+
+    @Name("com.github.maxstupo.jannoargs.ParsePhase")
+    @Label("Argument Parse Phase")
+    @Description("The total time spent in a phase of a parse")
+    @Category("JAnnoArgs")
+    @StackTrace(false)
+    @Enabled(false)
+    static final class PhaseEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Phase")
+        String phase;
+
+        @Label("Phase Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long phaseTime;
+    }
+
+    @Name("com.github.maxstupo.jannoargs.ParseFailure")
+    @Label("Argument Parse Failure")
+    @Category("JAnnoArgs")
+    @StackTrace(false)
+    static final class FailureEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Cause")
+        String cause;
+
+        @Label("Failure")
+        String failure;
+    }
+}
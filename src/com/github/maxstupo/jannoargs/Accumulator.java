@@ -0,0 +1,302 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Collects the values of a multi-valued field during a single parse. Each occurrence of the key adds its comma separated values, and the field is
+ * set once when parsing finishes, replacing its previous value.
+ * <p>
+ *
+ * {@code int[]}, {@code long[]} and {@code double[]} fields are collected into growable primitive buffers without boxing, and the array is sized
+ * exactly once when parsing finishes. Other arrays, {@link List}, {@link Set}, {@link SortedSet} and {@link Collection} fields are collected
+ * using the {@link Converter} of their component or element type.
+ *
+ * @author Maxstupo
+ */
+abstract class Accumulator {
+
+    /** Creates the accumulators of a field. */
+    interface Factory {
+
+        Accumulator create();
+    }
+
+    private static final char SEPARATOR = ',';
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final FieldBinder binder;
+
+    Accumulator(FieldBinder binder) {
+        this.binder = binder;
+    }
+
+    /**
+     * Returns the factory of accumulators for a field or parameter of the given type.
+     *
+     * @param type
+     *            the type of the field.
+     * @param genericType
+     *            the generic type of the field.
+     * @param binder
+     *            the binder of the field.
+     * @return the factory, or null if the field isn't multi-valued or its element type has no converter.
+     * @throws IllegalArgumentException
+     *             if the field is a sorted set of elements that aren't {@link Comparable}.
+     */
+    static Factory factoryFor(Class<?> type, Type genericType, final FieldBinder binder) {
+
+        if (type == int[].class) {
+            return new Factory() {
+                @Override
+                public Accumulator create() {
+                    return new IntAccumulator(binder);
+                }
+            };
+        } else if (type == long[].class) {
+            return new Factory() {
+                @Override
+                public Accumulator create() {
+                    return new LongAccumulator(binder);
+                }
+            };
+        } else if (type == double[].class) {
+            return new Factory() {
+                @Override
+                public Accumulator create() {
+                    return new DoubleAccumulator(binder);
+                }
+            };
+        }
+
+        final Class<?> elementType;
+        final CollectionKind kind;
+        if (type.isArray()) {
+            elementType = type.getComponentType();
+            kind = CollectionKind.ARRAY;
+        } else {
+            kind = CollectionKind.of(type);
+            if (kind == null)
+                return null;
+            elementType = elementType(genericType);
+        }
+
+        final Converter<?> converter = Converters.get(elementType);
+        if (converter == null)
+            return null;
+
+        // A TreeSet without a comparator would only fail once parsing finishes. Element types without a registered converter, such as Object or
+        // Number, are converted by a built-in converter to comparable values.
+        if (kind == CollectionKind.SORTED_SET && !Comparable.class.isAssignableFrom(elementType) && Converters.isRegistered(elementType))
+            throw new IllegalArgumentException("A sorted set can only hold Comparable elements: " + genericType.getTypeName());
+
+        return new Factory() {
+            @Override
+            public Accumulator create() {
+                return new ObjectAccumulator(binder, converter, kind, elementType);
+            }
+        };
+    }
+
+    private static Class<?> elementType(Type type) {
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class)
+                return (Class<?>) argument;
+        }
+        // Raw and wildcard collections hold strings.
+        return String.class;
+    }
+
+    /**
+     * Adds each comma separated value within the given value.
+     *
+     * @param value
+     *            the value of one occurrence of the key.
+     * @return false if a value couldn't be converted.
+     */
+    boolean addAll(String value) {
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || value.charAt(i) == SEPARATOR) {
+                if (!add(value, start, i))
+                    return false;
+                start = i + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the field of the given object to the collected values.
+     *
+     * @param obj
+     *            the object to set the field of.
+     */
+    void bind(Object obj) {
+        binder.set(obj, finish());
+    }
+
+    /**
+     * Adds the value within the given range of characters.
+     *
+     * @return false if the value couldn't be converted.
+     */
+    abstract boolean add(String value, int start, int end);
+
+    /**
+     * @return the collected values as the field type.
+     */
+    abstract Object finish();
+
+    /**
+     * @return the given range of characters, without copying them if the range is the whole value.
+     */
+    static String element(String value, int start, int end) {
+        return start == 0 && end == value.length() ? value : value.substring(start, end);
+    }
+
+    private static final class IntAccumulator extends Accumulator {
+
+        private int[] values = new int[INITIAL_CAPACITY];
+        private int size;
+
+        IntAccumulator(FieldBinder binder) {
+            super(binder);
+        }
+
+        @Override
+        boolean add(String value, int start, int end) {
+            long result = NumberParser.parseInt(value, start, end);
+            if (result == NumberParser.INVALID)
+                return false;
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = (int) result;
+            return true;
+        }
+
+        @Override
+        Object finish() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class LongAccumulator extends Accumulator {
+
+        private long[] values = new long[INITIAL_CAPACITY];
+        private int size;
+
+        LongAccumulator(FieldBinder binder) {
+            super(binder);
+        }
+
+        @Override
+        boolean add(String value, int start, int end) {
+            long result = NumberParser.parseLong(value, start, end);
+            if (result == NumberParser.INVALID && !NumberParser.isLongMin(value, start, end))
+                return false;
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = result;
+            return true;
+        }
+
+        @Override
+        Object finish() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class DoubleAccumulator extends Accumulator {
+
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int size;
+
+        DoubleAccumulator(FieldBinder binder) {
+            super(binder);
+        }
+
+        @Override
+        boolean add(String value, int start, int end) {
+            String element = element(value, start, end);
+            if (!NumberParser.isFloatingPoint(element))
+                return false;
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = Double.parseDouble(element);
+            return true;
+        }
+
+        @Override
+        Object finish() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /** The type of collection an {@link ObjectAccumulator} creates. */
+    private enum CollectionKind {
+        ARRAY, LIST, SET, SORTED_SET;
+
+        static CollectionKind of(Class<?> type) {
+            if (type == List.class || type == Collection.class || type == Iterable.class || type == ArrayList.class)
+                return LIST;
+            if (type == Set.class || type == LinkedHashSet.class)
+                return SET;
+            if (type == SortedSet.class || type == NavigableSet.class || type == TreeSet.class)
+                return SORTED_SET;
+            return null;
+        }
+    }
+
+    private static final class ObjectAccumulator extends Accumulator {
+
+        private final Converter<?> converter;
+        private final CollectionKind kind;
+        private final Class<?> elementType;
+        private final List<Object> values = new ArrayList<>();
+
+        ObjectAccumulator(FieldBinder binder, Converter<?> converter, CollectionKind kind, Class<?> elementType) {
+            super(binder);
+            this.converter = converter;
+            this.kind = kind;
+            this.elementType = elementType;
+        }
+
+        @Override
+        boolean add(String value, int start, int end) {
+            Object element = converter.convert(element(value, start, end));
+            if (element == null)
+                return false;
+            values.add(element);
+            return true;
+        }
+
+        @Override
+        Object finish() {
+            switch (kind) {
+                case ARRAY:
+                    Object array = Array.newInstance(elementType, values.size());
+                    for (int i = 0; i < values.size(); i++)
+                        Array.set(array, i, values.get(i));
+                    return array;
+                case SET:
+                    return new LinkedHashSet<>(values);
+                case SORTED_SET:
+                    return new TreeSet<>(values);
+                default:
+                    return values;
+            }
+        }
+    }
+}
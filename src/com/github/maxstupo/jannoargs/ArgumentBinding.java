@@ -0,0 +1,227 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * An immutable binding between a {@link CmdArgument} key and the field it sets. Created once per field by {@link ArgumentSchema}, or once per
+ * constructor parameter by {@link ConstructorBinder}.
+ *
+ * @author Maxstupo
+ */
+final class ArgumentBinding {
+
+    private final String key;
+    private final String desc;
+    private final boolean hidden;
+
+    private final Field field;
+    private final Class<?> type;
+    private final Type genericType;
+    private final FieldBinder binder;
+    private final boolean flag;
+    private final Accumulator.Factory accumulatorFactory;
+    private final Constraints constraints;
+    /** The constraints whose bounds are checked on the converted value, or null if the field isn't bounded. */
+    private final Constraints bounds;
+    private final boolean path;
+    private volatile Converter<?> converter;
+
+    ArgumentBinding(CmdArgument argument, Field field) {
+        this(argument, field, field.getType(), field.getGenericType(), FieldBinder.of(field));
+    }
+
+    /**
+     * Creates a binding for a constructor parameter, setting the parameter with the given binder.
+     */
+    ArgumentBinding(CmdArgument argument, Class<?> type, Type genericType, FieldBinder binder) {
+        this(argument, null, type, genericType, binder);
+    }
+
+    private ArgumentBinding(CmdArgument argument, Field field, Class<?> type, Type genericType, FieldBinder binder) {
+        this.key = argument.key();
+        this.desc = argument.desc();
+        this.hidden = argument.hide();
+
+        this.field = field;
+        this.type = type;
+        this.genericType = genericType;
+        this.binder = binder;
+        this.flag = Util.isAssignable(type, boolean.class);
+        this.accumulatorFactory = Accumulator.factoryFor(type, genericType, binder);
+        this.constraints = Constraints.of(argument, type, flag, accumulatorFactory != null);
+        this.bounds = constraints != null && constraints.isBounded() ? constraints : null;
+        this.path = isPath(type, genericType);
+        this.converter = converterFor();
+    }
+
+    /**
+     * Sets the field of the given object to the given boolean state.
+     *
+     * @param obj
+     *            the object to set the field of.
+     * @param state
+     *            the state.
+     * @return false if this binding isn't a boolean field.
+     */
+    boolean setBoolean(Object obj, boolean state) {
+        if (!flag)
+            return false;
+        binder.setBoolean(obj, state);
+        return true;
+    }
+
+    /**
+     * Converts the given string value to the field type and sets the field of the given object, if the converted value is within the bounds of
+     * the field.
+     *
+     * @param obj
+     *            the object to set the field of.
+     * @param value
+     *            the string value.
+     * @return false if the value couldn't be converted to the field type or is out of bounds.
+     */
+    boolean setValue(Object obj, String value) {
+        Converter<?> converter = getConverter();
+        if (converter == null)
+            return false;
+
+        if (converter instanceof PrimitiveConverter)
+            return ((PrimitiveConverter<?>) converter).bind(binder, obj, value, bounds);
+
+        Object objValue = convert(converter, value);
+        if (objValue == null)
+            return false;
+        binder.set(obj, objValue);
+        return true;
+    }
+
+    /**
+     * Converts the given string value to the field type without setting the field, checking the converted value against the bounds of the field
+     * the same as {@link #setValue(Object, String)}. Used when conversion and binding are timed separately.
+     *
+     * @param value
+     *            the string value.
+     * @return the converted value, or null if it couldn't be converted or is out of bounds.
+     */
+    Object convert(String value) {
+        Converter<?> converter = getConverter();
+        return converter == null ? null : convert(converter, value);
+    }
+
+    private Object convert(Converter<?> converter, String value) {
+        Object objValue = converter.convert(value);
+        if (objValue == null || bounds != null && !bounds.inBounds((Number) objValue))
+            return null;
+        return objValue;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getDesc() {
+        return desc;
+    }
+
+    boolean isHidden() {
+        return hidden;
+    }
+
+    boolean isFlag() {
+        return flag;
+    }
+
+    /**
+     * Returns true if this binding is for an array or collection field, whose values are collected by an {@link Accumulator}.
+     *
+     * @return true if this binding is for a multi-valued field.
+     */
+    boolean isMultiValued() {
+        return accumulatorFactory != null;
+    }
+
+    /**
+     * Returns true if the values of this field are file system paths, or arrays, collections or lazy values of them.
+     *
+     * @return true if this binding is for a path-valued field.
+     */
+    boolean isPath() {
+        return path;
+    }
+
+    /**
+     * Creates an accumulator to collect the values of this field during a parse.
+     *
+     * @return a new accumulator, or null if this binding isn't for a multi-valued field.
+     */
+    Accumulator newAccumulator() {
+        return accumulatorFactory == null ? null : accumulatorFactory.create();
+    }
+
+    /**
+     * @return the type of the field or constructor parameter.
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the generic type of the field or constructor parameter.
+     */
+    Type getGenericType() {
+        return genericType;
+    }
+
+    /**
+     * @return the field, or null if this binding is for a constructor parameter.
+     */
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * @return the compiled constraints, or null if the argument declares none.
+     */
+    Constraints getConstraints() {
+        return constraints;
+    }
+
+    FieldBinder getBinder() {
+        return binder;
+    }
+
+    /**
+     * Returns the converter for the field type. If no converter was registered when this binding was created, the {@link Converters registry} is
+     * checked again.
+     *
+     * @return the converter for the field type, or null if there is no converter for the field type.
+     */
+    Converter<?> getConverter() {
+        Converter<?> converter = this.converter;
+        if (converter == null && !flag && accumulatorFactory == null) {
+            converter = converterFor();
+            this.converter = converter;
+        }
+        return converter;
+    }
+
+    private static boolean isPath(Class<?> type, Type genericType) {
+        if (type.isArray())
+            return Converters.isPath(type.getComponentType());
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            return argument instanceof Class && Converters.isPath((Class<?>) argument);
+        }
+        return Converters.isPath(type);
+    }
+
+    private Converter<?> converterFor() {
+        if (accumulatorFactory != null)
+            return null;
+        if (Lazy.isLazy(type))
+            return Lazy.converterFor(key, genericType);
+        return Converters.get(type);
+    }
+}
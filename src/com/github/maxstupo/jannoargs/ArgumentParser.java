@@ -0,0 +1,724 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable parser that sets the fields annotated with {@link CmdArgument} of objects of a single type. The schema of the type, the ignored
+ * types and the events are fixed when the parser is {@link Builder#build() built}, so a parser can be shared and used by many threads at once
+ * without locking.
+ * <p>
+ *
+ * Syntax:<br>
+ * - Boolean fields prefix the key with plus(+) for true, or prefix a hyphen(-) for false.<br>
+ * - Value fields prefix the key with double hyphens (--) followed by a space and the value.<br>
+ * - Array, List and Set fields collect the values of every occurrence of their key, separated by commas (,).
+ * <p>
+ *
+ * Types whose constructor has {@link CmdArgument} parameters, such as records, are created by {@link #newInstance(String...)} instead of being
+ * parsed into an existing object.
+ * <p>
+ *
+ * Values missing from the command line can be resolved from an ordered stack of {@link Builder#source(ArgumentSource) sources}, such as
+ * environment variables and properties files.
+ *
+ * @author Maxstupo
+ * @param <T>
+ *            the type this parser sets the fields of.
+ * @see #builder(Class)
+ */
+public final class ArgumentParser<T> {
+
+    private static final Function<Void, Boolean> TRUE = new Function<Void, Boolean>() {
+        @Override
+        public Boolean apply(Void result) {
+            return true;
+        }
+    };
+
+    private final Class<T> type;
+    private final ArgumentTarget target;
+    private final ArgumentTarget[] ignoreTargets;
+    private final Class<?>[] ignoreTypes;
+
+    private final Map<String, IArgumentEvent> events;
+    private final boolean fireEventsPerOccurrence;
+    private final boolean expandArgumentFiles;
+    private final boolean allowAbbreviations;
+    private final ParseListener listener;
+    private final ArgumentSource[] sources;
+    private final boolean resetToDefaults;
+    private final ConstructorBinder constructorBinder;
+
+    private final boolean displayHelp;
+    private final String programDescription;
+    private final boolean displaySyntax;
+
+    /** The rendered help, racy but idempotent. */
+    private String help;
+
+    /** The default field values, captured from the first object reset. */
+    private volatile FieldDefaults defaults;
+
+    private ArgumentParser(Builder<T> builder) {
+        this.type = builder.type;
+        this.listener = builder.listener;
+
+        long start = listener == null ? 0 : System.nanoTime();
+        this.target = ArgumentTargets.of(builder.type);
+        this.constructorBinder = target instanceof ArgumentSchema ? ((ArgumentSchema) target).getConstructorBinder() : null;
+
+        this.ignoreTypes = builder.ignoreTypes.toArray(new Class<?>[builder.ignoreTypes.size()]);
+        this.ignoreTargets = new ArgumentTarget[ignoreTypes.length];
+        for (int i = 0; i < ignoreTypes.length; i++)
+            ignoreTargets[i] = ArgumentTargets.of(ignoreTypes[i]);
+        if (listener != null)
+            listener.onPhase(type, ParsePhase.SCHEMA_LOOKUP, System.nanoTime() - start);
+
+        this.events = Collections.unmodifiableMap(new HashMap<>(builder.events));
+        this.fireEventsPerOccurrence = builder.fireEventsPerOccurrence;
+        this.expandArgumentFiles = builder.expandArgumentFiles;
+        this.allowAbbreviations = builder.allowAbbreviations;
+        this.sources = builder.sources.toArray(new ArgumentSource[builder.sources.size()]);
+        this.resetToDefaults = builder.resetToDefaults;
+
+        this.displayHelp = builder.displayHelp;
+        this.programDescription = builder.programDescription;
+        this.displaySyntax = builder.displaySyntax;
+    }
+
+    /**
+     * Parse given string array, and set the fields that are annotated with a {@link CmdArgument} annotation from the given object. Events of the
+     * arguments present are called on the calling thread once parsing has succeeded.
+     *
+     * @param obj
+     *            The object to set the fields of.
+     * @param args
+     *            The arguments to parse.
+     * @return false if parsing failed.
+     * @throws UncheckedIOException
+     *             if argument files are {@link Builder#expandArgumentFiles(boolean) expanded} and a file can't be read.
+     */
+    public boolean parse(T obj, String... args) {
+        return finish(feed(newSession(obj), args)).complete();
+    }
+
+    /**
+     * Tokenizes and parses all characters from the given reader, the same as {@link #parse(Object, String...)}. The reader is read in chunks and
+     * keys are matched without creating strings, so memory use doesn't grow with the amount of input. See {@link #parse(Object, CharSequence)} for
+     * the quoting syntax.
+     *
+     * @param obj
+     *            The object to set the fields of.
+     * @param reader
+     *            The reader to read the arguments from, it won't be closed.
+     * @return false if parsing failed or a quote wasn't closed.
+     * @throws IOException
+     *             if an I/O error occurs.
+     */
+    public boolean parse(T obj, Reader reader) throws IOException {
+        ParseSession session = newSession(obj);
+        long start = session.start();
+        long acceptedNanos = session.getAcceptNanos();
+        if (!new ArgumentTokenizer(expandArgumentFiles, session.getWorkingDirectory()).tokenize(reader, sessionSink(session)))
+            session.fail(FailureCause.MALFORMED_INPUT, "Unterminated quote or escape");
+        session.timeTokenizing(start, acceptedNanos);
+        return finish(session).complete();
+    }
+
+    /**
+     * Tokenizes and parses the given command line, the same as {@link #parse(Object, String...)}.
+     * <p>
+     *
+     * Arguments are separated by whitespace. Single quotes (') group characters literally, double quotes (") group characters allowing
+     * {@code \"} and {@code \\} escapes, and outside of quotes a backslash escapes the next character. If argument files are
+     * {@link Builder#expandArgumentFiles(boolean) expanded}, an unquoted {@code @file} argument is replaced with the arguments within the file.
+     *
+     * @param obj
+     *            The object to set the fields of.
+     * @param commandLine
+     *            The command line to parse.
+     * @return false if parsing failed or a quote wasn't closed.
+     * @throws UncheckedIOException
+     *             if argument files are expanded and a file can't be read.
+     */
+    public boolean parse(T obj, CharSequence commandLine) {
+        return finish(feed(newSession(obj), commandLine)).complete();
+    }
+
+    /**
+     * Parse given string array the same as {@link #parse(Object, String...)}, but call the events of the arguments present using the given
+     * executor. Events are submitted in the order their arguments are present and may run concurrently.
+     *
+     * @param executor
+     *            The executor the events will be called on.
+     * @param obj
+     *            The object to set the fields of.
+     * @param args
+     *            The arguments to parse.
+     * @return a stage that completes with false if parsing failed, or with true once all events have completed. The stage completes exceptionally
+     *         if an event throws an exception.
+     * @throws UncheckedIOException
+     *             if argument files are {@link Builder#expandArgumentFiles(boolean) expanded} and a file can't be read.
+     */
+    public CompletionStage<Boolean> parseAsync(Executor executor, T obj, String... args) {
+        CompletableFuture<Void> future = finish(feed(newSession(obj), args)).completeAsync(executor);
+        if (future == null)
+            return CompletableFuture.completedFuture(false);
+
+        return future.thenApply(TRUE);
+    }
+
+    /**
+     * Parses each argument vector into a new object from the given supplier, in parallel on the common {@link ForkJoinPool}. A failed vector
+     * doesn't stop the batch, its failure is reported within its result instead. Events are called on the thread that parsed the vector, and help
+     * is never displayed.
+     *
+     * @param argVectors
+     *            The argument vectors to parse.
+     * @param supplier
+     *            The supplier of a new object for each argument vector.
+     * @return the results in the same order as the argument vectors.
+     */
+    public List<ParseResult<T>> parseAll(Stream<String[]> argVectors, final Supplier<? extends T> supplier) {
+        return argVectors.parallel().map(new Function<String[], ParseResult<T>>() {
+            @Override
+            public ParseResult<T> apply(String[] args) {
+                try {
+                    T obj = supplier.get();
+                    return result(obj, feed(newSession(obj), args));
+                } catch (RuntimeException e) {
+                    return ParseResult.error(e);
+                }
+            }
+        }).collect(Collectors.<ParseResult<T>> toList());
+    }
+
+    /**
+     * Parses each argument vector the same as {@link #parseAll(Stream, Supplier)}.
+     *
+     * @param argVectors
+     *            The argument vectors to parse.
+     * @param supplier
+     *            The supplier of a new object for each argument vector.
+     * @return the results in the same order as the argument vectors.
+     */
+    public List<ParseResult<T>> parseAll(Iterable<String[]> argVectors, Supplier<? extends T> supplier) {
+        return parseAll(StreamSupport.stream(argVectors.spliterator(), true), supplier);
+    }
+
+    /**
+     * Parses each argument vector the same as {@link #parseAll(Stream, Supplier)}, using the given pool instead of the common pool.
+     *
+     * @param pool
+     *            The pool to parse the argument vectors on.
+     * @param argVectors
+     *            The argument vectors to parse.
+     * @param supplier
+     *            The supplier of a new object for each argument vector.
+     * @return the results in the same order as the argument vectors.
+     */
+    public List<ParseResult<T>> parseAll(ForkJoinPool pool, final Stream<String[]> argVectors, final Supplier<? extends T> supplier) {
+        // Parallel streams run on the pool of the task that started them.
+        return pool.submit(new Callable<List<ParseResult<T>>>() {
+            @Override
+            public List<ParseResult<T>> call() {
+                return parseAll(argVectors, supplier);
+            }
+        }).join();
+    }
+
+    /**
+     * Tokenizes and parses each command line the same as {@link #parse(Object, CharSequence)}, in parallel the same as
+     * {@link #parseAll(Stream, Supplier)}. Useful for files containing one command line per line, e.g. {@code Files.lines(path)}.
+     *
+     * @param commandLines
+     *            The command lines to parse.
+     * @param supplier
+     *            The supplier of a new object for each command line.
+     * @return the results in the same order as the command lines.
+     */
+    public List<ParseResult<T>> parseLines(Stream<? extends CharSequence> commandLines, final Supplier<? extends T> supplier) {
+        return commandLines.parallel().map(new Function<CharSequence, ParseResult<T>>() {
+            @Override
+            public ParseResult<T> apply(CharSequence commandLine) {
+                try {
+                    T obj = supplier.get();
+                    return result(obj, feed(newSession(obj), commandLine));
+                } catch (RuntimeException e) {
+                    return ParseResult.error(e);
+                }
+            }
+        }).collect(Collectors.<ParseResult<T>> toList());
+    }
+
+    /**
+     * Parse given string array the same as {@link #parse(Object, String...)}, keeping the source each value came from.
+     *
+     * @param obj
+     *            The object to set the fields of.
+     * @param args
+     *            The arguments to parse.
+     * @return the result, whose {@link ParseResult#getSources() sources} name the {@link ArgumentSource} or {@link ArgumentSource#COMMAND_LINE
+     *         command line} that set each key.
+     * @throws UncheckedIOException
+     *             if a source or an argument file can't be read.
+     * @see Builder#source(ArgumentSource)
+     */
+    public ParseResult<T> resolve(T obj, String... args) {
+        ParseSession session = newSession(obj, true);
+        if (!finish(feed(session, args)).complete())
+            return ParseResult.failure(session.getFailureCause(), session.getFailure());
+        return ParseResult.success(obj, session.getSources());
+    }
+
+    /**
+     * Parse given string array into a new object, created through the constructor of the type that has {@link CmdArgument} parameters, e.g. the
+     * canonical constructor of a record. Values are collected into a primitive staging area and the object is created once, after parsing
+     * succeeds, so it can have final fields. Parameters that aren't present are passed zero, false or null. Events are called on the calling
+     * thread once the object has been created.
+     *
+     * @param args
+     *            The arguments to parse.
+     * @return the result holding the new object, or the failure. An exception thrown by the constructor fails with
+     *         {@link FailureCause#INVALID_VALUE}.
+     * @throws IllegalStateException
+     *             if the type has no constructor with {@link CmdArgument} parameters.
+     * @throws UncheckedIOException
+     *             if a source or an argument file can't be read.
+     */
+    public ParseResult<T> newInstance(String... args) {
+        ConstructorBinder constructorBinder = this.constructorBinder;
+        if (constructorBinder == null)
+            throw new IllegalStateException(type.getName() + " has no constructor with CmdArgument parameters");
+
+        ConstructorBinder.Staging staging = constructorBinder.newStaging();
+        ParseSession session = applySources(new ParseSession(target, staging, ignoreTargets, events, fireEventsPerOccurrence, listener, allowAbbreviations), false);
+
+        T value = null;
+        if (finish(feed(session, args)).getFailure() == null) {
+            long start = session.start();
+            try {
+                value = type.cast(constructorBinder.newInstance(staging));
+            } catch (RuntimeException e) {
+                session.fail(FailureCause.INVALID_VALUE, "Unable to create " + type.getName() + ": " + e.getMessage());
+            }
+            session.time(ParsePhase.BINDING, start);
+        }
+
+        if (!session.complete())
+            return ParseResult.failure(session.getFailureCause(), session.getFailure());
+        return ParseResult.success(value);
+    }
+
+    /**
+     * Sets the {@link CmdArgument} fields of the given object back to their default values. The defaults are captured from the first object
+     * passed to this method, or parsed if {@link Builder#resetToDefaults(boolean) resetting} is enabled, and restored with cached setters
+     * afterwards without allocating. Static fields aren't restored.
+     *
+     * @param obj
+     *            the object to reset, or the object to capture the defaults from if none have been captured.
+     * @throws IllegalArgumentException
+     *             if the object isn't an instance of the type of this parser.
+     */
+    public void reset(T obj) {
+        FieldDefaults defaults = this.defaults;
+        if (defaults != null) {
+            defaults.restore(obj);
+            return;
+        }
+
+        synchronized (this) {
+            if (this.defaults == null) {
+                if (!type.isInstance(obj))
+                    throw new IllegalArgumentException("Object isn't an instance of " + type.getName() + ": " + obj);
+                this.defaults = FieldDefaults.capture(ArgumentSchema.of(type), obj);
+                return;
+            }
+        }
+        this.defaults.restore(obj);
+    }
+
+    /**
+     * Parses into the given object without displaying help, the same as a single argument vector of {@link #parseAll(Stream, Supplier)}.
+     */
+    ParseResult<T> parseResult(T obj, String... args) {
+        return result(obj, feed(newSession(obj), args));
+    }
+
+    /**
+     * Parses into the given object the same as {@link #parseResult(Object, String...)}, resolving argument files and path values against the
+     * given working directory rather than the working directory of this process.
+     */
+    ParseResult<T> parseResult(T obj, Path workingDirectory, String... args) {
+        return result(obj, feed(newSession(obj, false, workingDirectory), args));
+    }
+
+    /**
+     * Returns true if objects of the type are created by {@link #newInstance(String...)} rather than parsed into.
+     */
+    boolean isConstructorBound() {
+        return constructorBinder != null;
+    }
+
+    private ParseResult<T> result(T obj, ParseSession session) {
+        if (!session.complete())
+            return ParseResult.failure(session.getFailureCause(), session.getFailure());
+        return ParseResult.success(obj);
+    }
+
+    private ParseSession feed(ParseSession session, String... args) {
+        if (!expandArgumentFiles)
+            return parse(session, args);
+
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(true, session.getWorkingDirectory());
+        ArgumentTokenizer.Sink sink = sessionSink(session);
+        long start = session.start();
+        long acceptedNanos = session.getAcceptNanos();
+        try {
+            for (String arg : args) {
+                if (!tokenizer.argument(arg, sink)) {
+                    session.fail(FailureCause.MALFORMED_INPUT, "Unterminated quote or escape");
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        session.timeTokenizing(start, acceptedNanos);
+        return session;
+    }
+
+    private ParseSession feed(ParseSession session, CharSequence commandLine) {
+        long start = session.start();
+        long acceptedNanos = session.getAcceptNanos();
+        try {
+            if (!new ArgumentTokenizer(expandArgumentFiles, session.getWorkingDirectory()).tokenize(commandLine, sessionSink(session)))
+                session.fail(FailureCause.MALFORMED_INPUT, "Unterminated quote or escape");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        session.timeTokenizing(start, acceptedNanos);
+        return session;
+    }
+
+    private ParseSession newSession(T obj) {
+        return newSession(obj, false);
+    }
+
+    private ParseSession newSession(T obj, boolean trackSources) {
+        return newSession(obj, trackSources, null);
+    }
+
+    private ParseSession newSession(T obj, boolean trackSources, Path workingDirectory) {
+        ParseSession session = new ParseSession(target, obj, ignoreTargets, events, fireEventsPerOccurrence, listener, allowAbbreviations);
+        session.setWorkingDirectory(workingDirectory);
+        if (resetToDefaults) {
+            long start = session.start();
+            reset(obj);
+            session.time(ParsePhase.BINDING, start);
+        }
+        return applySources(session, trackSources);
+    }
+
+    private ParseSession applySources(ParseSession session, boolean trackSources) {
+        if (trackSources)
+            session.trackSources();
+        for (ArgumentSource source : sources) {
+            if (!session.applySource(source))
+                break;
+        }
+        return session;
+    }
+
+    private ParseSession finish(ParseSession session) {
+        if (session.finish() == null && displayHelp)
+            System.out.println(generateHelp());
+        return session;
+    }
+
+    /**
+     * Generates the help for the type of this parser, using the program description and syntax options of this parser.
+     *
+     * @return a formatted help string ready to be printed to the console. The help is rendered once and cached.
+     * @see JAnnoArgs#generateHelp(String, boolean, Object...)
+     */
+    public String generateHelp() {
+        String help = this.help;
+        if (help == null)
+            this.help = help = HelpFormatter.help(programDescription, displaySyntax, type);
+        return help;
+    }
+
+    /**
+     * Writes the help for the type of this parser to the given appendable, the same as {@link #generateHelp()}.
+     *
+     * @param out
+     *            the appendable to write the help to.
+     * @throws IOException
+     *             if the appendable throws an exception.
+     */
+    public void generateHelp(Appendable out) throws IOException {
+        out.append(generateHelp());
+    }
+
+    /**
+     * Prints the help for the type of this parser to the given stream, the same as {@link #generateHelp()}.
+     *
+     * @param out
+     *            the stream to print the help to.
+     */
+    public void generateHelp(PrintStream out) {
+        out.print(generateHelp());
+    }
+
+    /**
+     * Returns the type this parser sets the fields of.
+     *
+     * @return the type this parser sets the fields of.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Feeds the given arguments to the session until parsing fails.
+     *
+     * @return the given session.
+     */
+    static ParseSession parse(ParseSession session, String... args) {
+        for (String arg : args) {
+            if (!session.accept(arg))
+                break;
+        }
+        return session;
+    }
+
+    private static ArgumentTokenizer.Sink sessionSink(final ParseSession session) {
+        return new ArgumentTokenizer.Sink() {
+            @Override
+            public boolean accept(CharSequence arg) {
+                return session.accept(arg);
+            }
+        };
+    }
+
+    /**
+     * Returns a new builder for a parser of the given type.
+     *
+     * @param type
+     *            the type the parser will set the fields of.
+     * @return a new builder.
+     */
+    public static <T> Builder<T> builder(Class<T> type) {
+        if (type == null)
+            throw new IllegalArgumentException("type must not be null");
+        return new Builder<>(type);
+    }
+
+    /**
+     * A builder of {@link ArgumentParser ArgumentParsers}. Builders aren't thread-safe, but the parsers they build are.
+     *
+     * @author Maxstupo
+     * @param <T>
+     *            the type the parser will set the fields of.
+     */
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final List<Class<?>> ignoreTypes = new ArrayList<>();
+        private final Map<String, IArgumentEvent> events = new HashMap<>();
+        private boolean fireEventsPerOccurrence;
+
+        private boolean expandArgumentFiles;
+        private boolean allowAbbreviations;
+        private ParseListener listener;
+        private final List<ArgumentSource> sources = new ArrayList<>();
+        private boolean resetToDefaults;
+
+        private boolean displayHelp;
+        private String programDescription;
+        private boolean displaySyntax = true;
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        /**
+         * Registers an event with the argument name.
+         *
+         * @param argumentName
+         *            the name of the argument.
+         * @param evt
+         *            the event that will be called if the argument is present.
+         * @return this builder.
+         * @throws IllegalArgumentException
+         *             if the argument name has already been registered.
+         */
+        public Builder<T> event(String argumentName, IArgumentEvent evt) {
+            if (events.containsKey(argumentName))
+                throw new IllegalArgumentException("An event has already been registered for argument: " + argumentName);
+            events.put(argumentName, evt);
+            return this;
+        }
+
+        /**
+         * Sets if events should be called each time their argument is present, instead of once regardless of how many times the argument is
+         * present. (Default: false)
+         *
+         * @param fireEventsPerOccurrence
+         *            if true events will be called each time their argument is present.
+         * @return this builder.
+         */
+        public Builder<T> fireEventsPerOccurrence(boolean fireEventsPerOccurrence) {
+            this.fireEventsPerOccurrence = fireEventsPerOccurrence;
+            return this;
+        }
+
+        /**
+         * Adds types whose {@link CmdArgument CmdArguments} will be ignored when parsing.
+         *
+         * @param types
+         *            the types to ignore.
+         * @return this builder.
+         */
+        public Builder<T> ignore(Class<?>... types) {
+            Collections.addAll(ignoreTypes, types);
+            return this;
+        }
+
+        /**
+         * Sets if an argument {@code @file} will be replaced with the arguments within the UTF-8 file, {@code @@arg} can be used to pass an argument
+         * starting with {@code @}. Argument files are memory-mapped and tokenized in chunks. (Default: false)
+         *
+         * @param expandArgumentFiles
+         *            if true arguments starting with {@code @} will be expanded.
+         * @return this builder.
+         */
+        public Builder<T> expandArgumentFiles(boolean expandArgumentFiles) {
+            this.expandArgumentFiles = expandArgumentFiles;
+            return this;
+        }
+
+        /**
+         * Sets if keys can be abbreviated to any prefix that only one key starts with, e.g. {@code --pass} for {@code password}. A key that
+         * exactly matches is always preferred, and a prefix of several keys fails as ambiguous. Ignored types must always be matched exactly.
+         * (Default: false)
+         *
+         * @param allowAbbreviations
+         *            if true keys can be abbreviated.
+         * @return this builder.
+         */
+        public Builder<T> allowAbbreviations(boolean allowAbbreviations) {
+            this.allowAbbreviations = allowAbbreviations;
+            return this;
+        }
+
+        /**
+         * Sets the listener that receives the timings and failures of each parse. The schema lookup is reported once, when the parser is built.
+         * (Default: null)
+         *
+         * @param listener
+         *            the listener, or null to not time parses.
+         * @return this builder.
+         */
+        public Builder<T> listener(ParseListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Adds a source of argument values, such as {@link ArgumentSource#environment(String) environment variables} or a
+         * {@link ArgumentSource#properties(java.nio.file.Path) properties file}. Each source is read at the start of every parse, only for the keys
+         * of the parsed type. Sources added later take precedence over those added earlier, and the command line always takes precedence over
+         * every source.
+         *
+         * @param source
+         *            the source.
+         * @return this builder.
+         */
+        public Builder<T> source(ArgumentSource source) {
+            if (source == null)
+                throw new IllegalArgumentException("source must not be null");
+            sources.add(source);
+            return this;
+        }
+
+        /**
+         * Sets if the fields of each object are {@link ArgumentParser#reset(Object) reset} to their defaults before it's parsed, so fields set by
+         * a previous parse don't leak into the next when the same object is parsed repeatedly, e.g. one command per line of an interactive shell.
+         * The defaults are captured from the first object parsed, which should be freshly constructed. (Default: false)
+         *
+         * @param resetToDefaults
+         *            if true fields are reset before each parse.
+         * @return this builder.
+         */
+        public Builder<T> resetToDefaults(boolean resetToDefaults) {
+            this.resetToDefaults = resetToDefaults;
+            return this;
+        }
+
+        /**
+         * Sets if generated help will be displayed if an error occurred. (Default: false)
+         *
+         * @param displayHelp
+         *            if true generated help will be displayed if an error occurred.
+         * @return this builder.
+         */
+        public Builder<T> displayHelp(boolean displayHelp) {
+            this.displayHelp = displayHelp;
+            return this;
+        }
+
+        /**
+         * Sets the description that will be used in the generated help. (Default: null)
+         *
+         * @param programDescription
+         *            the description, null or empty to disable the description.
+         * @return this builder.
+         */
+        public Builder<T> programDescription(String programDescription) {
+            this.programDescription = programDescription;
+            return this;
+        }
+
+        /**
+         * Sets if the syntax will be displayed within the generated help. (Default: true)
+         *
+         * @param displaySyntax
+         *            if true the syntax will be displayed within the generated help.
+         * @return this builder.
+         */
+        public Builder<T> displaySyntax(boolean displaySyntax) {
+            this.displaySyntax = displaySyntax;
+            return this;
+        }
+
+        /**
+         * Builds an immutable parser. The schema of the type and the ignored types are compiled if they haven't been used before.
+         *
+         * @return a new parser.
+         */
+        public ArgumentParser<T> build() {
+            return new ArgumentParser<>(this);
+        }
+    }
+}
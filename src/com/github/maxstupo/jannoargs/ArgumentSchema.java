@@ -0,0 +1,218 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable, compiled view of all fields annotated with {@link CmdArgument} within a class and its superclasses. Schemas are compiled once per
+ * class on first use and cached, so parsing and help generation don't need to scan the class with reflection again.
+ * <p>
+ *
+ * A class with a constructor that has {@link CmdArgument} parameters, such as a record, is bound through its {@link ConstructorBinder} instead
+ * of its fields. Its bindings set the parameters within a {@link ConstructorBinder.Staging} area, which is parsed in place of the object.
+ *
+ * @author Maxstupo
+ */
+final class ArgumentSchema implements ArgumentTarget {
+
+    private static final ClassValue<ArgumentSchema> schemas = new ClassValue<ArgumentSchema>() {
+        @Override
+        protected ArgumentSchema computeValue(Class<?> type) {
+            return new ArgumentSchema(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Map<String, ArgumentBinding> bindings;
+    private final KeyIndex keyIndex;
+    private final List<ArgumentBinding> visibleBindings;
+    private final boolean multiValuedKeys;
+    private final Map<String, Constraints> constraints;
+    private final Constraints[] required;
+    private final ConstructorBinder constructorBinder;
+
+    private ArgumentSchema(Class<?> type) {
+        this.type = type;
+        this.constructorBinder = ConstructorBinder.of(type);
+
+        Map<String, ArgumentBinding> bindings = new HashMap<>();
+        if (constructorBinder != null) {
+            // Record components are also annotated fields, which are final and can't be set.
+            for (ArgumentBinding binding : constructorBinder.getBindings()) {
+                if (bindings.put(binding.getKey(), binding) != null)
+                    throw new IllegalArgumentException("Argument key '" + binding.getKey() + "' is declared twice by the constructor of " + type.getName());
+            }
+        } else {
+            // Superclass fields are added first, allowing subclasses to redeclare a key.
+            for (Class<?> cls : hierarchy(type)) {
+                for (Field field : cls.getDeclaredFields()) {
+                    CmdArgument anno = field.getAnnotation(CmdArgument.class);
+                    if (anno == null)
+                        continue;
+                    bindings.put(anno.key(), new ArgumentBinding(anno, field));
+                }
+            }
+        }
+        this.bindings = Collections.unmodifiableMap(bindings);
+        this.keyIndex = new KeyIndex(bindings.keySet());
+
+        Map<String, ArgumentBinding> sorted = new TreeMap<>();
+        for (ArgumentBinding binding : bindings.values()) {
+            if (!binding.isHidden())
+                sorted.put(binding.getKey(), binding);
+        }
+        this.visibleBindings = Collections.unmodifiableList(new ArrayList<>(sorted.values()));
+
+        boolean multiValuedKeys = false;
+        for (ArgumentBinding binding : bindings.values())
+            multiValuedKeys |= binding.isMultiValued();
+        this.multiValuedKeys = multiValuedKeys;
+
+        // Only keys whose value is checked are looked up while parsing.
+        Map<String, Constraints> constraints = new HashMap<>();
+        Map<String, Constraints> required = new TreeMap<>();
+        for (ArgumentBinding binding : bindings.values()) {
+            Constraints constraint = binding.getConstraints();
+            if (constraint == null)
+                continue;
+            if (constraint.checksValue())
+                constraints.put(binding.getKey(), constraint);
+            if (constraint.isRequired())
+                required.put(binding.getKey(), constraint);
+        }
+        this.constraints = constraints.isEmpty() ? Collections.<String, Constraints> emptyMap() : constraints;
+        this.required = required.values().toArray(new Constraints[required.size()]);
+    }
+
+    /**
+     * @return the given class and its superclasses, from the top of the hierarchy down.
+     */
+    private static Deque<Class<?>> hierarchy(Class<?> type) {
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass())
+            hierarchy.push(cls);
+        return hierarchy;
+    }
+
+    /**
+     * Returns the compiled schema for the given class, compiling it if this is the first time the class has been used.
+     *
+     * @param type
+     *            the class.
+     * @return the compiled schema for the given class.
+     */
+    static ArgumentSchema of(Class<?> type) {
+        return schemas.get(type);
+    }
+
+    /**
+     * Returns the binding for the given key.
+     *
+     * @param key
+     *            the {@link CmdArgument#key() key}.
+     * @return the binding for the given key, or null if this schema doesn't contain the key.
+     */
+    ArgumentBinding get(String key) {
+        return bindings.get(key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return bindings.containsKey(key);
+    }
+
+    @Override
+    public KeyIndex getKeyIndex() {
+        return keyIndex;
+    }
+
+    @Override
+    public boolean setBoolean(Object obj, String key, boolean state) {
+        ArgumentBinding binding = bindings.get(key);
+        return binding != null && binding.setBoolean(obj, state);
+    }
+
+    @Override
+    public boolean setValue(Object obj, String key, String value) {
+        ArgumentBinding binding = bindings.get(key);
+        return binding != null && binding.setValue(obj, value);
+    }
+
+    @Override
+    public boolean isPath(String key) {
+        ArgumentBinding binding = bindings.get(key);
+        return binding != null && binding.isPath();
+    }
+
+    @Override
+    public boolean hasMultiValuedKeys() {
+        return multiValuedKeys;
+    }
+
+    @Override
+    public Accumulator newAccumulator(String key) {
+        ArgumentBinding binding = bindings.get(key);
+        return binding == null ? null : binding.newAccumulator();
+    }
+
+    @Override
+    public boolean hasConstraints() {
+        return !constraints.isEmpty() || required.length > 0;
+    }
+
+    @Override
+    public String checkValue(String key, String value) {
+        Constraints constraint = constraints.get(key);
+        return constraint == null ? null : constraint.check(value);
+    }
+
+    @Override
+    public String checkBounds(String key, String value) {
+        Constraints constraint = constraints.get(key);
+        return constraint == null ? null : constraint.checkBounds(value);
+    }
+
+    @Override
+    public Constraints[] getRequired() {
+        return required;
+    }
+
+    /**
+     * Returns all bindings within this schema.
+     *
+     * @return an unmodifiable collection of all bindings.
+     */
+    Collection<ArgumentBinding> getBindings() {
+        return bindings.values();
+    }
+
+    /**
+     * Returns all bindings that aren't {@link CmdArgument#hide() hidden}, sorted by key.
+     *
+     * @return an unmodifiable list of all visible bindings, sorted by key.
+     */
+    List<ArgumentBinding> getVisibleBindings() {
+        return visibleBindings;
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the binder of the constructor this schema is bound through.
+     *
+     * @return the constructor binder, or null if this schema is bound through fields.
+     */
+    ConstructorBinder getConstructorBinder() {
+        return constructorBinder;
+    }
+}
@@ -0,0 +1,343 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A source of argument values other than the command line, such as environment variables or a properties file. Sources are added to an
+ * {@link ArgumentParser.Builder#source(ArgumentSource) ArgumentParser} in order of increasing precedence, and the command line always has the
+ * highest precedence.
+ * <p>
+ *
+ * A source is only asked for the keys within the schema being parsed, and its values are converted the same as command line values. Boolean
+ * fields accept the values {@code true} and {@code false}. The values of a multi-valued field from a later source replace those of an
+ * earlier source. Values from a source don't fire {@link IArgumentEvent events}, as events are fired for arguments present on the command line.
+ * <p>
+ *
+ * Custom sources implement {@link #get(String)}.
+ *
+ * @author Maxstupo
+ * @see ParseResult#getSource(String)
+ */
+public abstract class ArgumentSource {
+
+    /** The name reported for values given on the command line. */
+    public static final String COMMAND_LINE = "command line";
+
+    private final String name;
+
+    /**
+     * @param name
+     *            the name of this source, reported as the source of its values.
+     */
+    protected ArgumentSource(String name) {
+        if (name == null)
+            throw new IllegalArgumentException("name must not be null");
+        this.name = name;
+    }
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key
+     *            the {@link CmdArgument#key() key}.
+     * @return the value, or null if this source doesn't have a value for the key.
+     */
+    protected abstract String get(String key);
+
+    /**
+     * Passes the value of each key within the given index that this source has a value for to the given consumer.
+     *
+     * @throws UncheckedIOException
+     *             if this source can't be read.
+     */
+    void resolve(KeyIndex keys, BiConsumer<String, String> values) {
+        for (String key : keys.keys()) {
+            String value = get(key);
+            if (value != null)
+                values.accept(key, value);
+        }
+    }
+
+    /**
+     * Returns the name of this source.
+     *
+     * @return the name of this source.
+     */
+    public final String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Returns a source of environment variables. A key is upper-cased and each character that isn't a letter or digit is replaced with an
+     * underscore, after the prefix, e.g. the key {@code max-threads} with the prefix {@code APP_} is read from {@code APP_MAX_THREADS}.
+     *
+     * @param prefix
+     *            the prefix of the variable names, may be empty.
+     * @return a source of environment variables.
+     */
+    public static ArgumentSource environment(final String prefix) {
+        return new ArgumentSource("environment") {
+            @Override
+            protected String get(String key) {
+                return System.getenv(environmentName(prefix, key));
+            }
+        };
+    }
+
+    static String environmentName(String prefix, String key) {
+        StringBuilder sb = new StringBuilder(prefix.length() + key.length()).append(prefix);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            sb.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a source of system properties, reading the key after the prefix, e.g. the key {@code port} with the prefix {@code app.} is read from
+     * {@code app.port}.
+     *
+     * @param prefix
+     *            the prefix of the property names, may be empty.
+     * @return a source of system properties.
+     */
+    public static ArgumentSource systemProperties(final String prefix) {
+        return new ArgumentSource("system properties") {
+            @Override
+            protected String get(String key) {
+                return System.getProperty(prefix + key);
+            }
+        };
+    }
+
+    /**
+     * Returns a source of the given values.
+     *
+     * @param name
+     *            the name of the source.
+     * @param values
+     *            the values referenced by key, read each time the source is used.
+     * @return a source of the given values.
+     */
+    public static ArgumentSource of(String name, final Map<String, String> values) {
+        return new ArgumentSource(name) {
+            @Override
+            protected String get(String key) {
+                return values.get(key);
+            }
+        };
+    }
+
+    /**
+     * Returns a source of a UTF-8 properties file, the same as {@link #properties(Path, Charset)}.
+     *
+     * @param path
+     *            the path of the properties file.
+     * @return a source of the properties file.
+     */
+    public static ArgumentSource properties(Path path) {
+        return properties(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a source of a properties file, using the syntax of {@link java.util.Properties#load(java.io.Reader)}. The file is read in a single
+     * buffered pass each time the source is used, and only the values of keys within the schema are kept. A file that doesn't exist has no
+     * values, and a file with a malformed <code>&#92;uxxxx</code> escape fails to be read.
+     *
+     * @param path
+     *            the path of the properties file.
+     * @param charset
+     *            the charset of the file.
+     * @return a source of the properties file.
+     */
+    public static ArgumentSource properties(Path path, Charset charset) {
+        return new PropertiesSource(path, charset);
+    }
+
+    private static final class PropertiesSource extends ArgumentSource {
+
+        private final Path path;
+        private final Charset charset;
+
+        PropertiesSource(Path path, Charset charset) {
+            super(path.toString());
+            this.path = path;
+            this.charset = charset;
+        }
+
+        @Override
+        protected String get(String key) {
+            Map<String, String> values = new HashMap<>();
+            read(new KeyIndex(Collections.singleton(key)), values);
+            return values.get(key);
+        }
+
+        @Override
+        void resolve(KeyIndex keys, BiConsumer<String, String> values) {
+            // The last value of a key wins, the same as Properties.
+            Map<String, String> found = new HashMap<>();
+            read(keys, found);
+            for (Map.Entry<String, String> entry : found.entrySet())
+                values.accept(entry.getKey(), entry.getValue());
+        }
+
+        private void read(KeyIndex keys, Map<String, String> values) {
+            try (BufferedReader reader = Files.newBufferedReader(path, charset)) {
+                StringBuilder logical = new StringBuilder();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int start = skipWhitespace(line, 0);
+                    if (logical.length() == 0 && (start == line.length() || line.charAt(start) == '#' || line.charAt(start) == '!'))
+                        continue;
+
+                    if (continues(line)) {
+                        logical.append(line, start, line.length() - 1);
+                        continue;
+                    }
+
+                    if (logical.length() == 0) {
+                        entry(line, start, keys, values);
+                    } else {
+                        logical.append(line, start, line.length());
+                        entry(logical, 0, keys, values);
+                        logical.setLength(0);
+                    }
+                }
+                if (logical.length() > 0)
+                    entry(logical, 0, keys, values);
+
+            } catch (NoSuchFileException e) {
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Parses a logical line, keeping the value only if the key is within the index.
+         */
+        private void entry(CharSequence line, int start, KeyIndex keys, Map<String, String> values) throws IOException {
+            int end = line.length();
+
+            // The key ends at the first unescaped separator or whitespace.
+            int keyEnd = start;
+            boolean escaped = false;
+            for (; keyEnd < end; keyEnd++) {
+                char c = line.charAt(keyEnd);
+                if (c == '\\') {
+                    escaped = true;
+                    keyEnd++;
+                } else if (c == '=' || c == ':' || Character.isWhitespace(c)) {
+                    break;
+                }
+            }
+            keyEnd = Math.min(keyEnd, end);
+
+            String key;
+            if (escaped) {
+                String unescaped = unescape(line, start, keyEnd);
+                key = keys.find(unescaped, 0, unescaped.length());
+            } else {
+                key = keys.find(line, start, keyEnd);
+            }
+            if (key == null)
+                return;
+
+            int valueStart = skipWhitespace(line, keyEnd);
+            if (valueStart < end && (line.charAt(valueStart) == '=' || line.charAt(valueStart) == ':'))
+                valueStart = skipWhitespace(line, valueStart + 1);
+            values.put(key, unescape(line, valueStart, end));
+        }
+
+        /**
+         * @return true if the line ends with an odd number of backslashes.
+         */
+        private static boolean continues(String line) {
+            int backslashes = 0;
+            for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; i--)
+                backslashes++;
+            return (backslashes & 1) == 1;
+        }
+
+        private static int skipWhitespace(CharSequence s, int i) {
+            while (i < s.length() && (s.charAt(i) == ' ' || s.charAt(i) == '\t' || s.charAt(i) == '\f'))
+                i++;
+            return i;
+        }
+
+        /**
+         * @throws IOException
+         *             if a unicode escape isn't four hexadecimal digits, which {@link java.util.Properties#load(java.io.Reader)} rejects too.
+         */
+        private String unescape(CharSequence s, int start, int end) throws IOException {
+            StringBuilder sb = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                char c = s.charAt(i);
+                if (c != '\\' || i + 1 == end) {
+                    sb.append(c);
+                    continue;
+                }
+
+                c = s.charAt(++i);
+                switch (c) {
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 'f':
+                        sb.append('\f');
+                        break;
+                    case 'u':
+                        int code = 0;
+                        for (int j = 1; j <= 4; j++) {
+                            int digit = i + j < end ? hexDigit(s.charAt(i + j)) : -1;
+                            if (digit == -1)
+                                throw new IOException("Malformed \\uxxxx encoding in properties file: " + path);
+                            code = code << 4 | digit;
+                        }
+                        sb.append((char) code);
+                        i += 4;
+                        break;
+                    default:
+                        sb.append(c);
+                        break;
+                }
+            }
+            return sb.toString();
+        }
+
+        /**
+         * @return the value of an ASCII hexadecimal digit, or -1 if the character isn't one.
+         */
+        private static int hexDigit(char c) {
+            if (c >= '0' && c <= '9')
+                return c - '0';
+            if (c >= 'a' && c <= 'f')
+                return c - 'a' + 10;
+            if (c >= 'A' && c <= 'F')
+                return c - 'A' + 10;
+            return -1;
+        }
+    }
+}
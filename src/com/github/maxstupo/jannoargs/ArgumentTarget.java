@@ -0,0 +1,74 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * The key dispatch used by {@link JAnnoArgs} when parsing into an object. Implemented by the reflective {@link ArgumentSchema} and by
+ * {@link ArgumentTargets#of(Class) adapters} of {@link GeneratedParser generated parsers}.
+ *
+ * @author Maxstupo
+ */
+interface ArgumentTarget {
+
+    boolean containsKey(String key);
+
+    /**
+     * Returns the index of all keys, used to match keys directly from the arguments.
+     */
+    KeyIndex getKeyIndex();
+
+    /**
+     * Sets the boolean field referenced by the given key.
+     *
+     * @return false if the key doesn't exist or doesn't reference a boolean field.
+     */
+    boolean setBoolean(Object obj, String key, boolean state);
+
+    /**
+     * Converts the given value and sets the field referenced by the given key. Numeric bounds are checked on the converted value.
+     *
+     * @return false if the key doesn't exist, the value can't be converted to the field type or the converted value is out of bounds.
+     */
+    boolean setValue(Object obj, String key, String value);
+
+    /**
+     * Returns true if the values of the given key are file system paths, which are resolved against the working directory of a
+     * {@link ParseServer} request before they're converted.
+     */
+    boolean isPath(String key);
+
+    /**
+     * Returns true if any key references a multi-valued field.
+     */
+    boolean hasMultiValuedKeys();
+
+    /**
+     * Creates an accumulator to collect the values of the field referenced by the given key during a parse.
+     *
+     * @return a new accumulator, or null if the key doesn't reference a multi-valued field.
+     */
+    Accumulator newAccumulator(String key);
+
+    /**
+     * Returns true if any key has {@link CmdArgument} constraints, so {@link #checkValue(String, String)}, {@link #checkBounds(String, String)}
+     * and {@link #getRequired()} need to be used.
+     */
+    boolean hasConstraints();
+
+    /**
+     * Checks the given value against the pattern and allowed values of the given key, before it's converted.
+     *
+     * @return the violation, or null if the value satisfies the constraints or the key has none.
+     */
+    String checkValue(String key, String value);
+
+    /**
+     * Checks the given value against the numeric bounds of the given key, once {@link #setValue(Object, String, String)} has rejected it.
+     *
+     * @return the violation, or null if the value is within the bounds, isn't a number or the key has none.
+     */
+    String checkBounds(String key, String value);
+
+    /**
+     * Returns the constraints of the keys that must be present. The array is shared and must not be modified.
+     */
+    Constraints[] getRequired();
+}
@@ -0,0 +1,155 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.Arrays;
+
+/**
+ * Resolves the {@link ArgumentTarget} for a class, preferring a {@link GeneratedParser} when one was generated at compile time and falling back to
+ * the reflective {@link ArgumentSchema} when not.
+ *
+ * @author Maxstupo
+ */
+final class ArgumentTargets {
+
+    private static final Constraints[] NO_CONSTRAINTS = new Constraints[0];
+
+    /** Appended to the name of a class, with nested classes joined by underscores, to name its generated parser. */
+    private static final String GENERATED_SUFFIX = "Args";
+
+    private static final ClassValue<GeneratedParser<Object>> generatedParsers = new ClassValue<GeneratedParser<Object>>() {
+        @Override
+        protected GeneratedParser<Object> computeValue(Class<?> type) {
+            return findGeneratedParser(type);
+        }
+    };
+
+    private static final ClassValue<ArgumentTarget> targets = new ClassValue<ArgumentTarget>() {
+        @Override
+        protected ArgumentTarget computeValue(Class<?> type) {
+            GeneratedParser<Object> parser = generatedParsers.get(type);
+            if (parser == null)
+                return ArgumentSchema.of(type);
+            return new GeneratedTarget(parser, new KeyIndex(Arrays.asList(parser.keys())));
+        }
+    };
+
+    private ArgumentTargets() {
+    }
+
+    /**
+     * Returns the target used to parse into objects of the given class.
+     *
+     * @param type
+     *            the class.
+     * @return the target used to parse into objects of the given class.
+     */
+    static ArgumentTarget of(Class<?> type) {
+        return targets.get(type);
+    }
+
+    /**
+     * Returns the generated parser for the given class.
+     *
+     * @param type
+     *            the class.
+     * @return the generated parser for the given class, or null if no parser was generated or it can't be loaded.
+     */
+    static GeneratedParser<Object> generatedParser(Class<?> type) {
+        return generatedParsers.get(type);
+    }
+
+    /**
+     * Loads the parser generated for the given class by name from the class loader of the class, so only the parser of the class is loaded. A
+     * parser that can't be loaded or created falls back to the reflective schema.
+     */
+    @SuppressWarnings("unchecked")
+    private static GeneratedParser<Object> findGeneratedParser(Class<?> type) {
+        try {
+            Class<?> parserType = Class.forName(generatedName(type), true, type.getClassLoader());
+            if (!GeneratedParser.class.isAssignableFrom(parserType))
+                return null;
+
+            GeneratedParser<Object> parser = (GeneratedParser<Object>) parserType.getConstructor().newInstance();
+            return parser.type() == type ? parser : null;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the binary name of the parser generated for the given class, e.g. {@code a.b.Outer_InnerArgs} for {@code a.b.Outer$Inner}.
+     */
+    private static String generatedName(Class<?> type) {
+        String name = type.getName();
+        int packageEnd = name.lastIndexOf('.') + 1;
+        return name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_') + GENERATED_SUFFIX;
+    }
+
+    private static final class GeneratedTarget implements ArgumentTarget {
+
+        private final GeneratedParser<Object> parser;
+        private final KeyIndex keyIndex;
+
+        GeneratedTarget(GeneratedParser<Object> parser, KeyIndex keyIndex) {
+            this.parser = parser;
+            this.keyIndex = keyIndex;
+        }
+
+        @Override
+        public boolean containsKey(String key) {
+            return parser.containsKey(key);
+        }
+
+        @Override
+        public KeyIndex getKeyIndex() {
+            return keyIndex;
+        }
+
+        @Override
+        public boolean setBoolean(Object obj, String key, boolean state) {
+            return parser.setBoolean(obj, key, state);
+        }
+
+        @Override
+        public boolean setValue(Object obj, String key, String value) {
+            return parser.setValue(obj, key, value);
+        }
+
+        @Override
+        public boolean isPath(String key) {
+            // Only asked when parsing a server request, the schema is compiled once for the first request.
+            return ArgumentSchema.of(parser.type()).isPath(key);
+        }
+
+        @Override
+        public boolean hasMultiValuedKeys() {
+            // Parsers aren't generated for classes with multi-valued fields.
+            return false;
+        }
+
+        @Override
+        public Accumulator newAccumulator(String key) {
+            return null;
+        }
+
+        @Override
+        public boolean hasConstraints() {
+            // Parsers aren't generated for classes with constraints.
+            return false;
+        }
+
+        @Override
+        public String checkValue(String key, String value) {
+            return null;
+        }
+
+        @Override
+        public String checkBounds(String key, String value) {
+            return null;
+        }
+
+        @Override
+        public Constraints[] getRequired() {
+            return NO_CONSTRAINTS;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An incremental tokenizer that splits characters into arguments, reading its input in fixed size chunks so memory use doesn't grow with the size
+ * of the input. Each argument is passed to a {@link Sink} as a reusable buffer, only valid for the duration of the call.
+ * <p>
+ *
+ * Syntax:<br>
+ * - Arguments are separated by whitespace.<br>
+ * - Single quotes (') group characters literally, double quotes (") group characters allowing {@code \"} and {@code \\} escapes.<br>
+ * - Outside of quotes a backslash (\) escapes the next character.<br>
+ * - If enabled, an unquoted argument {@code @file} is replaced with the arguments within the UTF-8 file, and {@code @@arg} is passed as
+ * {@code @arg}. Files are memory-mapped and decoded in chunks.
+ *
+ * @author Maxstupo
+ */
+final class ArgumentTokenizer {
+
+    /** Receives the arguments of a tokenizer. */
+    interface Sink {
+
+        /**
+         * Called for each argument.
+         *
+         * @param arg
+         *            the argument, only valid for the duration of this call.
+         * @return false to stop tokenizing.
+         */
+        boolean accept(CharSequence arg);
+    }
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final long MAP_WINDOW = 16L * 1024 * 1024;
+    private static final int MAX_FILE_DEPTH = 16;
+
+    private final boolean expandArgumentFiles;
+    private final Path workingDirectory;
+    private final TokenBuffer token = new TokenBuffer();
+
+    private boolean inToken;
+    private boolean quotedStart;
+    private char quote;
+    private boolean escape;
+    private int depth;
+
+    /**
+     * @param expandArgumentFiles
+     *            if true unquoted arguments starting with {@code @} are expanded to the arguments within the file.
+     * @param workingDirectory
+     *            the directory relative argument files are resolved against, or null for the working directory of this process.
+     */
+    ArgumentTokenizer(boolean expandArgumentFiles, Path workingDirectory) {
+        this.expandArgumentFiles = expandArgumentFiles;
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Tokenizes all characters from the given reader.
+     *
+     * @return false if the sink stopped tokenizing or a quote wasn't closed.
+     * @throws IOException
+     *             if an I/O error occurs.
+     */
+    boolean tokenize(Reader reader, Sink sink) throws IOException {
+        char[] chunk = new char[CHUNK_SIZE];
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (!next(chunk[i], sink))
+                    return false;
+            }
+        }
+        return end(sink);
+    }
+
+    /**
+     * Tokenizes all characters of the given sequence.
+     *
+     * @return false if the sink stopped tokenizing or a quote wasn't closed.
+     * @throws IOException
+     *             if an argument file can't be read.
+     */
+    boolean tokenize(CharSequence s, Sink sink) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            if (!next(s.charAt(i), sink))
+                return false;
+        }
+        return end(sink);
+    }
+
+    /**
+     * Passes the given argument to the sink, expanding it if it's an argument file.
+     *
+     * @return false if the sink stopped tokenizing or a quote wasn't closed.
+     * @throws IOException
+     *             if an argument file can't be read.
+     */
+    boolean argument(String arg, Sink sink) throws IOException {
+        if (expandArgumentFiles && arg.startsWith("@")) {
+            if (arg.startsWith("@@"))
+                return sink.accept(arg.substring(1));
+            Path path = Paths.get(arg.substring(1));
+            return tokenizeFile(workingDirectory == null ? path : workingDirectory.resolve(path), sink);
+        }
+        return sink.accept(arg);
+    }
+
+    /**
+     * Tokenizes all characters of the given UTF-8 file. The file is memory-mapped in windows and decoded in chunks.
+     *
+     * @return false if the sink stopped tokenizing or a quote wasn't closed.
+     * @throws IOException
+     *             if the file can't be read.
+     */
+    boolean tokenizeFile(Path path, Sink sink) throws IOException {
+        if (depth >= MAX_FILE_DEPTH)
+            throw new IOException("Argument files nested too deeply: " + path);
+
+        // Argument files are tokenized on their own, the state of the enclosing input resumes afterwards.
+        boolean inToken = this.inToken, quotedStart = this.quotedStart, escape = this.escape;
+        char quote = this.quote;
+        this.inToken = this.quotedStart = this.escape = false;
+        this.quote = 0;
+        depth++;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT);
+            CharBuffer chunk = CharBuffer.allocate(CHUNK_SIZE);
+
+            long size = channel.size();
+            long position = 0;
+            do {
+                long windowSize = Math.min(MAP_WINDOW, size - position);
+                boolean last = position + windowSize == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+
+                CoderResult result;
+                do {
+                    result = decoder.decode(window, chunk, last);
+                    if (result.isError())
+                        result.throwException();
+                    if (!drain(chunk, sink))
+                        return false;
+                } while (result.isOverflow());
+
+                // Bytes of a character split across windows are decoded with the next window.
+                position += window.position();
+            } while (position < size);
+
+            while (decoder.flush(chunk).isOverflow()) {
+                if (!drain(chunk, sink))
+                    return false;
+            }
+            return drain(chunk, sink) && end(sink);
+
+        } catch (CharacterCodingException e) {
+            throw new IOException("Argument file isn't valid UTF-8: " + path, e);
+        } finally {
+            depth--;
+            this.inToken = inToken;
+            this.quotedStart = quotedStart;
+            this.escape = escape;
+            this.quote = quote;
+        }
+    }
+
+    private boolean drain(CharBuffer chunk, Sink sink) throws IOException {
+        chunk.flip();
+        char[] chars = chunk.array();
+        for (int i = chunk.position(); i < chunk.limit(); i++) {
+            if (!next(chars[i], sink))
+                return false;
+        }
+        chunk.clear();
+        return true;
+    }
+
+    private boolean next(char c, Sink sink) throws IOException {
+        if (escape) {
+            escape = false;
+            if (quote == '"' && c != '"' && c != '\\')
+                token.append('\\');
+            token.append(c);
+            return true;
+        }
+
+        if (quote != 0) {
+            if (c == quote) {
+                quote = 0;
+            } else if (c == '\\' && quote == '"') {
+                escape = true;
+            } else {
+                token.append(c);
+            }
+            return true;
+        }
+
+        if (Character.isWhitespace(c))
+            return !inToken || flush(sink);
+
+        if (!inToken) {
+            inToken = true;
+            quotedStart = c == '"' || c == '\'';
+        }
+
+        if (c == '"' || c == '\'') {
+            quote = c;
+        } else if (c == '\\') {
+            escape = true;
+        } else {
+            token.append(c);
+        }
+        return true;
+    }
+
+    private boolean end(Sink sink) throws IOException {
+        if (quote != 0 || escape)
+            return false;
+        return !inToken || flush(sink);
+    }
+
+    private boolean flush(Sink sink) throws IOException {
+        inToken = false;
+        if (expandArgumentFiles && !quotedStart && token.length() > 0 && token.charAt(0) == '@') {
+            String arg = token.toString();
+            token.clear();
+            return argument(arg, sink);
+        }
+
+        try {
+            return sink.accept(token);
+        } finally {
+            token.clear();
+        }
+    }
+
+    /** A growable, reusable character buffer. */
+    private static final class TokenBuffer implements CharSequence {
+
+        private char[] chars = new char[64];
+        private int length;
+
+        void append(char c) {
+            if (length == chars.length) {
+                char[] grown = new char[chars.length * 2];
+                System.arraycopy(chars, 0, grown, 0, length);
+                chars = grown;
+            }
+            chars[length++] = c;
+        }
+
+        void clear() {
+            length = 0;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index >= length)
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end)
+                throw new IndexOutOfBoundsException(start + ", " + end);
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
+}
@@ -6,13 +6,19 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Annotation used by JAnnoArgs for setting a field from command line arguments.
+ * Annotation used by JAnnoArgs for setting a field from command line arguments. Can also be placed on the parameters of a single constructor,
+ * or the components of a record, to create immutable objects with {@link ArgumentParser#newInstance(String...)}.
+ * <p>
+ * 
+ * Values can be constrained with {@link #min()}, {@link #max()}, {@link #minLong()}, {@link #maxLong()}, {@link #pattern()}, {@link #allowed()} and {@link #required()}. The
+ * constraints are compiled once per class and checked while parsing, and every violation is reported together with
+ * {@link FailureCause#CONSTRAINT_VIOLATION}.
  * 
  * @author Maxstupo
  */
 
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
 public @interface CmdArgument {
 	/**
 	 * The key for referencing the field using command line arguments.
@@ -34,4 +40,55 @@ public @interface CmdArgument {
 	 * @return true if this arument will not be listed in the help.
 	 */
 	boolean hide() default false;
+
+	/**
+	 * If true parsing fails unless this argument is present, on the command line or from an {@link ArgumentSource}. (Default: false)
+	 * 
+	 * @return true if this argument must be present.
+	 */
+	boolean required() default false;
+
+	/**
+	 * The smallest value allowed, inclusive. Only applies to numeric fields. (Default: no minimum)
+	 * 
+	 * @return the smallest value allowed.
+	 */
+	double min() default Double.NEGATIVE_INFINITY;
+
+	/**
+	 * The largest value allowed, inclusive. Only applies to numeric fields. (Default: no maximum)
+	 * 
+	 * @return the largest value allowed.
+	 */
+	double max() default Double.POSITIVE_INFINITY;
+
+	/**
+	 * The smallest value allowed, inclusive, of an integral field. Unlike {@link #min()} it holds any long exactly, e.g. beyond 2^53. If both are
+	 * given the larger applies. (Default: no minimum)
+	 * 
+	 * @return the smallest value allowed.
+	 */
+	long minLong() default Long.MIN_VALUE;
+
+	/**
+	 * The largest value allowed, inclusive, of an integral field. Unlike {@link #max()} it holds any long exactly, e.g. beyond 2^53. If both are
+	 * given the smaller applies. (Default: no maximum)
+	 * 
+	 * @return the largest value allowed.
+	 */
+	long maxLong() default Long.MAX_VALUE;
+
+	/**
+	 * A regular expression the whole value must match. Doesn't apply to boolean or multi-valued fields. (Default: "", any value)
+	 * 
+	 * @return the regular expression the value must match.
+	 */
+	String pattern() default "";
+
+	/**
+	 * The values allowed, compared exactly. Doesn't apply to boolean or multi-valued fields. (Default: {}, any value)
+	 * 
+	 * @return the values allowed.
+	 */
+	String[] allowed() default {};
 }
@@ -0,0 +1,354 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A precomputed index of the {@link CmdArgument} keys of one or more types, used to complete partially typed arguments, e.g. for shell tab
+ * completion. An index is built once with {@link #of(Class...)} and {@link #write(OutputStream) serialized}, so a completion query only
+ * {@link #read(InputStream) reads} the index and never loads or reflects over the types. {@link CmdArgument#hide() Hidden} keys are excluded.
+ * <p>
+ *
+ * Values are completed for enum fields, with the enum constants, for fields with {@link CmdArgument#allowed() allowed} values, with those values,
+ * and for {@link Path}, {@link File} and mapped file fields, with the files in the working directory. Shell scripts that complete without
+ * starting a JVM are generated by {@link CompletionScript}.
+ * <p>
+ *
+ * Run with: {@code java -cp <classes> com.github.maxstupo.jannoargs.CompletionIndex <index-file> [words...]}, which prints the completions of the
+ * last word, one per line.
+ *
+ * @author Maxstupo
+ */
+public final class CompletionIndex {
+
+    /** The first int of a serialized index, {@code "JAC1"}. */
+    private static final int MAGIC = 0x4A414331;
+
+    /** How an argument is completed. */
+    public enum Kind {
+
+        /** A boolean field, completed as {@code +key} or {@code -key}. */
+        FLAG,
+
+        /** A value field, completed as {@code --key} without completing its value. */
+        VALUE,
+
+        /** An enum field or a field with allowed values, whose value is completed with the constants or the allowed values. */
+        ENUM,
+
+        /** A file field, whose value is completed with files. */
+        PATH
+    }
+
+    // Sorted by key.
+    private final String[] keys;
+    private final String[] descs;
+    private final Kind[] kinds;
+    private final String[][] values;
+
+    private CompletionIndex(String[] keys, String[] descs, Kind[] kinds, String[][] values) {
+        this.keys = keys;
+        this.descs = descs;
+        this.kinds = kinds;
+        this.values = values;
+    }
+
+    /**
+     * Builds the index of the given types. Later types replace the keys of earlier types, the same as the generated help.
+     *
+     * @param types
+     *            the types containing {@link CmdArgument} fields or constructor parameters.
+     * @return the index.
+     */
+    public static CompletionIndex of(Class<?>... types) {
+        Map<String, ArgumentBinding> merged = new TreeMap<>();
+        for (Class<?> type : types) {
+            for (ArgumentBinding binding : ArgumentSchema.of(type).getVisibleBindings())
+                merged.put(binding.getKey(), binding);
+        }
+
+        int size = merged.size();
+        String[] keys = new String[size];
+        String[] descs = new String[size];
+        Kind[] kinds = new Kind[size];
+        String[][] values = new String[size][];
+
+        int i = 0;
+        for (ArgumentBinding binding : merged.values()) {
+            keys[i] = binding.getKey();
+            descs[i] = binding.getDesc();
+            values[i] = new String[0];
+
+            Class<?> valueType = valueType(binding);
+            Constraints constraints = binding.getConstraints();
+            if (binding.isFlag()) {
+                kinds[i] = Kind.FLAG;
+            } else if (constraints != null && constraints.getAllowed() != null) {
+                kinds[i] = Kind.ENUM;
+                values[i] = constraints.getAllowed().toArray(new String[0]);
+                Arrays.sort(values[i]);
+            } else if (valueType.isEnum()) {
+                kinds[i] = Kind.ENUM;
+                Object[] constants = valueType.getEnumConstants();
+                values[i] = new String[constants.length];
+                for (int j = 0; j < constants.length; j++)
+                    values[i][j] = ((Enum<?>) constants[j]).name();
+            } else if (valueType == Path.class || valueType == File.class || ByteBuffer.class.isAssignableFrom(valueType)) {
+                kinds[i] = Kind.PATH;
+            } else {
+                kinds[i] = Kind.VALUE;
+            }
+            i++;
+        }
+        return new CompletionIndex(keys, descs, kinds, values);
+    }
+
+    /**
+     * @return the type of a single value of the binding, the element type of multi-valued fields and the value type of {@link Lazy} fields.
+     */
+    private static Class<?> valueType(ArgumentBinding binding) {
+        Class<?> type = binding.getType();
+        if (type.isArray())
+            return type.getComponentType();
+
+        if (Lazy.isLazy(type) || Collection.class.isAssignableFrom(type) || type == Iterable.class) {
+            Type genericType = binding.getGenericType();
+            if (genericType instanceof ParameterizedType) {
+                Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                if (argument instanceof Class)
+                    return (Class<?>) argument;
+            }
+            return String.class;
+        }
+        return type;
+    }
+
+    /**
+     * Reads an index written by {@link #write(OutputStream)}.
+     *
+     * @param in
+     *            the stream to read from, it won't be closed.
+     * @return the index.
+     * @throws IOException
+     *             if the stream can't be read or doesn't contain an index.
+     */
+    public static CompletionIndex read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC)
+            throw new IOException("Not a completion index");
+
+        int size = data.readInt();
+        Kind[] allKinds = Kind.values();
+        String[] keys = new String[size];
+        String[] descs = new String[size];
+        Kind[] kinds = new Kind[size];
+        String[][] values = new String[size][];
+        for (int i = 0; i < size; i++) {
+            keys[i] = data.readUTF();
+            descs[i] = data.readUTF();
+            int kind = data.readUnsignedByte();
+            if (kind >= allKinds.length)
+                throw new IOException("Invalid argument kind: " + kind);
+            kinds[i] = allKinds[kind];
+            values[i] = new String[data.readInt()];
+            for (int j = 0; j < values[i].length; j++)
+                values[i][j] = data.readUTF();
+        }
+        return new CompletionIndex(keys, descs, kinds, values);
+    }
+
+    /**
+     * Reads an index from the given file, the same as {@link #read(InputStream)}.
+     *
+     * @param path
+     *            the file.
+     * @return the index.
+     * @throws IOException
+     *             if the file can't be read or doesn't contain an index.
+     */
+    public static CompletionIndex read(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Serializes this index.
+     *
+     * @param out
+     *            the stream to write to, it won't be closed.
+     * @throws IOException
+     *             if the stream can't be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            data.writeUTF(keys[i]);
+            data.writeUTF(descs[i]);
+            data.writeByte(kinds[i].ordinal());
+            data.writeInt(values[i].length);
+            for (String value : values[i])
+                data.writeUTF(value);
+        }
+        data.flush();
+    }
+
+    /**
+     * Returns the completions of the last of the given words, the same as {@link #complete(List, Path)} using the current working directory.
+     *
+     * @param words
+     *            the arguments typed so far, the last is the word being completed and may be empty.
+     * @return the completions, sorted.
+     */
+    public List<String> complete(List<String> words) {
+        return complete(words, Paths.get(""));
+    }
+
+    /**
+     * Returns the completions of the last of the given words. If the previous word is a value key, the value is completed; otherwise keys are
+     * completed, as {@code --key} for value fields and {@code +key} or {@code -key} for boolean fields.
+     *
+     * @param words
+     *            the arguments typed so far, the last is the word being completed and may be empty.
+     * @param workingDirectory
+     *            the directory relative files are completed in.
+     * @return the completions, sorted.
+     */
+    public List<String> complete(List<String> words, Path workingDirectory) {
+        String word = words.isEmpty() ? "" : words.get(words.size() - 1);
+
+        if (words.size() >= 2) {
+            String previous = words.get(words.size() - 2);
+            if (previous.startsWith("--")) {
+                int i = Arrays.binarySearch(keys, previous.substring(2));
+                if (i >= 0 && kinds[i] != Kind.FLAG)
+                    return completeValue(i, word, workingDirectory);
+            }
+        }
+
+        List<String> completions = new ArrayList<>();
+        if (word.startsWith("+")) {
+            addKeys(completions, "+", word.substring(1), true);
+        } else if (word.startsWith("--")) {
+            addKeys(completions, "--", word.substring(2), false);
+        } else if (word.startsWith("-")) {
+            addKeys(completions, "-", word.substring(1), true);
+            addKeys(completions, "--", word.length() == 1 ? "" : null, false);
+        } else if (word.isEmpty()) {
+            addKeys(completions, "--", "", false);
+            addKeys(completions, "+", "", true);
+        }
+        Collections.sort(completions);
+        return completions;
+    }
+
+    /**
+     * Adds the keys starting with the given prefix, found with a binary search of the sorted keys.
+     */
+    private void addKeys(List<String> completions, String syntax, String prefix, boolean flags) {
+        if (prefix == null)
+            return;
+
+        int i = Arrays.binarySearch(keys, prefix);
+        for (i = i < 0 ? -i - 1 : i; i < keys.length && keys[i].startsWith(prefix); i++) {
+            if ((kinds[i] == Kind.FLAG) == flags)
+                completions.add(syntax + keys[i]);
+        }
+    }
+
+    private List<String> completeValue(int key, String word, Path workingDirectory) {
+        List<String> completions = new ArrayList<>();
+        switch (kinds[key]) {
+            case ENUM:
+                for (String value : values[key]) {
+                    if (value.regionMatches(true, 0, word, 0, word.length()))
+                        completions.add(value);
+                }
+                break;
+            case PATH:
+                completeFiles(completions, word, workingDirectory);
+                break;
+            default:
+                break;
+        }
+        Collections.sort(completions);
+        return completions;
+    }
+
+    /**
+     * Adds the files in the directory of the given partial path whose name starts with the rest of the path, with a trailing separator on
+     * directories.
+     */
+    private static void completeFiles(List<String> completions, String word, Path workingDirectory) {
+        int separator = Math.max(word.lastIndexOf('/'), word.lastIndexOf(File.separatorChar));
+        String directory = word.substring(0, separator + 1);
+        String prefix = word.substring(separator + 1);
+
+        Path dir = workingDirectory.resolve(directory.isEmpty() ? "." : directory);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (!name.startsWith(prefix) || (prefix.isEmpty() && name.startsWith(".")))
+                    continue;
+                completions.add(directory + name + (Files.isDirectory(entry) ? "/" : ""));
+            }
+        } catch (IOException | RuntimeException e) {
+            // A directory that doesn't exist or can't be read has no completions.
+        }
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    String getKey(int i) {
+        return keys[i];
+    }
+
+    String getDesc(int i) {
+        return descs[i];
+    }
+
+    Kind getKind(int i) {
+        return kinds[i];
+    }
+
+    String[] getValues(int i) {
+        return values[i];
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: CompletionIndex <index-file> [words...]");
+            System.exit(1);
+        }
+
+        CompletionIndex index = read(Paths.get(args[0]));
+        StringBuilder sb = new StringBuilder();
+        for (String completion : index.complete(Arrays.asList(args).subList(1, args.length)))
+            sb.append(completion).append('\n');
+        System.out.print(sb);
+    }
+}
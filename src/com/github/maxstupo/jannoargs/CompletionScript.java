@@ -0,0 +1,209 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * Generates shell completion scripts from a {@link CompletionIndex}. The keys, enum constants and descriptions are written into the script, so the
+ * shell completes arguments without starting a JVM; file values use the shell's own file completion.
+ * <p>
+ *
+ * Example: {@code CompletionScript.bash("mytool", CompletionIndex.of(Options.class))}, saved to a file that is sourced by the shell.
+ *
+ * @author Maxstupo
+ */
+public final class CompletionScript {
+
+    private CompletionScript() {
+    }
+
+    /**
+     * Generates a bash completion script, registered with {@code complete -F}.
+     *
+     * @param program
+     *            the name of the program, as typed in the shell.
+     * @param index
+     *            the index of the program's arguments.
+     * @return the script.
+     */
+    public static String bash(String program, CompletionIndex index) {
+        String function = "_" + identifier(program) + "_complete";
+        StringBuilder sb = new StringBuilder();
+        sb.append("# bash completion for ").append(program).append(", generated by JAnnoArgs.\n");
+        sb.append(function).append("() {\n");
+        sb.append("    local cur=\"${COMP_WORDS[COMP_CWORD]}\" prev=\"${COMP_WORDS[COMP_CWORD-1]}\"\n");
+
+        // Values of the previous key.
+        sb.append("    case \"$prev\" in\n");
+        for (int i = 0; i < index.size(); i++) {
+            switch (index.getKind(i)) {
+                case ENUM:
+                    sb.append("        ").append(quote("--" + index.getKey(i))).append(") COMPREPLY=($(compgen -W ").append(quote(join(index.getValues(i))));
+                    sb.append(" -- \"$cur\")); return ;;\n");
+                    break;
+                case PATH:
+                    sb.append("        ").append(quote("--" + index.getKey(i))).append(") compopt -o filenames 2>/dev/null; COMPREPLY=($(compgen -f -- \"$cur\")); return ;;\n");
+                    break;
+                case VALUE:
+                    sb.append("        ").append(quote("--" + index.getKey(i))).append(") COMPREPLY=(); return ;;\n");
+                    break;
+                default:
+                    break;
+            }
+        }
+        sb.append("    esac\n");
+
+        // Keys.
+        sb.append("    case \"$cur\" in\n");
+        sb.append("        +*) COMPREPLY=($(compgen -W ").append(quote(keys(index, "+", true))).append(" -- \"$cur\")) ;;\n");
+        sb.append("        --*) COMPREPLY=($(compgen -W ").append(quote(keys(index, "--", false))).append(" -- \"$cur\")) ;;\n");
+        sb.append("        -*) COMPREPLY=($(compgen -W ").append(quote(keys(index, "-", true) + " " + keys(index, "--", false))).append(" -- \"$cur\")) ;;\n");
+        sb.append("        *) COMPREPLY=($(compgen -W ").append(quote(keys(index, "--", false) + " " + keys(index, "+", true))).append(" -- \"$cur\")) ;;\n");
+        sb.append("    esac\n");
+        sb.append("}\n");
+        sb.append("complete -F ").append(function).append(' ').append(quote(program)).append('\n');
+        return sb.toString();
+    }
+
+    /**
+     * Generates a zsh completion script, registered with {@code compdef}, that describes each key.
+     *
+     * @param program
+     *            the name of the program, as typed in the shell.
+     * @param index
+     *            the index of the program's arguments.
+     * @return the script.
+     */
+    public static String zsh(String program, CompletionIndex index) {
+        String function = "_" + identifier(program);
+        StringBuilder sb = new StringBuilder();
+        sb.append("#compdef ").append(program).append('\n');
+        sb.append("# zsh completion for ").append(program).append(", generated by JAnnoArgs.\n");
+        sb.append(function).append("() {\n");
+
+        sb.append("    case \"${words[CURRENT-1]}\" in\n");
+        for (int i = 0; i < index.size(); i++) {
+            switch (index.getKind(i)) {
+                case ENUM:
+                    sb.append("        ").append(quote("--" + index.getKey(i))).append(") compadd -- ").append(join(index.getValues(i))).append("; return ;;\n");
+                    break;
+                case PATH:
+                    sb.append("        ").append(quote("--" + index.getKey(i))).append(") _files; return ;;\n");
+                    break;
+                case VALUE:
+                    sb.append("        ").append(quote("--" + index.getKey(i))).append(") return ;;\n");
+                    break;
+                default:
+                    break;
+            }
+        }
+        sb.append("    esac\n");
+
+        sb.append("    local -a arguments\n");
+        sb.append("    arguments=(\n");
+        for (int i = 0; i < index.size(); i++) {
+            String key = index.getKey(i).replace(":", "\\:");
+            String desc = index.getDesc(i);
+            if (index.getKind(i) == CompletionIndex.Kind.FLAG) {
+                sb.append("        ").append(quote("+" + key + ":" + desc)).append('\n');
+                sb.append("        ").append(quote("-" + key + ":" + desc)).append('\n');
+            } else {
+                sb.append("        ").append(quote("--" + key + ":" + desc)).append('\n');
+            }
+        }
+        sb.append("    )\n");
+        sb.append("    _describe -t arguments 'argument' arguments\n");
+        sb.append("}\n");
+        sb.append("compdef ").append(function).append(' ').append(quote(program)).append('\n');
+        return sb.toString();
+    }
+
+    /**
+     * Generates a fish completion script. Value keys are declared as long options requiring a value, and boolean keys as old style options along
+     * with their {@code +key} form.
+     *
+     * @param program
+     *            the name of the program, as typed in the shell.
+     * @param index
+     *            the index of the program's arguments.
+     * @return the script.
+     */
+    public static String fish(String program, CompletionIndex index) {
+        String command = "complete -c " + quote(program);
+        StringBuilder sb = new StringBuilder();
+        sb.append("# fish completion for ").append(program).append(", generated by JAnnoArgs.\n");
+        sb.append(command).append(" -f\n");
+
+        for (int i = 0; i < index.size(); i++) {
+            String key = quote(index.getKey(i));
+            String desc = " -d " + quote(index.getDesc(i));
+            switch (index.getKind(i)) {
+                case FLAG:
+                    sb.append(command).append(" -o ").append(key).append(desc).append('\n');
+                    sb.append(command).append(" -a ").append(quote("+" + index.getKey(i))).append(desc).append('\n');
+                    break;
+                case ENUM:
+                    sb.append(command).append(" -l ").append(key).append(desc).append(" -x -a ").append(quote(join(index.getValues(i)))).append('\n');
+                    break;
+                case PATH:
+                    sb.append(command).append(" -l ").append(key).append(desc).append(" -r -F\n");
+                    break;
+                default:
+                    sb.append(command).append(" -l ").append(key).append(desc).append(" -x\n");
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the keys of the given kind with the given syntax prefix, separated by spaces.
+     */
+    private static String keys(CompletionIndex index, String syntax, boolean flags) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < index.size(); i++) {
+            if ((index.getKind(i) == CompletionIndex.Kind.FLAG) != flags)
+                continue;
+            if (sb.length() > 0)
+                sb.append(' ');
+            sb.append(syntax).append(index.getKey(i));
+        }
+        return sb.toString();
+    }
+
+    private static String join(String[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (String value : values) {
+            if (sb.length() > 0)
+                sb.append(' ');
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the value within single quotes, which all three shells treat literally.
+     */
+    private static String quote(String value) {
+        // A quote closes the quoted string, adds a double quoted quote and reopens it, which all three shells concatenate.
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\'')
+                sb.append("'\"'\"'");
+            else
+                sb.append(c);
+        }
+        return sb.append('\'').toString();
+    }
+
+    /**
+     * @return the program name with each character that isn't valid in a shell function name replaced with an underscore.
+     */
+    private static String identifier(String program) {
+        int start = Math.max(program.lastIndexOf('/'), program.lastIndexOf('\\')) + 1;
+        StringBuilder sb = new StringBuilder();
+        for (int i = start; i < program.length(); i++) {
+            char c = program.charAt(i);
+            sb.append(c < 128 && Character.isLetterOrDigit(c) ? c : '_');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The merged target of several types, parsing into an {@code Object[]} holding one object of each type in the same order. Each key is owned by
+ * exactly one type, so every argument is sent to the object that declares it within a single pass over the arguments.
+ * <p>
+ *
+ * Composite targets are merged once per list of types and cached with the first type, so they're released along with it. Types that don't all
+ * share the class loader of the first type are merged each time, as the cache would keep the other types loaded.
+ *
+ * @author Maxstupo
+ */
+final class CompositeTarget implements ArgumentTarget {
+
+    private static final ClassValue<ConcurrentMap<List<Class<?>>, CompositeTarget>> cache = new ClassValue<ConcurrentMap<List<Class<?>>, CompositeTarget>>() {
+        @Override
+        protected ConcurrentMap<List<Class<?>>, CompositeTarget> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final ArgumentTarget[] targets;
+    private final Map<String, Integer> owners;
+    private final KeyIndex keyIndex;
+    private final boolean multiValuedKeys;
+    private final boolean constraints;
+    private final Constraints[] required;
+
+    private CompositeTarget(Class<?>[] types) {
+        this.targets = new ArgumentTarget[types.length];
+        this.owners = new HashMap<>();
+
+        boolean multiValuedKeys = false;
+        boolean constraints = false;
+        List<Constraints> required = new ArrayList<>();
+        for (int i = 0; i < types.length; i++) {
+            targets[i] = ArgumentTargets.of(types[i]);
+            if (targets[i] instanceof ArgumentSchema && ((ArgumentSchema) targets[i]).getConstructorBinder() != null)
+                throw new IllegalArgumentException(types[i].getName() + " is bound through its constructor and can't be parsed into an existing object");
+            multiValuedKeys |= targets[i].hasMultiValuedKeys();
+            constraints |= targets[i].hasConstraints();
+            Collections.addAll(required, targets[i].getRequired());
+
+            for (String key : targets[i].getKeyIndex().keys()) {
+                Integer owner = owners.put(key, i);
+                if (owner != null)
+                    throw new IllegalArgumentException("Argument key '" + key + "' is declared by both " + types[owner].getName() + " and " + types[i].getName());
+            }
+        }
+        this.keyIndex = new KeyIndex(owners.keySet());
+        this.multiValuedKeys = multiValuedKeys;
+        this.constraints = constraints;
+        this.required = required.toArray(new Constraints[required.size()]);
+    }
+
+    /**
+     * Returns the merged target of the given types, merging them if this is the first time the list of types has been used.
+     *
+     * @param types
+     *            the types, at least one.
+     * @return the merged target.
+     * @throws IllegalArgumentException
+     *             if a key is declared by more than one of the types, a type is given twice, or a type is bound through its constructor.
+     */
+    static CompositeTarget of(Class<?>... types) {
+        if (!Util.sharesLoader(types))
+            return new CompositeTarget(types);
+
+        List<Class<?>> key = Arrays.asList(types.clone());
+        ConcurrentMap<List<Class<?>>, CompositeTarget> targets = cache.get(types[0]);
+
+        CompositeTarget target = targets.get(key);
+        if (target == null) {
+            target = new CompositeTarget(types);
+            CompositeTarget existing = targets.putIfAbsent(key, target);
+            if (existing != null)
+                target = existing;
+        }
+        return target;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return owners.containsKey(key);
+    }
+
+    @Override
+    public KeyIndex getKeyIndex() {
+        return keyIndex;
+    }
+
+    @Override
+    public boolean setBoolean(Object obj, String key, boolean state) {
+        Integer owner = owners.get(key);
+        return owner != null && targets[owner].setBoolean(((Object[]) obj)[owner], key, state);
+    }
+
+    @Override
+    public boolean setValue(Object obj, String key, String value) {
+        Integer owner = owners.get(key);
+        return owner != null && targets[owner].setValue(((Object[]) obj)[owner], key, value);
+    }
+
+    @Override
+    public boolean isPath(String key) {
+        Integer owner = owners.get(key);
+        return owner != null && targets[owner].isPath(key);
+    }
+
+    @Override
+    public boolean hasMultiValuedKeys() {
+        return multiValuedKeys;
+    }
+
+    @Override
+    public Accumulator newAccumulator(String key) {
+        Integer owner = owners.get(key);
+        if (owner == null)
+            return null;
+
+        Accumulator accumulator = targets[owner].newAccumulator(key);
+        return accumulator == null ? null : new RoutedAccumulator(accumulator, owner);
+    }
+
+    @Override
+    public boolean hasConstraints() {
+        return constraints;
+    }
+
+    @Override
+    public String checkValue(String key, String value) {
+        Integer owner = owners.get(key);
+        return owner == null ? null : targets[owner].checkValue(key, value);
+    }
+
+    @Override
+    public String checkBounds(String key, String value) {
+        Integer owner = owners.get(key);
+        return owner == null ? null : targets[owner].checkBounds(key, value);
+    }
+
+    @Override
+    public Constraints[] getRequired() {
+        return required;
+    }
+
+    /** Binds the values of an accumulator to the object that owns its key. */
+    private static final class RoutedAccumulator extends Accumulator {
+
+        private final Accumulator accumulator;
+        private final int owner;
+
+        RoutedAccumulator(Accumulator accumulator, int owner) {
+            super(null);
+            this.accumulator = accumulator;
+            this.owner = owner;
+        }
+
+        @Override
+        boolean add(String value, int start, int end) {
+            return accumulator.add(value, start, end);
+        }
+
+        @Override
+        Object finish() {
+            return accumulator.finish();
+        }
+
+        @Override
+        void bind(Object obj) {
+            accumulator.bind(((Object[]) obj)[owner]);
+        }
+    }
+}
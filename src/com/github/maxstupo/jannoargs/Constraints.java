@@ -0,0 +1,245 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The compiled value constraints of a single {@link CmdArgument}, created once per binding when its schema is compiled. The pattern is compiled
+ * once and the allowed values are held in a hash set. They're checked on the string value before it's converted, whereas numeric bounds are
+ * checked on the number the converter parsed, so the value is only parsed once.
+ * <p>
+ *
+ * {@link CmdArgument#min() min} and {@link CmdArgument#max() max} apply to numeric fields, {@link CmdArgument#minLong() minLong} and
+ * {@link CmdArgument#maxLong() maxLong} to integral fields, {@link CmdArgument#pattern() pattern} and
+ * {@link CmdArgument#allowed() allowed} to the string value of any value field. Only {@link CmdArgument#required() required} applies to boolean
+ * and multi-valued fields.
+ *
+ * @author Maxstupo
+ */
+final class Constraints {
+
+    private final String key;
+    private final boolean flag;
+    private final boolean required;
+
+    private final Pattern pattern;
+    private final Set<String> allowed;
+    private final String allowedList;
+
+    private final boolean bounded;
+    private final boolean integral;
+    /** True for a float field, whose value is compared as the float it's converted to against the bounds rounded to floats. */
+    private final boolean single;
+    // The bounds of a floating point field.
+    private final double min;
+    private final double max;
+    // The bounds of an integral field, compared exactly.
+    private final long minLong;
+    private final long maxLong;
+
+    private Constraints(CmdArgument argument, boolean flag, Pattern pattern, boolean integral, boolean single) {
+        this.key = argument.key();
+        this.flag = flag;
+        this.required = argument.required();
+
+        this.pattern = pattern;
+        this.allowed = argument.allowed().length == 0 ? null : Collections.unmodifiableSet(new HashSet<>(Arrays.asList(argument.allowed())));
+        this.allowedList = String.join(", ", argument.allowed());
+
+        this.min = argument.min();
+        this.max = argument.max();
+        this.bounded = isBounded(argument);
+        this.integral = integral;
+        this.single = single;
+        // The double bounds are rounded inwards, and the tighter of them and the long bounds is kept.
+        this.minLong = Math.max(argument.minLong(), min == Double.NEGATIVE_INFINITY ? Long.MIN_VALUE : (long) Math.ceil(min));
+        this.maxLong = Math.min(argument.maxLong(), max == Double.POSITIVE_INFINITY ? Long.MAX_VALUE : (long) Math.floor(max));
+    }
+
+    /**
+     * Compiles the constraints of the given argument.
+     *
+     * @param argument
+     *            the annotation.
+     * @param type
+     *            the type of the field or constructor parameter.
+     * @param flag
+     *            true if the field is a boolean field.
+     * @param multiValued
+     *            true if the field is a multi-valued field.
+     * @return the constraints, or null if the argument declares none.
+     * @throws IllegalArgumentException
+     *             if the pattern is invalid, the bounds are reversed, or a constraint doesn't apply to the type of the field.
+     */
+    static Constraints of(CmdArgument argument, Class<?> type, boolean flag, boolean multiValued) {
+        boolean bounded = isBounded(argument);
+        boolean valueConstrained = bounded || !argument.pattern().isEmpty() || argument.allowed().length != 0;
+        if (!valueConstrained && !argument.required())
+            return null;
+
+        String key = argument.key();
+        if (valueConstrained && (flag || multiValued))
+            throw new IllegalArgumentException("Argument '" + key + "' can only be required, as it's a " + (flag ? "boolean" : "multi-valued") + " field");
+
+        boolean integral = isIntegral(type);
+        if (bounded) {
+            if (!integral && !isFloatingPoint(type))
+                throw new IllegalArgumentException("Argument '" + key + "' has a min or max, but isn't numeric: " + type.getName());
+            if (!integral && (argument.minLong() != Long.MIN_VALUE || argument.maxLong() != Long.MAX_VALUE))
+                throw new IllegalArgumentException("Argument '" + key + "' has a minLong or maxLong, but isn't integral: " + type.getName());
+            if (Double.isNaN(argument.min()) || Double.isNaN(argument.max()) || argument.min() > argument.max())
+                throw new IllegalArgumentException("Argument '" + key + "' has an invalid range: " + argument.min() + " to " + argument.max());
+            if (argument.minLong() > argument.maxLong())
+                throw new IllegalArgumentException("Argument '" + key + "' has an invalid range: " + argument.minLong() + " to " + argument.maxLong());
+        }
+
+        Pattern pattern = null;
+        if (!argument.pattern().isEmpty()) {
+            try {
+                pattern = Pattern.compile(argument.pattern());
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException("Argument '" + key + "' has an invalid pattern: " + argument.pattern(), e);
+            }
+        }
+        return new Constraints(argument, flag, pattern, integral, type == float.class || type == Float.class);
+    }
+
+    private static boolean isBounded(CmdArgument argument) {
+        return argument.min() != Double.NEGATIVE_INFINITY || argument.max() != Double.POSITIVE_INFINITY || argument.minLong() != Long.MIN_VALUE || argument.maxLong() != Long.MAX_VALUE;
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == int.class || type == Integer.class || type == long.class || type == Long.class || type == short.class || type == Short.class || type == byte.class || type == Byte.class;
+    }
+
+    private static boolean isFloatingPoint(Class<?> type) {
+        return type == double.class || type == Double.class || type == float.class || type == Float.class;
+    }
+
+    /**
+     * Checks the given value against the pattern and the allowed values, before it's converted.
+     *
+     * @param value
+     *            the string value.
+     * @return the violation, or null if the value satisfies the constraints.
+     */
+    String check(String value) {
+        if (allowed != null && !allowed.contains(value))
+            return "--" + key + " must be one of " + allowedList + ", but was '" + value + "'";
+        if (pattern != null && !pattern.matcher(value).matches())
+            return "--" + key + " must match " + pattern.pattern() + ", but was '" + value + "'";
+        return null;
+    }
+
+    /**
+     * @return true if the argument has numeric bounds, checked on the converted number with {@link #inBounds(long)} or
+     *         {@link #inBounds(double)}.
+     */
+    boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * @return true if the converted value of an integral field is within the bounds.
+     */
+    boolean inBounds(long number) {
+        return number >= minLong && number <= maxLong;
+    }
+
+    /**
+     * @return true if the converted value of a floating point field is within the bounds.
+     */
+    boolean inBounds(double number) {
+        if (single)
+            return number >= (float) min && number <= (float) max;
+        return number >= min && number <= max;
+    }
+
+    /**
+     * @return true if the number converted by a converter without a primitive path is within the bounds.
+     */
+    boolean inBounds(Number number) {
+        return integral ? inBounds(number.longValue()) : inBounds(number.doubleValue());
+    }
+
+    /**
+     * Checks the given value against the bounds, once it couldn't be set. Only then is the value parsed again, to tell a number out of range from
+     * a value that isn't a number, which is rejected as invalid.
+     *
+     * @param value
+     *            the string value.
+     * @return the violation, or null if the value is within the bounds or isn't a number.
+     */
+    String checkBounds(String value) {
+        if (!bounded)
+            return null;
+
+        if (integral) {
+            long number = NumberParser.parseLong(value);
+            if (number == NumberParser.INVALID && !NumberParser.isLongMin(value))
+                return null;
+            if (!inBounds(number))
+                return outOfRange(value);
+
+        } else if (NumberParser.isFloatingPoint(value)) {
+            if (!inBounds(single ? Float.parseFloat(value) : Double.parseDouble(value)))
+                return outOfRange(value);
+        }
+        return null;
+    }
+
+    private String outOfRange(String value) {
+        String min = integral ? (minLong == Long.MIN_VALUE ? null : Long.toString(minLong)) : (this.min == Double.NEGATIVE_INFINITY ? null : bound(this.min));
+        String max = integral ? (maxLong == Long.MAX_VALUE ? null : Long.toString(maxLong)) : (this.max == Double.POSITIVE_INFINITY ? null : bound(this.max));
+        if (min == null)
+            return "--" + key + " must be at most " + max + ", but was " + value;
+        if (max == null)
+            return "--" + key + " must be at least " + min + ", but was " + value;
+        return "--" + key + " must be between " + min + " and " + max + ", but was " + value;
+    }
+
+    /**
+     * @return the bound without a fraction if it's a whole number, e.g. 65535 rather than 65535.0.
+     */
+    private static String bound(double bound) {
+        if (bound == Math.rint(bound) && Math.abs(bound) < 1e15)
+            return Long.toString((long) bound);
+        return Double.toString(bound);
+    }
+
+    /**
+     * @return the violation of a required argument that isn't present.
+     */
+    String missing() {
+        return flag ? "+" + key + " or -" + key + " is required" : "--" + key + " is required";
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * @return true if the argument must be present.
+     */
+    boolean isRequired() {
+        return required;
+    }
+
+    /**
+     * @return true if the value of the argument is checked, rather than only its presence.
+     */
+    boolean checksValue() {
+        return allowed != null || pattern != null || bounded;
+    }
+
+    /**
+     * @return the allowed values, or null if any value is allowed.
+     */
+    Set<String> getAllowed() {
+        return allowed;
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binds {@link CmdArgument} constructor parameters, e.g. the components of a record, so immutable objects with final fields can be parsed.
+ * <p>
+ *
+ * Converted values are collected into a {@link Staging} area holding primitive values in {@code long[]} and {@code double[]} slots without
+ * boxing, and the object is created once parsing finishes through a single cached {@link MethodHandle} of the constructor, that reads every
+ * parameter directly from its slot. Parameters without a {@link CmdArgument} are passed their default value, zero, false or null.
+ *
+ * @author Maxstupo
+ */
+final class ConstructorBinder {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private static final MethodHandle LONGS;
+    private static final MethodHandle DOUBLES;
+    private static final MethodHandle OBJECTS;
+
+    static {
+        try {
+            LONGS = lookup.findGetter(Staging.class, "longs", long[].class);
+            DOUBLES = lookup.findGetter(Staging.class, "doubles", double[].class);
+            OBJECTS = lookup.findGetter(Staging.class, "objects", Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<?> type;
+    private final List<ArgumentBinding> bindings;
+
+    /** The constructor, adapted to the type {@code (Staging)Object}. */
+    private final MethodHandle instantiator;
+
+    private final int longSlots;
+    private final int doubleSlots;
+    private final int objectSlots;
+
+    private ConstructorBinder(Class<?> type, Constructor<?> constructor) {
+        this.type = type;
+
+        MethodHandle handle;
+        try {
+            constructor.setAccessible(true);
+            handle = lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Unable to access constructor: " + constructor, e);
+        }
+
+        Parameter[] parameters = constructor.getParameters();
+        MethodHandle[] getters = new MethodHandle[parameters.length];
+        List<ArgumentBinding> bindings = new ArrayList<>();
+
+        int longSlots = 0;
+        int doubleSlots = 0;
+        int objectSlots = 0;
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> parameterType = parameters[i].getType();
+
+            // Each slot is read by the instantiator and written by the setter of the binding, casting to and from the parameter type.
+            MethodHandle array;
+            int slot;
+            if (isIntegral(parameterType)) {
+                array = LONGS;
+                slot = longSlots++;
+            } else if (parameterType == float.class || parameterType == double.class) {
+                array = DOUBLES;
+                slot = doubleSlots++;
+            } else {
+                array = OBJECTS;
+                slot = objectSlots++;
+            }
+            Class<?> arrayType = array.type().returnType();
+
+            MethodHandle getter = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(arrayType), 1, slot);
+            getters[i] = MethodHandles.explicitCastArguments(MethodHandles.filterArguments(getter, 0, array), MethodType.methodType(parameterType, Staging.class));
+
+            CmdArgument anno = parameters[i].getAnnotation(CmdArgument.class);
+            if (anno == null)
+                continue;
+
+            MethodHandle setter = MethodHandles.insertArguments(MethodHandles.arrayElementSetter(arrayType), 1, slot);
+            setter = MethodHandles.filterArguments(setter, 0, array);
+            setter = MethodHandles.explicitCastArguments(setter, MethodType.methodType(void.class, Object.class, parameterType));
+            bindings.add(new ArgumentBinding(anno, parameterType, parameters[i].getParameterizedType(), FieldBinder.of(setter, parameterType)));
+        }
+
+        // Read every parameter from the same staging area.
+        handle = MethodHandles.filterArguments(handle, 0, getters);
+        handle = MethodHandles.permuteArguments(handle, MethodType.methodType(type, Staging.class), new int[parameters.length]);
+        this.instantiator = handle.asType(MethodType.methodType(Object.class, Staging.class));
+
+        this.bindings = Collections.unmodifiableList(bindings);
+        this.longSlots = longSlots;
+        this.doubleSlots = doubleSlots;
+        this.objectSlots = objectSlots;
+    }
+
+    /**
+     * Returns the binder of the constructor of the given class that has {@link CmdArgument} parameters.
+     *
+     * @param type
+     *            the class.
+     * @return the binder, or null if no constructor of the class has a {@link CmdArgument} parameter.
+     * @throws IllegalArgumentException
+     *             if more than one constructor has a {@link CmdArgument} parameter, or the class is abstract.
+     */
+    static ConstructorBinder of(Class<?> type) {
+        Constructor<?> found = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (!hasArguments(constructor))
+                continue;
+            if (found != null)
+                throw new IllegalArgumentException("More than one constructor of " + type.getName() + " has CmdArgument parameters");
+            found = constructor;
+        }
+
+        if (found == null)
+            return null;
+        if (Modifier.isAbstract(type.getModifiers()))
+            throw new IllegalArgumentException("Unable to construct abstract class: " + type.getName());
+        return new ConstructorBinder(type, found);
+    }
+
+    private static boolean hasArguments(Constructor<?> constructor) {
+        for (Parameter parameter : constructor.getParameters()) {
+            if (parameter.isAnnotationPresent(CmdArgument.class))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == boolean.class || type == byte.class || type == short.class || type == char.class || type == int.class || type == long.class;
+    }
+
+    /**
+     * Returns the bindings of the {@link CmdArgument} parameters, which set the parameters within a {@link Staging} area.
+     *
+     * @return an unmodifiable list of the bindings, in parameter order.
+     */
+    List<ArgumentBinding> getBindings() {
+        return bindings;
+    }
+
+    /**
+     * Creates an empty staging area, holding the default value of every parameter.
+     *
+     * @return a new staging area.
+     */
+    Staging newStaging() {
+        return new Staging(type, longSlots, doubleSlots, objectSlots);
+    }
+
+    /**
+     * Creates an object from the parameters within the given staging area.
+     *
+     * @param staging
+     *            the staging area created by this binder.
+     * @return the new object.
+     * @throws RuntimeException
+     *             if the constructor throws an exception.
+     */
+    Object newInstance(Staging staging) {
+        try {
+            return instantiator.invokeExact(staging);
+        } catch (Throwable t) {
+            throw FieldBinder.rethrow(t);
+        }
+    }
+
+    /**
+     * The parameters of a single object being parsed. Parsed in place of the object, and passed to the constructor once parsing finishes.
+     */
+    static final class Staging {
+
+        private final Class<?> type;
+
+        final long[] longs;
+        final double[] doubles;
+        final Object[] objects;
+
+        Staging(Class<?> type, int longSlots, int doubleSlots, int objectSlots) {
+            this.type = type;
+            this.longs = new long[longSlots];
+            this.doubles = new double[doubleSlots];
+            this.objects = new Object[objectSlots];
+        }
+
+        /**
+         * @return the type of the object that will be created.
+         */
+        Class<?> getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * Converts the string value of a command line argument into a field type. Converters are registered with
+ * {@link Converters#register(Class, Converter)} and used for every field of the registered type.
+ * <p>
+ *
+ * Converters should not throw an exception for invalid values, instead they should return null.
+ *
+ * @author Maxstupo
+ * @param <T>
+ *            the type this converter creates.
+ */
+public interface Converter<T> {
+
+    /**
+     * Converts the given string value.
+     *
+     * @param value
+     *            the string value from the command line arguments.
+     * @return the converted value, or null if the string can't be converted.
+     */
+    T convert(String value);
+}
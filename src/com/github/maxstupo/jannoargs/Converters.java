@@ -0,0 +1,382 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The registry of {@link Converter converters} used to convert the values of value fields, keyed by field type.
+ * <p>
+ *
+ * Built-in converters are provided for<code> String, Integer, Long, Float, Double, Short, Byte, Character, Path, Duration, InetSocketAddress,
+ * Pattern, MappedByteBuffer, ByteBuffer</code>, the listed primitive counterparts and all enum types. Fields declared as {@link Lazy} or
+ * {@link java.util.function.Supplier Supplier} use the converter of their type argument when first accessed. Converters for other types can be added using {@link #register(Class, Converter)}, they
+ * should be registered before the first parse of a class that uses the type.
+ *
+ * @author Maxstupo
+ */
+public final class Converters {
+
+    /** Converts to a String, always succeeds. */
+    public static final Converter<String> STRING = new Converter<String>() {
+        @Override
+        public String convert(String value) {
+            return value;
+        }
+    };
+
+    /** Converts to an int using the same syntax as {@link Integer#parseInt(String)}. */
+    public static final Converter<Integer> INT = new PrimitiveConverter<Integer>() {
+        @Override
+        public Integer convert(String value) {
+            long result = NumberParser.parseInt(value);
+            return result == NumberParser.INVALID ? null : (int) result;
+        }
+
+        @Override
+        boolean bind(FieldBinder binder, Object obj, String value, Constraints bounds) {
+            long result = NumberParser.parseInt(value);
+            if (result == NumberParser.INVALID || bounds != null && !bounds.inBounds(result))
+                return false;
+            binder.setInt(obj, (int) result);
+            return true;
+        }
+    };
+
+    /** Converts to a long using the same syntax as {@link Long#parseLong(String)}. */
+    public static final Converter<Long> LONG = new PrimitiveConverter<Long>() {
+        @Override
+        public Long convert(String value) {
+            long result = NumberParser.parseLong(value);
+            return result == NumberParser.INVALID && !NumberParser.isLongMin(value) ? null : result;
+        }
+
+        @Override
+        boolean bind(FieldBinder binder, Object obj, String value, Constraints bounds) {
+            long result = NumberParser.parseLong(value);
+            if (result == NumberParser.INVALID && !NumberParser.isLongMin(value) || bounds != null && !bounds.inBounds(result))
+                return false;
+            binder.setLong(obj, result);
+            return true;
+        }
+    };
+
+    /** Converts to a float using the same syntax as {@link Float#parseFloat(String)}. */
+    public static final Converter<Float> FLOAT = new PrimitiveConverter<Float>() {
+        @Override
+        public Float convert(String value) {
+            return NumberParser.isFloatingPoint(value) ? Float.parseFloat(value) : null;
+        }
+
+        @Override
+        boolean bind(FieldBinder binder, Object obj, String value, Constraints bounds) {
+            if (!NumberParser.isFloatingPoint(value))
+                return false;
+            float result = Float.parseFloat(value);
+            if (bounds != null && !bounds.inBounds(result))
+                return false;
+            binder.setFloat(obj, result);
+            return true;
+        }
+    };
+
+    /** Converts to a double using the same syntax as {@link Double#parseDouble(String)}. */
+    public static final Converter<Double> DOUBLE = new PrimitiveConverter<Double>() {
+        @Override
+        public Double convert(String value) {
+            return NumberParser.isFloatingPoint(value) ? Double.parseDouble(value) : null;
+        }
+
+        @Override
+        boolean bind(FieldBinder binder, Object obj, String value, Constraints bounds) {
+            if (!NumberParser.isFloatingPoint(value))
+                return false;
+            double result = Double.parseDouble(value);
+            if (bounds != null && !bounds.inBounds(result))
+                return false;
+            binder.setDouble(obj, result);
+            return true;
+        }
+    };
+
+    /** Converts to a short using the same syntax as {@link Short#parseShort(String)}. */
+    public static final Converter<Short> SHORT = new Converter<Short>() {
+        @Override
+        public Short convert(String value) {
+            long result = NumberParser.parseShort(value);
+            return result == NumberParser.INVALID ? null : (short) result;
+        }
+    };
+
+    /** Converts to a byte using the same syntax as {@link Byte#parseByte(String)}. */
+    public static final Converter<Byte> BYTE = new Converter<Byte>() {
+        @Override
+        public Byte convert(String value) {
+            long result = NumberParser.parseByte(value);
+            return result == NumberParser.INVALID ? null : (byte) result;
+        }
+    };
+
+    /** Converts a single character string to a char. */
+    public static final Converter<Character> CHAR = new Converter<Character>() {
+        @Override
+        public Character convert(String value) {
+            return value.length() == 1 ? value.charAt(0) : null;
+        }
+    };
+
+    /** Converts to a {@link Path} using {@link Paths#get(String, String...)}. */
+    public static final Converter<Path> PATH = new Converter<Path>() {
+        @Override
+        public Path convert(String value) {
+            try {
+                return Paths.get(value);
+            } catch (InvalidPathException e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * Converts to a {@link Duration}, accepting either the ISO-8601 format of {@link Duration#parse(CharSequence)} (e.g. {@code PT1M30S}) or a
+     * whole number followed by one of the units {@code ms, s, m, h, d} (e.g. {@code 250ms, 30s}).
+     */
+    public static final Converter<Duration> DURATION = new Converter<Duration>() {
+        @Override
+        public Duration convert(String value) {
+            if (value.isEmpty())
+                return null;
+
+            char first = value.charAt(0);
+            if (first == 'P' || first == 'p' || ((first == '-' || first == '+') && value.length() > 1 && (value.charAt(1) == 'P' || value.charAt(1) == 'p'))) {
+                try {
+                    return Duration.parse(value);
+                } catch (DateTimeParseException e) {
+                    return null;
+                }
+            }
+
+            int unitStart = value.length();
+            while (unitStart > 0 && Character.isLetter(value.charAt(unitStart - 1)))
+                unitStart--;
+            if (unitStart == 0 || unitStart == value.length())
+                return null;
+
+            long amount = NumberParser.parseLong(value.substring(0, unitStart));
+            if (amount == NumberParser.INVALID)
+                return null;
+
+            switch (value.substring(unitStart)) {
+                case "ms":
+                    return Duration.ofMillis(amount);
+                case "s":
+                    return Duration.ofSeconds(amount);
+                case "m":
+                    return Duration.ofMinutes(amount);
+                case "h":
+                    return Duration.ofHours(amount);
+                case "d":
+                    return Duration.ofDays(amount);
+                default:
+                    return null;
+            }
+        }
+    };
+
+    /**
+     * Converts {@code host:port} or {@code [ipv6]:port} to an unresolved {@link InetSocketAddress}, so a parse never waits on a DNS lookup. The
+     * host is resolved when the address is connected to or bound.
+     */
+    public static final Converter<InetSocketAddress> INET_SOCKET_ADDRESS = new Converter<InetSocketAddress>() {
+        @Override
+        public InetSocketAddress convert(String value) {
+            int separator = value.lastIndexOf(':');
+            if (separator <= 0)
+                return null;
+
+            long port = NumberParser.parseInt(value.substring(separator + 1));
+            if (port < 0 || port > 0xFFFF)
+                return null;
+
+            String host = value.substring(0, separator);
+            if (host.startsWith("[") && host.endsWith("]")) {
+                host = host.substring(1, host.length() - 1);
+            } else if (host.indexOf(':') != -1) {
+                return null; // IPv6 addresses must be enclosed in brackets.
+            }
+            return host.isEmpty() ? null : InetSocketAddress.createUnresolved(host, (int) port);
+        }
+    };
+
+    /** Compiles a regular expression to a {@link Pattern}. */
+    public static final Converter<Pattern> PATTERN = new Converter<Pattern>() {
+        @Override
+        public Pattern convert(String value) {
+            try {
+                return Pattern.compile(value);
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * Memory-maps the file at a path read-only, for {@link MappedByteBuffer} and {@link ByteBuffer} fields. Declare the field as
+     * {@code Lazy<MappedByteBuffer>} to only map the file when it's used. A file larger than 2 GB can't be mapped into a single buffer, so it
+     * fails to convert.
+     */
+    public static final Converter<MappedByteBuffer> MAPPED_FILE = new Converter<MappedByteBuffer>() {
+        @Override
+        public MappedByteBuffer convert(String value) {
+            Path path = PATH.convert(value);
+            if (path == null)
+                return null;
+
+            // The mapping stays valid after the channel is closed.
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE)
+                    return null; // A buffer can't map more than 2 GB.
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    };
+
+    private static final Map<Class<?>, Converter<?>> converters = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Converter<?>> enumConverters = new ClassValue<Converter<?>>() {
+        @Override
+        protected Converter<?> computeValue(Class<?> type) {
+            return new EnumConverter(type);
+        }
+    };
+
+    static {
+        converters.put(String.class, STRING);
+        register(int.class, Integer.class, INT);
+        register(long.class, Long.class, LONG);
+        register(float.class, Float.class, FLOAT);
+        register(double.class, Double.class, DOUBLE);
+        register(short.class, Short.class, SHORT);
+        register(byte.class, Byte.class, BYTE);
+        register(char.class, Character.class, CHAR);
+        converters.put(Path.class, PATH);
+        converters.put(Duration.class, DURATION);
+        converters.put(InetSocketAddress.class, INET_SOCKET_ADDRESS);
+        converters.put(Pattern.class, PATTERN);
+        converters.put(MappedByteBuffer.class, MAPPED_FILE);
+        converters.put(ByteBuffer.class, MAPPED_FILE);
+    }
+
+    private Converters() {
+    }
+
+    /**
+     * Registers a converter for the given type, replacing any existing converter. Fields of exactly the given type will use the converter.
+     *
+     * @param type
+     *            the field type.
+     * @param converter
+     *            the converter.
+     */
+    public static <T> void register(Class<T> type, Converter<? extends T> converter) {
+        if (type == null || converter == null)
+            throw new IllegalArgumentException("type and converter must not be null");
+        converters.put(type, converter);
+    }
+
+    private static <T> void register(Class<?> primitive, Class<T> wrapper, Converter<T> converter) {
+        converters.put(primitive, converter);
+        converters.put(wrapper, converter);
+    }
+
+    /**
+     * Returns the converter for the given field type. Registered converters are matched on the exact type, enum types get a converter matching the
+     * constant names, and for any other type the first built-in type assignable to the field type is used
+     * (<code>String, Integer, Float, Double, Long</code>, in that order).
+     *
+     * @param type
+     *            the field type.
+     * @return the converter for the given field type, or null if there is no converter for the type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Converter<? extends T> get(Class<T> type) {
+        // Every converter produces values assignable to the type it's found for, a primitive type by its wrapper.
+        return (Converter<? extends T>) find(type);
+    }
+
+    /**
+     * @return true if a converter is registered for exactly the given type.
+     */
+    static boolean isRegistered(Class<?> type) {
+        return converters.containsKey(type);
+    }
+
+    /**
+     * @return true if values of the given type are converted from a file system path, which is resolved against the working directory of a
+     *         {@link ParseServer} request.
+     */
+    static boolean isPath(Class<?> type) {
+        return type == Path.class || type == MappedByteBuffer.class || type == ByteBuffer.class;
+    }
+
+    private static Converter<?> find(Class<?> type) {
+        Converter<?> converter = converters.get(type);
+        if (converter != null)
+            return converter;
+
+        if (type.isEnum())
+            return enumConverters.get(type);
+
+        // Assignable types such as Object, Number and CharSequence.
+        if (Util.isAssignable(type, String.class))
+            return STRING;
+        if (Util.isAssignable(type, int.class))
+            return INT;
+        if (Util.isAssignable(type, float.class))
+            return FLOAT;
+        if (Util.isAssignable(type, double.class))
+            return DOUBLE;
+        if (Util.isAssignable(type, long.class))
+            return LONG;
+        return null;
+    }
+
+    private static final class EnumConverter implements Converter<Enum<?>> {
+
+        private final Map<String, Enum<?>> constants = new HashMap<>();
+        private final Map<String, Enum<?>> lowerCaseConstants = new HashMap<>();
+
+        EnumConverter(Class<?> type) {
+            for (Object obj : type.getEnumConstants()) {
+                Enum<?> constant = (Enum<?>) obj;
+                constants.put(constant.name(), constant);
+                lowerCaseConstants.put(constant.name().toLowerCase(Locale.ROOT), constant);
+            }
+        }
+
+        @Override
+        public Enum<?> convert(String value) {
+            Enum<?> constant = constants.get(value);
+            if (constant == null)
+                constant = lowerCaseConstants.get(value.toLowerCase(Locale.ROOT));
+            return constant;
+        }
+    }
+}
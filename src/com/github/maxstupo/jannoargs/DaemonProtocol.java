@@ -0,0 +1,202 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * The wire protocol between a {@link ParseServer} and a {@link ParseClient}, and access to Unix domain sockets. All integers are big-endian and
+ * all strings are an int length followed by that many UTF-8 bytes.
+ * <p>
+ *
+ * A request is the int {@link #MAGIC}, the tool name, the working directory, the int number of arguments and the arguments. The response is a
+ * sequence of frames, each a byte type followed by an int: {@link #STDOUT} and {@link #STDERR} frames are followed by that many bytes of output,
+ * and the final {@link #EXIT} frame's int is the exit status.
+ * <p>
+ *
+ * Unix domain sockets are opened reflectively, as they require Java 16 while the library targets Java 8.
+ *
+ * @author Maxstupo
+ */
+final class DaemonProtocol {
+
+    /** The first int of each request, {@code "JAA1"}. */
+    static final int MAGIC = 0x4A414131;
+
+    static final byte EXIT = 0;
+    static final byte STDOUT = 1;
+    static final byte STDERR = 2;
+
+    /** The largest string or frame accepted, protecting the server from a corrupt length. */
+    static final int MAX_LENGTH = 16 * 1024 * 1024;
+
+    /** The most arguments accepted in a request, bounding the array allocated before they're read. */
+    static final int MAX_ARGUMENTS = 64 * 1024;
+
+    private DaemonProtocol() {
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_ARGUMENTS)
+            throw new IOException("Invalid argument count: " + count);
+        return count;
+    }
+
+    static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH)
+            throw new IOException("Invalid length: " + length);
+        return length;
+    }
+
+    /**
+     * Returns the address of the Unix domain socket at the given path.
+     *
+     * @throws UnsupportedOperationException
+     *             if Unix domain sockets aren't supported, e.g. before Java 16.
+     */
+    static SocketAddress unixAddress(Path path) {
+        try {
+            return (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class).invoke(null, path);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw new UnsupportedOperationException("Unix domain sockets require Java 16 or later", e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Opens a server channel for the protocol family of the given address.
+     */
+    static ServerSocketChannel openServer(SocketAddress address) throws IOException {
+        ProtocolFamily family = familyOf(address);
+        if (family == null)
+            return ServerSocketChannel.open();
+        return (ServerSocketChannel) invokeOpen(ServerSocketChannel.class, family);
+    }
+
+    /**
+     * Opens a channel connected to the given address.
+     */
+    static SocketChannel connect(SocketAddress address) throws IOException {
+        ProtocolFamily family = familyOf(address);
+        if (family == null)
+            return SocketChannel.open(address);
+
+        SocketChannel channel = (SocketChannel) invokeOpen(SocketChannel.class, family);
+        try {
+            channel.connect(address);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    /**
+     * @return the Unix protocol family for a Unix domain socket address, or null for any other address.
+     */
+    private static ProtocolFamily familyOf(SocketAddress address) {
+        if (!address.getClass().getName().equals("java.net.UnixDomainSocketAddress"))
+            return null;
+        return StandardProtocolFamily.valueOf("UNIX");
+    }
+
+    private static Object invokeOpen(Class<?> channelType, ProtocolFamily family) throws IOException {
+        try {
+            return channelType.getMethod("open", ProtocolFamily.class).invoke(null, family);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw FieldBinder.rethrow(e.getCause());
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Unix domain sockets require Java 16 or later", e);
+        }
+    }
+
+    /**
+     * Writes output as {@link #STDOUT} or {@link #STDERR} frames. Frames of both streams share the connection, so writes are synchronized on it.
+     */
+    static final class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream out;
+        private final byte type;
+
+        FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return;
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Reads frames until the {@link #EXIT} frame, copying output to the given streams.
+     *
+     * @return the exit status.
+     * @throws EOFException
+     *             if the connection closes before the exit frame.
+     */
+    static int readResponse(DataInputStream in, OutputStream stdout, OutputStream stderr) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (true) {
+            byte type = in.readByte();
+            if (type == EXIT)
+                return in.readInt();
+
+            OutputStream out = type == STDERR ? stderr : stdout;
+            for (int remaining = readLength(in); remaining > 0;) {
+                int read = in.read(buffer, 0, Math.min(buffer.length, remaining));
+                if (read < 0)
+                    throw new EOFException();
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Dispatches {@link IArgumentEvent events} for the keys that were parsed. Dispatch is driven by the keys recorded by a {@link ParseSession},
+ * looking up each key in the registered events, and events are called in the order their keys appeared in the arguments.
+ *
+ * @author Maxstupo
+ */
+final class EventDispatcher {
+
+    private EventDispatcher() {
+    }
+
+    /**
+     * Calls the events registered to the given keys on the calling thread.
+     *
+     * @param events
+     *            the registered events, referenced by argument name.
+     * @param keys
+     *            the recorded keys, in the order they appeared in the arguments.
+     */
+    static void dispatch(Map<String, IArgumentEvent> events, List<String> keys) {
+        if (events.isEmpty())
+            return;
+
+        for (String key : keys) {
+            IArgumentEvent evt = events.get(key);
+            if (evt != null)
+                evt.onEvent(key);
+        }
+    }
+
+    /**
+     * Calls the events registered to the given keys using the given executor. The events are submitted in the order their keys appeared in the
+     * arguments but may run concurrently.
+     *
+     * @param events
+     *            the registered events, referenced by argument name.
+     * @param keys
+     *            the recorded keys, in the order they appeared in the arguments.
+     * @param executor
+     *            the executor the events will be called on.
+     * @return a future that completes when all events have completed, or completes exceptionally if any event threw an exception.
+     */
+    static CompletableFuture<Void> dispatchAsync(Map<String, IArgumentEvent> events, List<String> keys, Executor executor) {
+        if (events.isEmpty())
+            return CompletableFuture.completedFuture(null);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (final String key : keys) {
+            final IArgumentEvent evt = events.get(key);
+            if (evt == null)
+                continue;
+
+            futures.add(CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
+                    evt.onEvent(key);
+                }
+            }, executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+    }
+}
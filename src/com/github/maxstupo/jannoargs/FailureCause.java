@@ -0,0 +1,35 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * The reason a parse failed.
+ *
+ * @author Maxstupo
+ * @see ParseListener#onFailure(Class, FailureCause, String)
+ * @see ParseResult#getFailureCause()
+ */
+public enum FailureCause {
+
+    /** An argument key that doesn't exist in the schema. */
+    UNKNOWN_KEY,
+
+    /** An abbreviated argument key that is the prefix of more than one key. */
+    AMBIGUOUS_KEY,
+
+    /** A value that can't be converted to the field type. */
+    INVALID_VALUE,
+
+    /** A boolean argument (+key or -key) for a field that isn't a boolean. */
+    NOT_A_BOOLEAN,
+
+    /** A value argument (--key) that is the last argument, so has no value. */
+    MISSING_VALUE,
+
+    /** A command line or argument file with a quote or escape that wasn't closed. */
+    MALFORMED_INPUT,
+
+    /** Values that violate the {@link CmdArgument} constraints, or required arguments that aren't present, all reported together. */
+    CONSTRAINT_VIOLATION,
+
+    /** A {@link Subcommands subcommand} that isn't registered, or no subcommand at all. */
+    UNKNOWN_COMMAND
+}
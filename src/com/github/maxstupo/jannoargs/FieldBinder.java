@@ -0,0 +1,231 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * A cached setter for a single field, backed by a {@link MethodHandle}. Fields with a primitive type of {@code boolean, int, long, float} or
+ * {@code double} get a specialized binder that writes the primitive directly, without boxing the value.
+ *
+ * @author Maxstupo
+ */
+abstract class FieldBinder {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    /** The setter, adapted to the type {@code (Object, fieldType)void}. */
+    protected final MethodHandle setter;
+
+    /** The setter, adapted to the type {@code (Object, Object)void}. */
+    private final MethodHandle genericSetter;
+
+    private FieldBinder(MethodHandle setter) {
+        this.setter = setter;
+        this.genericSetter = setter == null ? null : setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * Creates a binder for the given field. The field will be made accessible.
+     *
+     * @param field
+     *            the field.
+     * @return a binder for the given field.
+     * @throws IllegalArgumentException
+     *             if a setter can't be created for the given field.
+     */
+    static FieldBinder of(Field field) {
+        // As in previous versions, a static final field only fails once it's set, rather than failing the schema of its class.
+        if (Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers()))
+            return new FinalBinder(field);
+
+        MethodHandle setter;
+        try {
+            field.setAccessible(true);
+            setter = lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Unable to create setter for field: " + field, e);
+        }
+
+        // Static fields don't take a receiver, drop the object so all binders share the same signature.
+        if (Modifier.isStatic(field.getModifiers()))
+            setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        return of(setter, field.getType());
+    }
+
+    /**
+     * Creates a binder from the given setter, e.g. a setter of a {@link ConstructorBinder} parameter.
+     *
+     * @param setter
+     *            the setter, taking the object and the value.
+     * @param type
+     *            the type of the value.
+     * @return a binder using the given setter.
+     */
+    static FieldBinder of(MethodHandle setter, Class<?> type) {
+        setter = setter.asType(MethodType.methodType(void.class, Object.class, type));
+
+        if (type == boolean.class)
+            return new BooleanBinder(setter);
+        if (type == int.class)
+            return new IntBinder(setter);
+        if (type == long.class)
+            return new LongBinder(setter);
+        if (type == float.class)
+            return new FloatBinder(setter);
+        if (type == double.class)
+            return new DoubleBinder(setter);
+        return new ObjectBinder(setter);
+    }
+
+    /**
+     * Sets the field of the given object to the given value.
+     *
+     * @param obj
+     *            the object.
+     * @param value
+     *            the value, must be assignable to the field type.
+     */
+    void set(Object obj, Object value) {
+        try {
+            genericSetter.invokeExact(obj, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    void setBoolean(Object obj, boolean value) {
+        set(obj, Boolean.valueOf(value));
+    }
+
+    void setInt(Object obj, int value) {
+        set(obj, Integer.valueOf(value));
+    }
+
+    void setLong(Object obj, long value) {
+        set(obj, Long.valueOf(value));
+    }
+
+    void setFloat(Object obj, float value) {
+        set(obj, Float.valueOf(value));
+    }
+
+    void setDouble(Object obj, double value) {
+        set(obj, Double.valueOf(value));
+    }
+
+    static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        throw new IllegalStateException(t);
+    }
+
+    private static final class ObjectBinder extends FieldBinder {
+
+        ObjectBinder(MethodHandle setter) {
+            super(setter);
+        }
+    }
+
+    /**
+     * The binder of a static final field, which can't be set.
+     */
+    private static final class FinalBinder extends FieldBinder {
+
+        private final Field field;
+
+        FinalBinder(Field field) {
+            super(null);
+            this.field = field;
+        }
+
+        @Override
+        void set(Object obj, Object value) {
+            throw new IllegalArgumentException("Field is static and final, so can't be set: " + field);
+        }
+    }
+
+    private static final class BooleanBinder extends FieldBinder {
+
+        BooleanBinder(MethodHandle setter) {
+            super(setter);
+        }
+
+        @Override
+        void setBoolean(Object obj, boolean value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    private static final class IntBinder extends FieldBinder {
+
+        IntBinder(MethodHandle setter) {
+            super(setter);
+        }
+
+        @Override
+        void setInt(Object obj, int value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    private static final class LongBinder extends FieldBinder {
+
+        LongBinder(MethodHandle setter) {
+            super(setter);
+        }
+
+        @Override
+        void setLong(Object obj, long value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    private static final class FloatBinder extends FieldBinder {
+
+        FloatBinder(MethodHandle setter) {
+            super(setter);
+        }
+
+        @Override
+        void setFloat(Object obj, float value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    private static final class DoubleBinder extends FieldBinder {
+
+        DoubleBinder(MethodHandle setter) {
+            super(setter);
+        }
+
+        @Override
+        void setDouble(Object obj, double value) {
+            try {
+                setter.invokeExact(obj, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+}
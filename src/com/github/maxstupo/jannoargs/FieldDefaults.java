@@ -0,0 +1,71 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A snapshot of the values of the {@link CmdArgument} fields of an object, that can be restored to other objects of the same type with the cached
+ * setters of the schema. Restoring doesn't allocate, primitive values are kept boxed and unboxed by the setter.
+ * <p>
+ *
+ * Values are restored by reference, so a mutable default, e.g. a {@code List}, is shared by every object it's restored to. Static fields are
+ * shared by all objects and are never restored, nor are constructor parameters.
+ *
+ * @author Maxstupo
+ */
+final class FieldDefaults {
+
+    private final Class<?> type;
+    private final FieldBinder[] binders;
+    private final Object[] values;
+
+    private FieldDefaults(Class<?> type, FieldBinder[] binders, Object[] values) {
+        this.type = type;
+        this.binders = binders;
+        this.values = values;
+    }
+
+    /**
+     * Captures the current values of the {@link CmdArgument} fields of the given object.
+     *
+     * @param schema
+     *            the schema of the object.
+     * @param obj
+     *            the object to capture the values of.
+     * @return the captured values.
+     */
+    static FieldDefaults capture(ArgumentSchema schema, Object obj) {
+        List<FieldBinder> binders = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+
+        for (ArgumentBinding binding : schema.getBindings()) {
+            Field field = binding.getField();
+            if (field == null || Modifier.isStatic(field.getModifiers()))
+                continue;
+
+            try {
+                values.add(field.get(obj)); // Made accessible by the binder.
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Unable to read field: " + field, e);
+            }
+            binders.add(binding.getBinder());
+        }
+        return new FieldDefaults(schema.getType(), binders.toArray(new FieldBinder[binders.size()]), values.toArray());
+    }
+
+    /**
+     * Sets the {@link CmdArgument} fields of the given object to the captured values.
+     *
+     * @param obj
+     *            the object to restore, must be an instance of the captured type.
+     */
+    void restore(Object obj) {
+        if (!type.isInstance(obj))
+            throw new IllegalArgumentException("Object isn't an instance of " + type.getName() + ": " + obj);
+
+        for (int i = 0; i < binders.length; i++)
+            binders[i].set(obj, values[i]);
+    }
+}
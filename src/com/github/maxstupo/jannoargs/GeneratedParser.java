@@ -0,0 +1,76 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * A reflection-free parser for a single class, generated at compile time by
+ * {@link com.github.maxstupo.jannoargs.processor.CmdArgumentProcessor CmdArgumentProcessor}. For a class named {@code Xxx} the generated parser
+ * is named {@code XxxArgs} and is placed within the same package.
+ * <p>
+ *
+ * {@link JAnnoArgs} will use the generated parser automatically if one exists, otherwise the class will be parsed using reflection. Generated
+ * parsers are loaded by name from the class loader of their class, so only the parser of a class that's parsed is loaded, and a parser that
+ * can't be loaded falls back to reflection. They're also registered in {@code META-INF/services/com.github.maxstupo.jannoargs.GeneratedParser},
+ * so tools that include service providers, e.g. when building a native image, keep them. Using them doesn't need reflection. This interface
+ * isn't intended to be implemented by hand.
+ *
+ * @author Maxstupo
+ * @param <T>
+ *            the type this parser sets the fields of.
+ */
+public interface GeneratedParser<T> {
+
+    /**
+     * Returns the class this parser sets the fields of.
+     *
+     * @return the class this parser sets the fields of.
+     */
+    Class<T> type();
+
+    /**
+     * Returns the keys of all {@link CmdArgument} fields within the class of this parser, including inherited fields.
+     *
+     * @return a new array of the keys.
+     */
+    String[] keys();
+
+    /**
+     * Returns true if the given key is declared by a {@link CmdArgument} within the class of this parser.
+     *
+     * @param key
+     *            the {@link CmdArgument#key() key}.
+     * @return true if the given key is declared within the class of this parser.
+     */
+    boolean containsKey(String key);
+
+    /**
+     * Sets the boolean field referenced by the given key.
+     *
+     * @param obj
+     *            the object to set the field of.
+     * @param key
+     *            the {@link CmdArgument#key() key}.
+     * @param state
+     *            the state.
+     * @return false if the key doesn't exist or doesn't reference a boolean field.
+     */
+    boolean setBoolean(T obj, String key, boolean state);
+
+    /**
+     * Converts the given value and sets the field referenced by the given key.
+     *
+     * @param obj
+     *            the object to set the field of.
+     * @param key
+     *            the {@link CmdArgument#key() key}.
+     * @param value
+     *            the value.
+     * @return false if the key doesn't exist or if the value can't be converted to the field type.
+     */
+    boolean setValue(T obj, String key, String value);
+
+    /**
+     * Returns the help lines for all visible arguments, in the same format as {@link JAnnoArgs#generateHelp(String, boolean, Object...)}.
+     *
+     * @return the help lines for all visible arguments.
+     */
+    String help();
+}
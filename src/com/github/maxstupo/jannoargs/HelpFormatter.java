@@ -0,0 +1,194 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Renders and caches the help of types containing {@link CmdArgument} fields. The help of a set of types is rendered once for each program
+ * description and syntax option, and the same string is returned afterwards.
+ * <p>
+ *
+ * Help is cached with the first type, so it's released along with the type. Help of types that don't all share the class loader of the first
+ * type isn't cached, as the cache would keep the other types loaded. At most {@link #MAX_CACHED_PER_TYPE} variants are cached per type,
+ * so programs that build a different description each time don't fill the cache.
+ *
+ * @author Maxstupo
+ */
+final class HelpFormatter {
+
+    private static final int MAX_CACHED_PER_TYPE = 32;
+
+    private static final String SYNTAX = "\nSyntax:\n" //
+            + "  - Boolean fields: Prefix the key with plus(+) for true, or prefix a hyphen(-) for false.\n" //
+            + "  - Value fields: Prefix the key with double hyphens (--) followed by a space and the value.\n";
+
+    /** The number of spaces between the key and the description. */
+    private static final int DESC_GAP = 9;
+
+    private static final ClassValue<ConcurrentMap<HelpKey, String>> cache = new ClassValue<ConcurrentMap<HelpKey, String>>() {
+        @Override
+        protected ConcurrentMap<HelpKey, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private HelpFormatter() {
+    }
+
+    /**
+     * Returns the help for the given types, rendering it if this is the first time it has been requested.
+     *
+     * @param programDescription
+     *            a description that is prefixed to the start of the help, or null or empty for no description.
+     * @param displaySyntax
+     *            if true the syntax of how to set argument values will be added to the help.
+     * @param types
+     *            the types to get the {@link CmdArgument} fields from.
+     * @return the help.
+     */
+    static String help(String programDescription, boolean displaySyntax, Class<?>... types) {
+        if (types.length == 0 || !Util.sharesLoader(types))
+            return render(programDescription, displaySyntax, types);
+
+        ConcurrentMap<HelpKey, String> helps = cache.get(types[0]);
+        HelpKey key = new HelpKey(programDescription, displaySyntax, types);
+
+        String help = helps.get(key);
+        if (help == null) {
+            help = render(programDescription, displaySyntax, types);
+            if (helps.size() < MAX_CACHED_PER_TYPE) {
+                String existing = helps.putIfAbsent(key, help);
+                if (existing != null)
+                    help = existing;
+            }
+        }
+        return help;
+    }
+
+    /**
+     * Writes the help for the given types to the given appendable, the same as {@link #help(String, boolean, Class...)}.
+     *
+     * @throws IOException
+     *             if the appendable throws an exception.
+     */
+    static void appendHelp(Appendable out, String programDescription, boolean displaySyntax, Class<?>... types) throws IOException {
+        out.append(help(programDescription, displaySyntax, types));
+    }
+
+    private static String render(String programDescription, boolean displaySyntax, Class<?>... types) {
+        StringBuilder sb = new StringBuilder();
+
+        if (programDescription != null && !programDescription.isEmpty())
+            sb.append(programDescription).append('\n');
+
+        // A single type with a generated parser has its help computed at compile time.
+        GeneratedParser<Object> generatedParser = types.length == 1 ? ArgumentTargets.generatedParser(types[0]) : null;
+        if (generatedParser != null) {
+            sb.append(generatedParser.help());
+        } else {
+            appendArguments(sb, types);
+        }
+
+        if (displaySyntax)
+            sb.append(SYNTAX);
+        return sb.toString();
+    }
+
+    /**
+     * Renders the help of a {@link Subcommands} registry, listing each command with its description.
+     *
+     * @param programDescription
+     *            a description that is prefixed to the start of the help, or null or empty for no description.
+     * @param names
+     *            the names of the commands, sorted.
+     * @param descs
+     *            the descriptions of the commands.
+     * @return the help.
+     */
+    static String commands(String programDescription, String[] names, String[] descs) {
+        StringBuilder sb = new StringBuilder();
+
+        if (programDescription != null && !programDescription.isEmpty())
+            sb.append(programDescription).append('\n');
+
+        int maxNameLength = 0;
+        for (String name : names)
+            maxNameLength = Math.max(maxNameLength, name.length());
+
+        sb.append("Commands:\n");
+        for (int i = 0; i < names.length; i++) {
+            sb.append("  ").append(names[i]);
+            pad(sb, maxNameLength - names[i].length() + DESC_GAP);
+            sb.append(descs[i]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void appendArguments(StringBuilder sb, Class<?>... types) {
+        List<ArgumentBinding> bindings;
+        if (types.length == 1) {
+            bindings = ArgumentSchema.of(types[0]).getVisibleBindings();
+        } else {
+            // Later types replace the keys of earlier types, the same as previous versions.
+            Map<String, ArgumentBinding> merged = new TreeMap<>();
+            for (Class<?> type : types) {
+                for (ArgumentBinding binding : ArgumentSchema.of(type).getVisibleBindings())
+                    merged.put(binding.getKey(), binding);
+            }
+            bindings = new ArrayList<>(merged.values());
+        }
+
+        int maxKeyLength = 0;
+        for (ArgumentBinding binding : bindings)
+            maxKeyLength = Math.max(maxKeyLength, binding.getKey().length());
+
+        // Each line is: two spaces, the prefix right aligned to 3 columns, the key left aligned, the gap and the description.
+        for (ArgumentBinding binding : bindings) {
+            String key = binding.getKey();
+            sb.append(binding.isFlag() ? "  +/-" : "   --");
+            sb.append(key);
+            pad(sb, maxKeyLength - key.length() + DESC_GAP);
+            sb.append(binding.getDesc()).append('\n');
+        }
+    }
+
+    private static void pad(StringBuilder sb, int count) {
+        for (int i = 0; i < count; i++)
+            sb.append(' ');
+    }
+
+    /** The options a help was rendered with. */
+    private static final class HelpKey {
+
+        private final String programDescription;
+        private final boolean displaySyntax;
+        private final Class<?>[] types;
+        private final int hash;
+
+        HelpKey(String programDescription, boolean displaySyntax, Class<?>[] types) {
+            this.programDescription = programDescription == null ? "" : programDescription;
+            this.displaySyntax = displaySyntax;
+            this.types = types;
+            this.hash = 31 * (31 * this.programDescription.hashCode() + (displaySyntax ? 1 : 0)) + Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof HelpKey))
+                return false;
+            HelpKey other = (HelpKey) obj;
+            return hash == other.hash && displaySyntax == other.displaySyntax && programDescription.equals(other.programDescription) && Arrays.equals(types, other.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
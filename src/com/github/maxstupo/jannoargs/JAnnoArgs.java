@@ -1,23 +1,38 @@
 package com.github.maxstupo.jannoargs;
 
+import java.io.IOException;
+import java.io.PrintStream;
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * JAnnoArgs class handles the reading of program arguments and sets fields with the annotation {@link CmdArgument}.
+ * <p>
+ * 
+ * The single instance is safe to use from many threads, but events can be registered at any time. Use an {@link ArgumentParser} to have the
+ * events and schema fixed when the parser is built.
  * 
  * @author Maxstupo
  */
 public class JAnnoArgs {
 
-    private static JAnnoArgs instance;
+    private static final class InstanceHolder {
+        static final JAnnoArgs instance = new JAnnoArgs();
+    }
+
+    private final ConcurrentMap<String, IArgumentEvent> events = new ConcurrentHashMap<>();
+
+    private volatile boolean fireEventsPerOccurrence;
+    private volatile boolean allowAbbreviations;
 
-    private final Map<String, IArgumentEvent> events = new HashMap<>();
+    private volatile ParseListener listener;
 
     private JAnnoArgs() {
     }
@@ -32,22 +47,51 @@ public class JAnnoArgs {
      * @return true if the event was registered, false if the argument name has already been registered.
      */
     public boolean registerEvent(String argumentName, IArgumentEvent evt) {
+        return events.putIfAbsent(argumentName, evt) == null;
+    }
 
-        if (events.containsKey(argumentName))
-            return false;
+    /**
+     * Sets if events should be called each time their argument is present, instead of once regardless of how many times the argument is present.
+     * (Default: false)
+     * 
+     * @param fireEventsPerOccurrence
+     *            if true events will be called each time their argument is present.
+     */
+    public void setFireEventsPerOccurrence(boolean fireEventsPerOccurrence) {
+        this.fireEventsPerOccurrence = fireEventsPerOccurrence;
+    }
 
-        events.put(argumentName, evt);
-        return true;
+    /**
+     * Sets if keys can be abbreviated to any prefix that only one key starts with, e.g. {@code --pass} for {@code password}. A key that exactly
+     * matches is always preferred, and a prefix of several keys fails as ambiguous. (Default: false)
+     * 
+     * @param allowAbbreviations
+     *            if true keys can be abbreviated.
+     */
+    public void setAllowAbbreviations(boolean allowAbbreviations) {
+        this.allowAbbreviations = allowAbbreviations;
+    }
+
+    /**
+     * Sets the listener that receives the timings and failures of each parse. (Default: null)
+     * 
+     * @param listener
+     *            the listener, or null to not time parses.
+     */
+    public void setParseListener(ParseListener listener) {
+        this.listener = listener;
     }
 
     /**
      * Parse given string array, and set the fields that are annotated with a {@link CmdArgument} annotation from the given object. Supported data
-     * types are<code> Boolean, String, Integer, Float, Double, Long </code> and the listed primitive counterparts.
+     * types are<code> Boolean </code>, any type with a {@link Converter} registered in {@link Converters}, arrays, Lists and Sets of those types,
+     * and {@link Lazy} or Supplier fields converted on first access.
      * <p>
      * 
      * Syntax:<br>
      * - Boolean fields prefix the key with plus(+) for true, or prefix a hyphen(-) for false.<br>
-     * - Value fields prefix the key with double hyphens (--) followed by a space and the value.
+     * - Value fields prefix the key with double hyphens (--) followed by a space and the value.<br>
+     * - Array, List and Set fields collect the values of every occurrence of their key, separated by commas (,).
      * 
      * @param obj
      *            The object to look for fields and apply values to fields.
@@ -63,12 +107,14 @@ public class JAnnoArgs {
 
     /**
      * Parse given string array, and set the fields that are annotated with a {@link CmdArgument} annotation from the given object. Supported data
-     * types are<code> Boolean, String, Integer, Float, Double, Long </code> and the listed primitive counterparts.
+     * types are<code> Boolean </code>, any type with a {@link Converter} registered in {@link Converters}, arrays, Lists and Sets of those types,
+     * and {@link Lazy} or Supplier fields converted on first access.
      * <p>
      * 
      * Syntax:<br>
      * - Boolean fields prefix the key with plus(+) for true, or prefix a hyphen(-) for false.<br>
-     * - Value fields prefix the key with double hyphens (--) followed by a space and the value.
+     * - Value fields prefix the key with double hyphens (--) followed by a space and the value.<br>
+     * - Array, List and Set fields collect the values of every occurrence of their key, separated by commas (,).
      * 
      * @param displayHelp
      *            If true generated help will be displayed if an error occured.
@@ -88,12 +134,14 @@ public class JAnnoArgs {
 
     /**
      * Parse given string array, and set the fields that are annotated with a {@link CmdArgument} annotation from the given object. Supported data
-     * types are<code> Boolean, String, Integer, Float, Double, Long </code> and the listed primitive counterparts.
+     * types are<code> Boolean </code>, any type with a {@link Converter} registered in {@link Converters}, arrays, Lists and Sets of those types,
+     * and {@link Lazy} or Supplier fields converted on first access.
      * <p>
      * 
      * Syntax:<br>
      * - Boolean fields prefix the key with plus(+) for true, or prefix a hyphen(-) for false.<br>
-     * - Value fields prefix the key with double hyphens (--) followed by a space and the value.
+     * - Value fields prefix the key with double hyphens (--) followed by a space and the value.<br>
+     * - Array, List and Set fields collect the values of every occurrence of their key, separated by commas (,).
      * 
      * @param displayHelp
      *            If true generated help will be displayed if an error occurred.
@@ -110,129 +158,106 @@ public class JAnnoArgs {
      * @return false if parsing failed.
      */
     public boolean parseArguments(boolean displayHelp, String programDescription, boolean displaySyntax, Object obj, Object[] ignoreObjs, String... args) {
-        Map<String, Field> keyToFields = createKeyToFieldsMap(obj);
-
-        Map<String, Field> ignoreMap = new HashMap<>();
-        for (Object o : ignoreObjs)
-            ignoreMap.putAll(createKeyToFieldsMap(o));
-
-        List<String> keys = new ArrayList<>();
-
-        boolean failed = false;
-        boolean assignNext = false;
-        String key = null;
-
-        for (String arg : args) {
-
-            if (assignNext) {
-                failed = !handleVariable(keyToFields, obj, key, arg);
-                keys.add(key);
-                assignNext = false;
-
-            }
-
-            if (arg.startsWith("--")) {
-                key = arg.substring(2);
-
-                if (ignoreMap.containsKey(key))
-                    continue;
-
-                assignNext = true;
-
-            } else if (arg.startsWith("-")) {
-                String tempKey = arg.substring(1);
-                if (ignoreMap.containsKey(tempKey))
-                    continue;
-
-                failed = !handleBoolean(keyToFields, obj, tempKey, false);
-                keys.add(tempKey);
-
-            } else if (arg.startsWith("+")) {
-                String tempKey = arg.substring(1);
-                if (ignoreMap.containsKey(tempKey))
-                    continue;
-
-                failed = !handleBoolean(keyToFields, obj, tempKey, true);
-                keys.add(tempKey);
-
-            }
+        return parse(displayHelp, programDescription, displaySyntax, obj, ignoreObjs, args).complete();
+    }
 
-            if (failed)
-                break;
-        }
+    /**
+     * Parse given string array into several objects in a single pass, the same as
+     * {@link #parseArguments(boolean, String, boolean, Object, String...)}. The {@link CmdArgument} keys of all objects are merged once per list of
+     * types, and each argument sets the field of the object declaring its key, e.g. for option groups split across classes.
+     * 
+     * @param displayHelp
+     *            If true generated help for all objects will be displayed if an error occurred.
+     * @param programDescription
+     *            The description that will be used in the generated help. Set to null or empty to disable description.
+     * @param displaySyntax
+     *            If true the syntax will be displayed within the generated help.
+     * @param objs
+     *            The objects to look for fields with {@link CmdArgument} annotation, of different types.
+     * @param args
+     *            The arguments to parse.
+     * @return false if parsing failed.
+     * @throws IllegalArgumentException
+     *             if no objects are given, or a key is declared by more than one of the objects.
+     */
+    public boolean parseArguments(boolean displayHelp, String programDescription, boolean displaySyntax, Object[] objs, String... args) {
+        if (objs.length == 0)
+            throw new IllegalArgumentException("At least one object must be given");
 
-        if (failed) {
-            if (displayHelp)
-                System.out.println(generateHelp(programDescription, displaySyntax, obj));
-            return false;
-        }
+        ParseListener listener = this.listener;
+        long start = listener == null ? 0 : System.nanoTime();
 
-        for (Entry<String, IArgumentEvent> entry : events.entrySet()) {
+        ArgumentTarget target = CompositeTarget.of(typesOf(objs));
+        Object[] targetObjs = objs.clone();
 
-            if (!keys.contains(entry.getKey()))
-                continue;
-            entry.getValue().onEvent(entry.getKey());
-        }
-        return true;
-    }
+        ParseSession session = new ParseSession(target, targetObjs, new ArgumentTarget[0], events, fireEventsPerOccurrence, listener, allowAbbreviations);
+        session.time(ParsePhase.SCHEMA_LOOKUP, start);
 
-    private boolean handleBoolean(Map<String, Field> keyToFields, Object obj, String key, boolean state) {
-        Field field = keyToFields.get(key);
-        if (field != null && Util.isAssignable(field.getType(), boolean.class)) {
-            try {
-                field.setAccessible(true);
-                field.set(obj, state);
-                return true;
-            } catch (IllegalArgumentException e) {
-                e.printStackTrace();
-            } catch (IllegalAccessException e) {
-                e.printStackTrace();
-            }
-        }
-        return false;
+        if (ArgumentParser.parse(session, args).finish() == null && displayHelp)
+            System.out.println(generateHelp(programDescription, displaySyntax, objs));
+        return session.complete();
     }
 
-    private boolean handleVariable(Map<String, Field> keyToFields, Object obj, String key, String value) {
-        Field field = keyToFields.get(key);
-        if (field != null) {
-            Object objValue = convertStringToType(value, field.getType());
-            if (objValue == null)
-                return false;
-            try {
-                field.setAccessible(true);
-                field.set(obj, objValue);
+    /**
+     * Parse given string array the same as {@link #parseArguments(boolean, String, boolean, Object, Object[], String...)}, but call the events of
+     * the arguments present using the given executor. Events are submitted in the order their arguments are present and may run concurrently.
+     * 
+     * @param executor
+     *            The executor the events will be called on.
+     * @param displayHelp
+     *            If true generated help will be displayed if an error occurred.
+     * @param programDescription
+     *            The description that will be used in the generated help. Set to null or empty to disable description.
+     * @param displaySyntax
+     *            If true the syntax will be displayed within the generated help.
+     * @param obj
+     *            The object to look for fields with {@link CmdArgument} annotation.
+     * @param ignoreObjs
+     *            {@link CmdArgument CmdArguments} within the object will be ignored, and will prevent help being displayed.
+     * @param args
+     *            The arguments to parse.
+     * @return a stage that completes with false if parsing failed, or with true once all events have completed. The stage completes exceptionally
+     *         if an event throws an exception.
+     */
+    public CompletionStage<Boolean> parseArgumentsAsync(Executor executor, boolean displayHelp, String programDescription, boolean displaySyntax, Object obj, Object[] ignoreObjs, String... args) {
+        CompletableFuture<Void> future = parse(displayHelp, programDescription, displaySyntax, obj, ignoreObjs, args).completeAsync(executor);
+        if (future == null)
+            return CompletableFuture.completedFuture(false);
+
+        return future.thenApply(new Function<Void, Boolean>() {
+            @Override
+            public Boolean apply(Void result) {
                 return true;
-            } catch (IllegalArgumentException e) {
-                e.printStackTrace();
-            } catch (IllegalAccessException e) {
-                e.printStackTrace();
             }
-        }
-        return false;
+        });
     }
 
-    private Object convertStringToType(String value, Class<?> type) {
-        if (Util.isAssignable(type, String.class))
-            return value;
-
-        if (Util.isAssignable(type, int.class) && Util.isInt(value))
-            return Integer.parseInt(value);
+    /**
+     * Parses the arguments and sets the fields of the given object.
+     * 
+     * @return the finished session, ready to call the events of the arguments present.
+     */
+    private ParseSession parse(boolean displayHelp, String programDescription, boolean displaySyntax, Object obj, Object[] ignoreObjs, String... args) {
+        ParseListener listener = this.listener;
+        long start = listener == null ? 0 : System.nanoTime();
 
-        if (Util.isAssignable(type, float.class) && Util.isFloat(value))
-            return Float.parseFloat(value);
+        ArgumentTarget target = ArgumentTargets.of(obj.getClass());
 
-        if (Util.isAssignable(type, double.class) && Util.isDouble(value))
-            return Double.parseDouble(value);
+        ArgumentTarget[] ignoreTargets = new ArgumentTarget[ignoreObjs.length];
+        for (int i = 0; i < ignoreObjs.length; i++)
+            ignoreTargets[i] = ArgumentTargets.of(ignoreObjs[i].getClass());
 
-        if (Util.isAssignable(type, long.class) && Util.isLong(value))
-            return Long.parseLong(value);
+        ParseSession session = new ParseSession(target, obj, ignoreTargets, events, fireEventsPerOccurrence, listener, allowAbbreviations);
+        session.time(ParsePhase.SCHEMA_LOOKUP, start);
 
-        return null;
+        if (ArgumentParser.parse(session, args).finish() == null && displayHelp)
+            System.out.println(generateHelp(programDescription, displaySyntax, obj));
+        return session;
     }
 
     /**
-     * Gets all fields annotated with {@link CmdArgument} from the given object and maps them to the given {@link CmdArgument#key() key} from the
-     * annotation.
+     * Gets all fields annotated with {@link CmdArgument} from the given object and its superclasses and maps them to the given
+     * {@link CmdArgument#key() key} from the annotation.
      * 
      * @param obj
      *            The object to search for fields.
@@ -241,11 +266,9 @@ public class JAnnoArgs {
     public static Map<String, Field> createKeyToFieldsMap(Object obj) {
         Map<String, Field> keyToField = new HashMap<String, Field>();
 
-        for (Field field : obj.getClass().getDeclaredFields()) {
-            CmdArgument anno = field.getAnnotation(CmdArgument.class);
-            if (anno == null)
-                continue;
-            keyToField.put(anno.key(), field);
+        for (ArgumentBinding binding : ArgumentSchema.of(obj.getClass()).getBindings()) {
+            if (binding.getField() != null)
+                keyToField.put(binding.getKey(), binding.getField());
         }
 
         return keyToField;
@@ -259,14 +282,13 @@ public class JAnnoArgs {
      *            The object to look for fields.
      */
     public static void printCmdArgumentFields(Object obj) {
-        Map<String, Field> keyToFields = createKeyToFieldsMap(obj);
-
-        for (Entry<String, Field> entry : keyToFields.entrySet()) {
+        for (ArgumentBinding binding : ArgumentSchema.of(obj.getClass()).getBindings()) {
             try {
-                Field field = entry.getValue();
-                field.setAccessible(true);
+                Field field = binding.getField();
+                if (field == null)
+                    continue;
 
-                System.out.println(entry.getKey() + ": ('" + entry.getValue().getName() + "' = '" + field.get(obj) + "')");
+                System.out.println(binding.getKey() + ": ('" + field.getName() + "' = '" + field.get(obj) + "')");
 
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 e.printStackTrace();
@@ -283,66 +305,65 @@ public class JAnnoArgs {
      *            if true the syntax of how to set argument values will be added to help string.
      * @param classObjects
      *            The objects that the {@link CmdArgument} annotations will be extracted from, using {@link #createKeyToFieldsMap(Object)}.
-     * @return a formatted help string ready to be printed to the console.
+     * @return a formatted help string ready to be printed to the console. The help is rendered once and cached.
      * @see CmdArgument
      * @see #createKeyToFieldsMap(Object)
      */
     public static String generateHelp(String programDescription, boolean displaySyntax, Object... classObjects) {
-        StringBuilder sb = new StringBuilder();
-
-        Map<String, Field> keyToFields = new TreeMap<>();
-        for (Object classObject : classObjects)
-            keyToFields.putAll(createKeyToFieldsMap(classObject));
-
-        // Find the maximum key length for all.
-        int maxKeyLength = 0;
-        for (Field field : keyToFields.values()) {
-            CmdArgument argument = field.getAnnotation(CmdArgument.class);
-            if (argument.hide())
-                continue;
-
-            String key = argument.key();
-            maxKeyLength = Math.max(maxKeyLength, key.length());
-        }
-
-        // Construct the help.
-        if (programDescription != null && !programDescription.isEmpty())
-            sb.append(programDescription).append("\n");
-
-        for (Field field : keyToFields.values()) {
-            CmdArgument argument = field.getAnnotation(CmdArgument.class);
-            if (argument.hide())
-                continue;
-
-            String key = argument.key();
-            String desc = argument.desc();
+        return HelpFormatter.help(programDescription, displaySyntax, typesOf(classObjects));
+    }
 
-            // Get prefix if boolean use '+/-' otherwise use '--'
-            String prefix = "--";
-            if (Util.isAssignable(field.getType(), boolean.class))
-                prefix = "+/-";
+    /**
+     * Writes the help containing the arguments available from the specified objects to the given appendable, the same as
+     * {@link #generateHelp(String, boolean, Object...)}.
+     * 
+     * @param out
+     *            the appendable to write the help to.
+     * @param programDescription
+     *            a description that is prefixed to the start of the help.
+     * @param displaySyntax
+     *            if true the syntax of how to set argument values will be added to the help.
+     * @param classObjects
+     *            The objects that the {@link CmdArgument} annotations will be extracted from.
+     * @throws IOException
+     *             if the appendable throws an exception.
+     */
+    public static void generateHelp(Appendable out, String programDescription, boolean displaySyntax, Object... classObjects) throws IOException {
+        HelpFormatter.appendHelp(out, programDescription, displaySyntax, typesOf(classObjects));
+    }
 
-            sb.append(String.format("  %3s%-" + maxKeyLength + "s         %s", prefix, key, desc));
-            sb.append("\n");
-        }
+    /**
+     * Prints the help containing the arguments available from the specified objects to the given stream, the same as
+     * {@link #generateHelp(String, boolean, Object...)}.
+     * 
+     * @param out
+     *            the stream to print the help to.
+     * @param programDescription
+     *            a description that is prefixed to the start of the help.
+     * @param displaySyntax
+     *            if true the syntax of how to set argument values will be added to the help.
+     * @param classObjects
+     *            The objects that the {@link CmdArgument} annotations will be extracted from.
+     */
+    public static void generateHelp(PrintStream out, String programDescription, boolean displaySyntax, Object... classObjects) {
+        out.print(HelpFormatter.help(programDescription, displaySyntax, typesOf(classObjects)));
+    }
 
-        if (displaySyntax) {
-            sb.append("\n").append("Syntax:").append("\n");
-            sb.append("  - Boolean fields: Prefix the key with plus(+) for true, or prefix a hyphen(-) for false.").append("\n");
-            sb.append("  - Value fields: Prefix the key with double hyphens (--) followed by a space and the value.").append("\n");
-        }
-        return sb.toString();
+    private static Class<?>[] typesOf(Object... classObjects) {
+        Class<?>[] types = new Class<?>[classObjects.length];
+        for (int i = 0; i < classObjects.length; i++)
+            types[i] = classObjects[i].getClass();
+        return types;
     }
 
+
     /**
      * Returns the single instance of {@link JAnnoArgs}.
      * 
      * @return the single instance of {@link JAnnoArgs}.
      */
     public static final JAnnoArgs get() {
-        if (instance == null)
-            instance = new JAnnoArgs();
-        return instance;
+        return InstanceHolder.instance;
     }
 
 }
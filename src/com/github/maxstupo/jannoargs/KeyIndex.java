@@ -0,0 +1,326 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable index of keys, that can find a key directly from a range of characters within a {@link CharSequence} without creating a substring.
+ * <p>
+ *
+ * Exact matches use an open addressing hash table. Abbreviations use a trie of the sorted keys, built the first time an abbreviation is looked
+ * up, so a key can be found by an unambiguous prefix without allocating. Suggestions for a mistyped key search the same trie with a Levenshtein
+ * automaton, so keys sharing a prefix share the work of comparing it and branches that can't be close are never visited.
+ *
+ * @author Maxstupo
+ */
+final class KeyIndex {
+
+    /** Nodes with more children than this are searched with a binary search. */
+    private static final int LINEAR_SEARCH_LIMIT = 8;
+
+    private final String[] keys;
+
+    // Open addressing hash table for exact matches.
+    private final String[] table;
+    private final int mask;
+
+    /** The trie for abbreviations, built on first use. */
+    private volatile Trie trie;
+
+
+    KeyIndex(Collection<String> keys) {
+        this.keys = keys.toArray(new String[keys.size()]);
+        Arrays.sort(this.keys);
+
+        int capacity = Integer.highestOneBit(Math.max(4, this.keys.length * 2 - 1)) << 1;
+        this.table = new String[capacity];
+        this.mask = capacity - 1;
+
+        for (String key : this.keys) {
+            int slot = key.hashCode() & mask;
+            while (table[slot] != null && !table[slot].equals(key))
+                slot = (slot + 1) & mask;
+            table[slot] = key;
+        }
+    }
+
+    /**
+     * Returns the keys of this index, which must not be modified.
+     *
+     * @return the keys, sorted.
+     */
+    String[] keys() {
+        return keys;
+    }
+
+    /**
+     * Finds the key equal to the given range of characters.
+     *
+     * @param s
+     *            the characters.
+     * @param start
+     *            the start index, inclusive.
+     * @param end
+     *            the end index, exclusive.
+     * @return the key equal to the range of characters, or null if this index doesn't contain the key.
+     */
+    String find(CharSequence s, int start, int end) {
+        // Same hash as String.hashCode(), which the keys have cached.
+        int hash = 0;
+        for (int i = start; i < end; i++)
+            hash = 31 * hash + s.charAt(i);
+
+        int length = end - start;
+        for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+            String key = table[slot];
+            if (key == null)
+                return null;
+            if (key.length() == length && key.hashCode() == hash && regionMatches(key, s, start))
+                return key;
+        }
+    }
+
+    /**
+     * Finds the key equal to the given range of characters, or if abbreviations are allowed the only key starting with the range of characters. An
+     * exact match is always preferred over an abbreviation.
+     *
+     * @param s
+     *            the characters.
+     * @param start
+     *            the start index, inclusive.
+     * @param end
+     *            the end index, exclusive.
+     * @param abbreviations
+     *            if true a key can be found by an unambiguous prefix.
+     * @return the key found, or null if no key or more than one key matches.
+     */
+    String find(CharSequence s, int start, int end, boolean abbreviations) {
+        String key = find(s, start, end);
+        if (key != null || !abbreviations || start == end)
+            return key;
+
+        Trie trie = trie();
+        int node = trie.node(s, start, end);
+        if (node < 0 || trie.lastKey[node] - trie.firstKey[node] != 1)
+            return null;
+        return keys[trie.firstKey[node]];
+    }
+
+    /**
+     * Returns all keys starting with the given range of characters, used to describe an ambiguous abbreviation.
+     *
+     * @return the keys starting with the range of characters, sorted.
+     */
+    String[] startingWith(CharSequence s, int start, int end) {
+        Trie trie = trie();
+        int node = trie.node(s, start, end);
+        if (node < 0)
+            return new String[0];
+        return Arrays.copyOfRange(keys, trie.firstKey[node], trie.lastKey[node]);
+    }
+
+    /**
+     * Returns the keys closest to the given range of characters by edit distance, used to suggest a key for a mistyped key. Keys within a
+     * distance of one, or two for ranges of four or more characters, are returned.
+     *
+     * @param limit
+     *            the maximum number of keys to return.
+     * @return the closest keys, sorted by distance and then key.
+     */
+    String[] suggest(CharSequence s, int start, int end, int limit) {
+        List<int[]> found = new ArrayList<>();
+        trie().suggest(s, start, end, end - start <= 3 ? 1 : 2, found);
+
+        // Sort by distance, then by key as the key indices are sorted.
+        Collections.sort(found, new Comparator<int[]>() {
+            @Override
+            public int compare(int[] a, int[] b) {
+                return a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]);
+            }
+        });
+
+        String[] suggestions = new String[Math.min(limit, found.size())];
+        for (int i = 0; i < suggestions.length; i++)
+            suggestions[i] = keys[found.get(i)[1]];
+        return suggestions;
+    }
+
+    private Trie trie() {
+        Trie trie = this.trie;
+        if (trie == null)
+            this.trie = trie = new Trie(keys);
+        return trie;
+    }
+
+    private static boolean regionMatches(String key, CharSequence s, int start) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != s.charAt(start + i))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * A trie of sorted keys, flattened into arrays. The keys below each node are a contiguous range of the sorted keys, so a prefix that reaches a
+     * node with a single key below it is an unambiguous abbreviation of that key, found within a single traversal.
+     */
+    private static final class Trie {
+
+        private final String[] keys;
+        /** The length of the longest key, the depth of the deepest node. */
+        private final int maxDepth;
+
+        // Nodes, the root is node 0.
+        final int[] firstKey;
+        final int[] lastKey;
+        private final int[] firstEdge;
+        private final int[] edgeCount;
+
+        // Edges to the children of each node, contiguous per node and sorted by character.
+        private final char[] edgeChars;
+        private final int[] edgeNodes;
+
+        private int nodes;
+        private int edges;
+
+        Trie(String[] keys) {
+            this.keys = keys;
+
+            int maxNodes = 1;
+            int maxDepth = 0;
+            for (String key : keys) {
+                maxNodes += key.length();
+                maxDepth = Math.max(maxDepth, key.length());
+            }
+            this.maxDepth = maxDepth;
+
+            this.firstKey = new int[maxNodes];
+            this.lastKey = new int[maxNodes];
+            this.firstEdge = new int[maxNodes];
+            this.edgeCount = new int[maxNodes];
+            this.edgeChars = new char[maxNodes];
+            this.edgeNodes = new int[maxNodes];
+
+            build(0, keys.length, 0);
+        }
+
+        /**
+         * Adds the node for the keys within the given range, which all share the first {@code depth} characters.
+         *
+         * @return the index of the node.
+         */
+        private int build(int from, int to, int depth) {
+            int node = nodes++;
+            firstKey[node] = from;
+            lastKey[node] = to;
+
+            // The key ending at this node sorts first.
+            int i = from;
+            if (i < to && keys[i].length() == depth)
+                i++;
+
+            int children = 0;
+            for (int j = i; j < to; children++) {
+                char c = keys[j].charAt(depth);
+                while (j < to && keys[j].charAt(depth) == c)
+                    j++;
+            }
+
+            int edge = edges;
+            firstEdge[node] = edge;
+            edgeCount[node] = children;
+            edges += children;
+
+            while (i < to) {
+                char c = keys[i].charAt(depth);
+                int j = i;
+                while (j < to && keys[j].charAt(depth) == c)
+                    j++;
+
+                edgeChars[edge] = c;
+                edgeNodes[edge] = build(i, j, depth + 1);
+                edge++;
+                i = j;
+            }
+            return node;
+        }
+
+        /**
+         * @return the node reached by the range of characters, or -1 if no key starts with the range of characters.
+         */
+        int node(CharSequence s, int start, int end) {
+            if (keys.length == 0)
+                return -1;
+
+            int node = 0;
+            for (int i = start; i < end; i++) {
+                node = child(node, s.charAt(i));
+                if (node < 0)
+                    return -1;
+            }
+            return node;
+        }
+
+        /**
+         * Adds each key within the given edit distance of the range of characters to the given list, as its distance and index. Each node holds
+         * one row of the edit distance table of its prefix against the range, and a subtree is skipped once every cell of its row exceeds the
+         * distance.
+         */
+        void suggest(CharSequence s, int start, int end, int maxDistance, List<int[]> found) {
+            if (keys.length == 0)
+                return;
+
+            int[][] rows = new int[maxDepth + 1][end - start + 1];
+            for (int i = 0; i < rows[0].length; i++)
+                rows[0][i] = i;
+            suggest(0, 0, s, start, end, maxDistance, rows, found);
+        }
+
+        private void suggest(int node, int depth, CharSequence s, int start, int end, int maxDistance, int[][] rows, List<int[]> found) {
+            if (edgeCount[node] == 0)
+                return;
+
+            int length = end - start;
+            int[] previous = rows[depth];
+            int[] row = rows[depth + 1];
+
+            for (int edge = firstEdge[node]; edge < firstEdge[node] + edgeCount[node]; edge++) {
+                char c = edgeChars[edge];
+                row[0] = depth + 1;
+                int min = row[0];
+                for (int i = 1; i <= length; i++) {
+                    int cost = s.charAt(start + i - 1) == c ? 0 : 1;
+                    row[i] = Math.min(Math.min(row[i - 1], previous[i]) + 1, previous[i - 1] + cost);
+                    min = Math.min(min, row[i]);
+                }
+
+                int child = edgeNodes[edge];
+                // The key ending at a node sorts first within its range.
+                if (row[length] <= maxDistance && keys[firstKey[child]].length() == depth + 1)
+                    found.add(new int[] { row[length], firstKey[child] });
+                if (min <= maxDistance)
+                    suggest(child, depth + 1, s, start, end, maxDistance, rows, found);
+            }
+        }
+
+        private int child(int node, char c) {
+            int from = firstEdge[node];
+            int count = edgeCount[node];
+
+            if (count <= LINEAR_SEARCH_LIMIT) {
+                for (int edge = from; edge < from + count; edge++) {
+                    if (edgeChars[edge] == c)
+                        return edgeNodes[edge];
+                }
+                return -1;
+            }
+
+            int edge = Arrays.binarySearch(edgeChars, from, from + count, c);
+            return edge < 0 ? -1 : edgeNodes[edge];
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.maxstupo.jannoargs;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+/**
+ * A value that is converted on first access instead of while parsing. Fields declared as {@code Lazy<T>} or {@code Supplier<T>} are set to a
+ * lazy value holding the argument, and the {@link Converter} of {@code T} is only called the first time {@link #get()} is called, so arguments
+ * that are expensive to convert (e.g. {@link Converters#MAPPED_FILE memory-mapped files} or {@link Converters#PATTERN patterns}) cost nothing on
+ * code paths that never use them.
+ * <p>
+ *
+ * Conversion happens at most once, even if many threads call {@link #get()} at once, and both the value and a conversion failure are cached.
+ *
+ * @author Maxstupo
+ * @param <T>
+ *            the type of the value.
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private final String key;
+    private final String argument;
+    private Converter<? extends T> converter;
+
+    private volatile boolean converted;
+    private T value;
+    private RuntimeException failure;
+
+    private Lazy(String key, String argument, Converter<? extends T> converter, T value) {
+        this.key = key;
+        this.argument = argument;
+        this.converter = converter;
+        this.value = value;
+        this.converted = converter == null;
+    }
+
+    /**
+     * Returns a lazy value that has already been converted, e.g. to use as the default value of a field.
+     *
+     * @param value
+     *            the value.
+     * @return a lazy value holding the given value.
+     */
+    public static <T> Lazy<T> of(T value) {
+        return new Lazy<>(null, null, null, value);
+    }
+
+    /**
+     * Returns the converted value, converting the argument if this is the first access.
+     *
+     * @return the converted value.
+     * @throws IllegalArgumentException
+     *             if the argument can't be converted.
+     */
+    @Override
+    public T get() {
+        if (!converted) {
+            synchronized (this) {
+                if (!converted)
+                    convert();
+            }
+        }
+        if (failure != null)
+            throw failure;
+        return value;
+    }
+
+    private void convert() {
+        try {
+            value = converter.convert(argument);
+            if (value == null)
+                failure = new IllegalArgumentException("Invalid value for --" + key + ": '" + argument + "'");
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        // Allow the converter to be collected, the argument is kept for error messages.
+        converter = null;
+        converted = true;
+    }
+
+    /**
+     * Returns the argument this value is converted from.
+     *
+     * @return the argument, or null if this value was created with {@link #of(Object)}.
+     */
+    public String getArgument() {
+        return argument;
+    }
+
+    /**
+     * Returns true if the argument has been converted, successfully or not.
+     *
+     * @return true if the argument has been converted.
+     */
+    public boolean isConverted() {
+        return converted;
+    }
+
+    @Override
+    public String toString() {
+        if (!converted)
+            return "Lazy[" + argument + "]";
+        return failure != null ? "Lazy[failed: " + argument + "]" : "Lazy[" + value + "]";
+    }
+
+    /**
+     * Returns true if the given field type is set to lazy values.
+     */
+    static boolean isLazy(Class<?> type) {
+        return type == Lazy.class || type == Supplier.class;
+    }
+
+    /**
+     * Returns a converter that creates lazy values for a field of the given type, deferring to the converter of the type argument of the field.
+     *
+     * @param key
+     *            the key of the field, used in error messages.
+     * @param type
+     *            the generic type of the field, {@code Lazy<T>} or {@code Supplier<T>}.
+     * @return the converter, or null if there is no converter for the type argument.
+     */
+    static Converter<Lazy<?>> converterFor(final String key, Type type) {
+        Class<?> valueType = String.class;
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class)
+                valueType = (Class<?>) argument;
+        }
+
+        final Converter<?> converter = Converters.get(valueType);
+        if (converter == null)
+            return null;
+
+        return new Converter<Lazy<?>>() {
+            @Override
+            public Lazy<?> convert(String value) {
+                return new Lazy<>(key, value, converter, null);
+            }
+        };
+    }
+}
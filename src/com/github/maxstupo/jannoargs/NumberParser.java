@@ -0,0 +1,228 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * Exception-free number parsing. Integral values are validated and parsed within a single pass over the characters, invalid values are reported
+ * with {@link #INVALID} instead of throwing a {@link NumberFormatException}.
+ *
+ * @author Maxstupo
+ */
+final class NumberParser {
+
+    /** Returned by {@link #parseLong(String)} and {@link #parseInt(String)} if the string isn't a valid number. */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final String LONG_MIN = "9223372036854775808";
+
+    private NumberParser() {
+    }
+
+    /**
+     * Parses the given string as a signed decimal int, accepting the same strings as {@link Integer#parseInt(String)}.
+     *
+     * @param s
+     *            the string.
+     * @return the int value, or {@link #INVALID} if the string isn't a valid int.
+     */
+    static long parseInt(String s) {
+        return parseIntegral(s, 0, s.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parses the given range of characters as a signed decimal int, the same as {@link #parseInt(String)}.
+     *
+     * @param s
+     *            the characters.
+     * @param start
+     *            the start index, inclusive.
+     * @param end
+     *            the end index, exclusive.
+     * @return the int value, or {@link #INVALID} if the characters aren't a valid int.
+     */
+    static long parseInt(CharSequence s, int start, int end) {
+        return parseIntegral(s, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parses the given string as a signed decimal short, accepting the same strings as {@link Short#parseShort(String)}.
+     *
+     * @param s
+     *            the string.
+     * @return the short value, or {@link #INVALID} if the string isn't a valid short.
+     */
+    static long parseShort(String s) {
+        return parseIntegral(s, 0, s.length(), Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    /**
+     * Parses the given string as a signed decimal byte, accepting the same strings as {@link Byte#parseByte(String)}.
+     *
+     * @param s
+     *            the string.
+     * @return the byte value, or {@link #INVALID} if the string isn't a valid byte.
+     */
+    static long parseByte(String s) {
+        return parseIntegral(s, 0, s.length(), Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    /**
+     * Parses the given string as a signed decimal long, accepting the same strings as {@link Long#parseLong(String)}. As {@link Long#MIN_VALUE} is
+     * used as the {@link #INVALID} marker, callers must use {@link #isLongMin(String)} to tell the two apart.
+     *
+     * @param s
+     *            the string.
+     * @return the long value, or {@link #INVALID} if the string isn't a valid long.
+     */
+    static long parseLong(String s) {
+        return parseIntegral(s, 0, s.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Parses the given range of characters as a signed decimal long, the same as {@link #parseLong(String)}.
+     *
+     * @param s
+     *            the characters.
+     * @param start
+     *            the start index, inclusive.
+     * @param end
+     *            the end index, exclusive.
+     * @return the long value, or {@link #INVALID} if the characters aren't a valid long.
+     */
+    static long parseLong(CharSequence s, int start, int end) {
+        return parseIntegral(s, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns true if the given string is the decimal representation of {@link Long#MIN_VALUE}. Only needs to be called if
+     * {@link #parseLong(String)} returned {@link #INVALID}.
+     *
+     * @param s
+     *            the string.
+     * @return true if the given string represents {@link Long#MIN_VALUE}.
+     */
+    static boolean isLongMin(String s) {
+        return isLongMin(s, 0, s.length());
+    }
+
+    /**
+     * Returns true if the given range of characters is the decimal representation of {@link Long#MIN_VALUE}, the same as
+     * {@link #isLongMin(String)}.
+     */
+    static boolean isLongMin(CharSequence s, int start, int end) {
+        if (end - start != LONG_MIN.length() + 1 || s.charAt(start) != '-')
+            return false;
+        for (int i = start + 1; i < end; i++) {
+            if (Character.digit(s.charAt(i), 10) != LONG_MIN.charAt(i - start - 1) - '0')
+                return false;
+        }
+        return true;
+    }
+
+    private static long parseIntegral(CharSequence s, int start, int end, long min, long max) {
+        if (start == end)
+            return INVALID;
+
+        // Accumulate negatively to handle the minimum value without overflowing, the same as Long.parseLong().
+        int i = start;
+        boolean negative = false;
+        long limit = -max;
+
+        char first = s.charAt(start);
+        if (first == '-' || first == '+') {
+            if (end - start == 1)
+                return INVALID;
+            if (first == '-') {
+                negative = true;
+                limit = min;
+            }
+            i++;
+        }
+
+        long multmin = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0 || result < multmin)
+                return INVALID;
+            result *= 10;
+            if (result < limit + digit)
+                return INVALID;
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Returns true if the given string can be parsed by {@link Double#parseDouble(String)} or {@link Float#parseFloat(String)} without throwing an
+     * exception. Validates decimal and hexadecimal floating point literals, {@code NaN} and {@code Infinity} in a single pass.
+     *
+     * @param s
+     *            the string.
+     * @return true if the given string is a valid floating point number.
+     */
+    static boolean isFloatingPoint(String s) {
+        int start = 0;
+        int end = s.length();
+
+        // Double.parseDouble() trims whitespace.
+        while (start < end && s.charAt(start) <= ' ')
+            start++;
+        while (end > start && s.charAt(end - 1) <= ' ')
+            end--;
+        if (start == end)
+            return false;
+
+        int i = start;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+')
+            i++;
+        if (i == end)
+            return false;
+
+        if (s.startsWith("NaN", i))
+            return i + 3 == end;
+        if (s.startsWith("Infinity", i))
+            return i + 8 == end;
+
+        boolean hex = i + 1 < end && s.charAt(i) == '0' && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X');
+        if (hex)
+            i += 2;
+
+        // Mantissa with an optional decimal point.
+        int digits = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            c = s.charAt(i);
+            if (c == '.' && !point) {
+                point = true;
+            } else if (c >= '0' && c <= '9' || hex && (c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F')) {
+                digits++;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0)
+            return false;
+
+        // Exponent, mandatory for hexadecimal literals.
+        if (i < end && (hex ? s.charAt(i) == 'p' || s.charAt(i) == 'P' : s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+'))
+                i++;
+            int exponentDigits = 0;
+            for (; i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9'; i++)
+                exponentDigits++;
+            if (exponentDigits == 0)
+                return false;
+        } else if (hex) {
+            return false;
+        }
+
+        // Optional type suffix.
+        if (i < end) {
+            c = s.charAt(i);
+            if (c == 'f' || c == 'F' || c == 'd' || c == 'D')
+                i++;
+        }
+        return i == end;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.SocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+
+/**
+ * The client of a {@link ParseServer}, sending an argument vector and the working directory to a tool of the server and copying the tool's output
+ * to its own stdout and stderr.
+ * <p>
+ *
+ * This class is the reference implementation of the {@link DaemonProtocol protocol}; a native client avoids JVM startup altogether. Run with:
+ * {@code java -cp <classes> com.github.maxstupo.jannoargs.ParseClient <socket> <tool> [args...]}, which exits with the status of the tool.
+ *
+ * @author Maxstupo
+ */
+public final class ParseClient {
+
+    private ParseClient() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ParseClient <socket> <tool> [args...]");
+            System.exit(ParseServer.EXIT_ERROR);
+        }
+
+        String[] toolArgs = new String[args.length - 2];
+        System.arraycopy(args, 2, toolArgs, 0, toolArgs.length);
+        System.exit(run(DaemonProtocol.unixAddress(Paths.get(args[0])), args[1], System.getProperty("user.dir"), toolArgs, System.out, System.err));
+    }
+
+    /**
+     * Sends a request to a server and copies the output of the tool to the given streams.
+     *
+     * @param address
+     *            the address of the server.
+     * @param tool
+     *            the name of the tool.
+     * @param workingDirectory
+     *            the working directory to send.
+     * @param args
+     *            the arguments of the tool.
+     * @param stdout
+     *            the stream the tool's stdout is copied to.
+     * @param stderr
+     *            the stream the tool's stderr is copied to.
+     * @return the exit status of the tool.
+     * @throws IOException
+     *             if the server can't be reached, or the connection closes before the tool exits.
+     */
+    public static int run(SocketAddress address, String tool, String workingDirectory, String[] args, OutputStream stdout, OutputStream stderr) throws IOException {
+        try (SocketChannel channel = DaemonProtocol.connect(address)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(DaemonProtocol.MAGIC);
+            DaemonProtocol.writeString(out, tool);
+            DaemonProtocol.writeString(out, workingDirectory);
+            out.writeInt(args.length);
+            for (String arg : args)
+                DaemonProtocol.writeString(out, arg);
+            out.flush();
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            return DaemonProtocol.readResponse(in, stdout, stderr);
+        }
+    }
+}
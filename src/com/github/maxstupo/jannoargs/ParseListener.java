@@ -0,0 +1,73 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * Receives timings and failures of parses, for metrics or profiling. A listener is attached with
+ * {@link ArgumentParser.Builder#listener(ParseListener)} or {@link JAnnoArgs#setParseListener(ParseListener)}, when no listener is attached
+ * parses aren't timed at all.
+ * <p>
+ *
+ * Listeners are called on the thread that parsed, and may be called by many threads at once. All methods do nothing by default.
+ *
+ * @author Maxstupo
+ * @see ParseMetrics
+ * @see #flightRecorder()
+ */
+public interface ParseListener {
+
+    /**
+     * Returns a listener that emits JDK Flight Recorder events, a {@code com.github.maxstupo.jannoargs.Parse} event for each parse and a
+     * {@code com.github.maxstupo.jannoargs.ParseFailure} event for each failure. The listener is compiled from the {@code src-jfr} source set
+     * against Java 11, so the core keeps running on Java 8, and is loaded on demand.
+     *
+     * @return a new flight recorder listener.
+     * @throws UnsupportedOperationException
+     *             if the listener isn't on the class path, or the JVM has no flight recorder.
+     */
+    static ParseListener flightRecorder() {
+        try {
+            Class<?> type = Class.forName("com.github.maxstupo.jannoargs.FlightRecorderListener", true, ParseListener.class.getClassLoader());
+            return type.asSubclass(ParseListener.class).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("JDK Flight Recorder events are unavailable: " + e, e);
+        }
+    }
+
+    /**
+     * Called once per phase of a parse that took place, with the total time spent in the phase.
+     *
+     * @param type
+     *            the type parsed into, or {@code Object[]} for a parse into several objects.
+     * @param phase
+     *            the phase.
+     * @param nanos
+     *            the time spent in the phase, in nanoseconds.
+     */
+    default void onPhase(Class<?> type, ParsePhase phase, long nanos) {
+    }
+
+    /**
+     * Called when a parse fails, before {@link #onParse(Class, boolean, long)}.
+     *
+     * @param type
+     *            the type parsed into.
+     * @param cause
+     *            the cause of the failure.
+     * @param failure
+     *            the failure message.
+     */
+    default void onFailure(Class<?> type, FailureCause cause, String failure) {
+    }
+
+    /**
+     * Called when a parse has finished, after all of its phases have been reported.
+     *
+     * @param type
+     *            the type parsed into.
+     * @param success
+     *            true if the parse succeeded.
+     * @param nanos
+     *            the duration of the parse, in nanoseconds.
+     */
+    default void onParse(Class<?> type, boolean success, long nanos) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ParseListener} that accumulates the time spent in each phase and counts failures by cause, for all types. Safe to share between
+ * parsers and threads.
+ *
+ * @author Maxstupo
+ */
+public class ParseMetrics implements ParseListener {
+
+    private static final ParsePhase[] PHASES = ParsePhase.values();
+    private static final FailureCause[] CAUSES = FailureCause.values();
+
+    private final LongAdder[] phaseNanos = adders(PHASES.length);
+    private final LongAdder[] phaseCounts = adders(PHASES.length);
+    private final LongAdder[] failures = adders(CAUSES.length);
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+
+    @Override
+    public void onPhase(Class<?> type, ParsePhase phase, long nanos) {
+        phaseNanos[phase.ordinal()].add(nanos);
+        phaseCounts[phase.ordinal()].increment();
+    }
+
+    @Override
+    public void onFailure(Class<?> type, FailureCause cause, String failure) {
+        failures[cause.ordinal()].increment();
+    }
+
+    @Override
+    public void onParse(Class<?> type, boolean success, long nanos) {
+        parses.increment();
+        parseNanos.add(nanos);
+    }
+
+    /**
+     * Returns the total time spent in the given phase.
+     *
+     * @param phase
+     *            the phase.
+     * @return the total time spent in the given phase, in nanoseconds.
+     */
+    public long getPhaseNanos(ParsePhase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of parses that reported the given phase.
+     *
+     * @param phase
+     *            the phase.
+     * @return the number of parses that reported the given phase.
+     */
+    public long getPhaseCount(ParsePhase phase) {
+        return phaseCounts[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of parses that failed with the given cause.
+     *
+     * @param cause
+     *            the cause.
+     * @return the number of parses that failed with the given cause.
+     */
+    public long getFailures(FailureCause cause) {
+        return failures[cause.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of parses that failed, for any cause.
+     *
+     * @return the number of parses that failed.
+     */
+    public long getFailures() {
+        long total = 0;
+        for (LongAdder adder : failures)
+            total += adder.sum();
+        return total;
+    }
+
+    /**
+     * Returns the number of parses that have finished.
+     *
+     * @return the number of parses that have finished.
+     */
+    public long getParses() {
+        return parses.sum();
+    }
+
+    /**
+     * Returns the total duration of all parses.
+     *
+     * @return the total duration of all parses, in nanoseconds.
+     */
+    public long getParseNanos() {
+        return parseNanos.sum();
+    }
+
+    /**
+     * Resets all timings and counts to zero. Parses in progress may be partly counted.
+     */
+    public void reset() {
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseNanos[i].reset();
+            phaseCounts[i].reset();
+        }
+        for (LongAdder adder : failures)
+            adder.reset();
+        parses.reset();
+        parseNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ParseMetrics[parses=").append(getParses()).append(", nanos=").append(getParseNanos());
+        for (ParsePhase phase : PHASES)
+            sb.append(", ").append(phase).append('=').append(getPhaseNanos(phase));
+        for (FailureCause cause : CAUSES)
+            sb.append(", ").append(cause).append('=').append(getFailures(cause));
+        return sb.append(']').toString();
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++)
+            adders[i] = new LongAdder();
+        return adders;
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * The phases of a parse, as reported to a {@link ParseListener}.
+ *
+ * @author Maxstupo
+ */
+public enum ParsePhase {
+
+    /** Looking up the compiled schema of the parsed type. An {@link ArgumentParser} looks up its schema once, when it's built. */
+    SCHEMA_LOOKUP,
+
+    /** Reading the values of each {@link ArgumentSource}, excluding the time spent converting and setting them. */
+    SOURCE_LOOKUP,
+
+    /** Splitting a command line, reader or argument file into arguments. Not reported when parsing a string array without argument files. */
+    TOKENIZING,
+
+    /** Converting values to the field types. */
+    CONVERSION,
+
+    /**
+     * Setting fields. {@link GeneratedParser Generated parsers} convert and set a value in a single step, which is reported as binding.
+     */
+    BINDING,
+
+    /** Calling the events of the arguments present. */
+    EVENT_DISPATCH
+}
@@ -0,0 +1,117 @@
+package com.github.maxstupo.jannoargs;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The result of parsing a single argument vector within a batch, or of {@link ArgumentParser#resolve(Object, String...) resolving} an object.
+ *
+ * @author Maxstupo
+ * @param <T>
+ *            the type of the parsed object.
+ * @see ArgumentParser#parseAll(java.util.stream.Stream, java.util.function.Supplier)
+ */
+public final class ParseResult<T> {
+
+    private final T value;
+    private final FailureCause failureCause;
+    private final String failure;
+    private final Throwable error;
+    private final Map<String, String> sources;
+
+    private ParseResult(T value, FailureCause failureCause, String failure, Throwable error, Map<String, String> sources) {
+        this.value = value;
+        this.failureCause = failureCause;
+        this.failure = failure;
+        this.error = error;
+        this.sources = sources == null ? Collections.<String, String> emptyMap() : Collections.unmodifiableMap(sources);
+    }
+
+    static <T> ParseResult<T> success(T value) {
+        return new ParseResult<>(value, null, null, null, null);
+    }
+
+    static <T> ParseResult<T> success(T value, Map<String, String> sources) {
+        return new ParseResult<>(value, null, null, null, sources);
+    }
+
+    static <T> ParseResult<T> failure(FailureCause failureCause, String failure) {
+        return new ParseResult<>(null, failureCause, failure, null, null);
+    }
+
+    static <T> ParseResult<T> error(Throwable error) {
+        return new ParseResult<>(null, null, String.valueOf(error), error, null);
+    }
+
+    /**
+     * Returns true if the arguments were parsed successfully.
+     *
+     * @return true if the arguments were parsed successfully.
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the object the arguments were parsed into.
+     *
+     * @return the object the arguments were parsed into, or null if parsing failed.
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the reason parsing failed.
+     *
+     * @return the reason parsing failed, or null if parsing succeeded.
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the cause of the failure.
+     *
+     * @return the cause of the failure, or null if parsing succeeded or an {@link #getError() exception} was thrown.
+     */
+    public FailureCause getFailureCause() {
+        return failureCause;
+    }
+
+    /**
+     * Returns the exception thrown while parsing, e.g. by an event or if an argument file couldn't be read.
+     *
+     * @return the exception thrown while parsing, or null if no exception was thrown.
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Returns the name of the source that set the given key, either the {@link ArgumentSource#getName() name} of an {@link ArgumentSource} or
+     * {@link ArgumentSource#COMMAND_LINE}. Only results from {@link ArgumentParser#resolve(Object, String...)} keep their sources.
+     *
+     * @param key
+     *            the {@link CmdArgument#key() key}.
+     * @return the name of the source, or null if the key wasn't set.
+     */
+    public String getSource(String key) {
+        return sources.get(key);
+    }
+
+    /**
+     * Returns the name of the source that set each key, in the order the keys were first set.
+     *
+     * @return an unmodifiable map of source names referenced by key, empty if sources weren't kept.
+     * @see #getSource(String)
+     */
+    public Map<String, String> getSources() {
+        return sources;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "ParseResult[" + value + "]" : "ParseResult[failure=" + failure + "]";
+    }
+}
@@ -0,0 +1,518 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.net.ConnectException;
+import java.net.SocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * A resident server that parses argument vectors sent by a {@link ParseClient}, so a tool run many times, e.g. from build scripts, only pays for
+ * JVM startup once. Each request names a registered tool, which parses the arguments into a new object with its {@link ArgumentParser}, calls the
+ * events of the arguments present and runs the tool's {@link Command}. The output of the command is streamed back to the client, followed by its
+ * exit status.
+ * <p>
+ *
+ * Each request runs on its own thread with its own object and parse session; the parsers are immutable and shared. By default requests run on
+ * virtual threads when the JVM supports them, and on a cached pool of daemon threads otherwise.
+ * <p>
+ *
+ * The server listens on a Unix domain socket (Java 16 or later) or any other {@link SocketAddress}, e.g. a loopback address. It has no
+ * authentication, so it should only be bound to a socket that only trusted users can access.
+ *
+ * @author Maxstupo
+ * @see DaemonProtocol
+ */
+public final class ParseServer implements Closeable {
+
+    /** The exit status when the arguments couldn't be parsed. */
+    public static final int EXIT_PARSE_FAILURE = 2;
+
+    /** The exit status when the tool is unknown or the command throws an exception. */
+    public static final int EXIT_ERROR = 1;
+
+    /** The first and longest delay before accepting again after accepting a client failed, e.g. when out of file descriptors. */
+    private static final long MIN_ACCEPT_BACKOFF_MILLIS = 10;
+    private static final long MAX_ACCEPT_BACKOFF_MILLIS = 5000;
+
+    /**
+     * A tool run by the server once its arguments have been parsed.
+     *
+     * @param <T>
+     *            the type the arguments are parsed into.
+     */
+    public interface Command<T> {
+
+        /**
+         * Runs the tool.
+         *
+         * @param options
+         *            the parsed object.
+         * @param request
+         *            the request, holding the working directory and output streams of the client.
+         * @return the exit status.
+         * @throws Exception
+         *             if the tool fails, which is printed to the client's stderr and exits with {@link ParseServer#EXIT_ERROR}.
+         */
+        int run(T options, Request request) throws Exception;
+    }
+
+    /**
+     * A request from a client.
+     */
+    public static final class Request {
+
+        private final String tool;
+        private final Path workingDirectory;
+        private final List<String> arguments;
+        private final PrintStream out;
+        private final PrintStream err;
+
+        Request(String tool, Path workingDirectory, List<String> arguments, PrintStream out, PrintStream err) {
+            this.tool = tool;
+            this.workingDirectory = workingDirectory;
+            this.arguments = arguments;
+            this.out = out;
+            this.err = err;
+        }
+
+        /**
+         * @return the name of the requested tool.
+         */
+        public String getTool() {
+            return tool;
+        }
+
+        /**
+         * Returns the working directory of the client. Argument files and the values of {@link java.nio.file.Path Path} fields are resolved
+         * against it when the arguments are parsed, but the server can't change its own working directory, so other relative paths must be
+         * resolved with {@link #resolve(String)}.
+         *
+         * @return the working directory of the client.
+         */
+        public Path getWorkingDirectory() {
+            return workingDirectory;
+        }
+
+        /**
+         * Resolves the given path against the working directory of the client.
+         *
+         * @param path
+         *            the path.
+         * @return the resolved path.
+         */
+        public Path resolve(String path) {
+            return workingDirectory.resolve(path);
+        }
+
+        /**
+         * @return an unmodifiable list of the arguments.
+         */
+        public List<String> getArguments() {
+            return arguments;
+        }
+
+        /**
+         * @return the stdout of the client.
+         */
+        public PrintStream getOut() {
+            return out;
+        }
+
+        /**
+         * @return the stderr of the client.
+         */
+        public PrintStream getErr() {
+            return err;
+        }
+    }
+
+    private final Map<String, Tool<?>> tools;
+    private final ExecutorService executor;
+    private final boolean shutdownExecutor;
+
+    private ServerSocketChannel channel;
+    private Path socketPath;
+
+    private ParseServer(Builder builder) {
+        this.tools = Collections.unmodifiableMap(new HashMap<>(builder.tools));
+        this.shutdownExecutor = builder.executor == null;
+        this.executor = builder.executor == null ? defaultExecutor() : builder.executor;
+    }
+
+    /**
+     * Binds the server to a Unix domain socket and starts accepting requests on a daemon thread. The stale socket of a previous server that
+     * wasn't closed is replaced, but nothing else at the path is.
+     *
+     * @param path
+     *            the path of the socket.
+     * @return this server.
+     * @throws IOException
+     *             if the socket can't be bound, the path exists and isn't a socket, or another server is listening on the socket.
+     * @throws UnsupportedOperationException
+     *             if Unix domain sockets aren't supported, e.g. before Java 16.
+     * @throws IllegalStateException
+     *             if the server is already bound.
+     */
+    public synchronized ParseServer bind(Path path) throws IOException {
+        if (channel != null)
+            throw new IllegalStateException("Server is already bound");
+
+        SocketAddress address = DaemonProtocol.unixAddress(path);
+        deleteStaleSocket(path, address);
+        bind(address);
+        this.socketPath = path;
+        return this;
+    }
+
+    /**
+     * Deletes the socket at the given path if no server is listening on it.
+     *
+     * @throws IOException
+     *             if the path exists and isn't a socket, or a server is listening on it.
+     */
+    private static void deleteStaleSocket(Path path, SocketAddress address) throws IOException {
+        if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS))
+            return;
+        if (!isSocket(path))
+            throw new FileAlreadyExistsException(path.toString(), null, "Exists and isn't a socket");
+
+        SocketChannel channel;
+        try {
+            channel = DaemonProtocol.connect(address);
+        } catch (ConnectException e) {
+            // Nothing is listening, the socket was left behind by a server that wasn't closed.
+            Files.deleteIfExists(path);
+            return;
+        }
+        channel.close();
+        throw new IOException("Another server is listening on " + path);
+    }
+
+    private static boolean isSocket(Path path) throws IOException {
+        try {
+            int mode = (Integer) Files.getAttribute(path, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+            return (mode & 0170000) == 0140000;
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            // Without unix attributes, e.g. on Windows, a socket is neither a file, directory nor link.
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther();
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Binds the server to the given address and starts accepting requests on a daemon thread.
+     *
+     * @param address
+     *            the address, e.g. a loopback address or a Unix domain socket address.
+     * @return this server.
+     * @throws IOException
+     *             if the socket can't be bound.
+     * @throws IllegalStateException
+     *             if the server is already bound.
+     */
+    public synchronized ParseServer bind(SocketAddress address) throws IOException {
+        if (channel != null)
+            throw new IllegalStateException("Server is already bound");
+
+        ServerSocketChannel channel = DaemonProtocol.openServer(address);
+        try {
+            channel.bind(address);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.channel = channel;
+
+        Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                accept();
+            }
+        }, "JAnnoArgs-ParseServer");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return this;
+    }
+
+    /**
+     * Returns the address the server is bound to.
+     *
+     * @return the bound address, or null if the server isn't bound.
+     * @throws IOException
+     *             if the address can't be read.
+     */
+    public synchronized SocketAddress getAddress() throws IOException {
+        return channel == null ? null : channel.getLocalAddress();
+    }
+
+    /**
+     * Returns the names of the registered tools.
+     *
+     * @return the names of the registered tools, sorted.
+     */
+    public List<String> getTools() {
+        List<String> names = new ArrayList<>(tools.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    private void accept() {
+        ServerSocketChannel channel;
+        synchronized (this) {
+            channel = this.channel;
+        }
+
+        long backoff = 0;
+        while (channel.isOpen()) {
+            final SocketChannel client;
+            try {
+                client = channel.accept();
+                backoff = 0;
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                // The error is likely to repeat until resources are freed, so back off instead of spinning and report it once.
+                if (backoff == 0)
+                    System.err.println("ParseServer failed to accept a client, backing off: " + e);
+                backoff = backoff == 0 ? MIN_ACCEPT_BACKOFF_MILLIS : Math.min(backoff * 2, MAX_ACCEPT_BACKOFF_MILLIS);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                continue;
+            }
+
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    handle(client);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reads a single request from the client, runs it and writes the response.
+     */
+    private void handle(SocketChannel client) {
+        try (SocketChannel c = client) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(c)));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(c)));
+
+            if (in.readInt() != DaemonProtocol.MAGIC)
+                return;
+            String tool = DaemonProtocol.readString(in);
+            String workingDirectory = DaemonProtocol.readString(in);
+            String[] args = new String[DaemonProtocol.readCount(in)];
+            for (int i = 0; i < args.length; i++)
+                args[i] = DaemonProtocol.readString(in);
+
+            PrintStream stdout = printStream(out, DaemonProtocol.STDOUT);
+            PrintStream stderr = printStream(out, DaemonProtocol.STDERR);
+            int status;
+            try {
+                status = run(tool, workingDirectory, args, stdout, stderr);
+            } catch (Throwable t) {
+                // Errors too, e.g. a StackOverflowError, so the client still gets an exit status.
+                t.printStackTrace(stderr);
+                status = EXIT_ERROR;
+            }
+            stdout.flush();
+            stderr.flush();
+
+            synchronized (out) {
+                out.writeByte(DaemonProtocol.EXIT);
+                out.writeInt(status);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The client disconnected, there is no one to report to.
+        }
+    }
+
+    private int run(String toolName, String workingDirectory, String[] args, PrintStream stdout, PrintStream stderr) throws Exception {
+        Path directory;
+        try {
+            directory = Paths.get(workingDirectory);
+        } catch (InvalidPathException e) {
+            stderr.println("Invalid working directory: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+
+        Request request = new Request(toolName, directory, Collections.unmodifiableList(Arrays.asList(args)), stdout, stderr);
+        Tool<?> tool = tools.get(request.getTool());
+        if (tool == null) {
+            request.getErr().println("Unknown tool: " + request.getTool());
+            return EXIT_ERROR;
+        }
+
+        return tool.run(request, args);
+    }
+
+    private static PrintStream printStream(DataOutputStream out, byte type) {
+        try {
+            return new PrintStream(new BufferedOutputStream(new DaemonProtocol.FrameOutputStream(out, type)), false, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stops accepting requests and deletes the Unix domain socket file. Requests that are running are allowed to complete, unless the server
+     * created its own executor, which is shut down.
+     *
+     * @throws IOException
+     *             if the socket can't be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (channel != null)
+                channel.close();
+            if (socketPath != null)
+                Files.deleteIfExists(socketPath);
+        } finally {
+            if (shutdownExecutor)
+                executor.shutdown();
+        }
+    }
+
+    /**
+     * @return an executor running each task on a new virtual thread if supported, otherwise a cached pool of daemon threads.
+     */
+    private static ExecutorService defaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "JAnnoArgs-ParseServer-request");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns a new builder of a server.
+     *
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** A registered tool. */
+    private static final class Tool<T> {
+
+        private final ArgumentParser<T> parser;
+        private final Supplier<? extends T> supplier;
+        private final Command<? super T> command;
+
+        Tool(ArgumentParser<T> parser, Supplier<? extends T> supplier, Command<? super T> command) {
+            this.parser = parser;
+            this.supplier = supplier;
+            this.command = command;
+        }
+
+        int run(Request request, String[] args) throws Exception {
+            ParseResult<T> result = parser.parseResult(supplier.get(), request.getWorkingDirectory(), args);
+            if (!result.isSuccess()) {
+                request.getErr().println(result.getFailure());
+                request.getErr().print(parser.generateHelp());
+                return EXIT_PARSE_FAILURE;
+            }
+            return command.run(result.getValue(), request);
+        }
+    }
+
+    /**
+     * A builder of a {@link ParseServer}.
+     */
+    public static final class Builder {
+
+        private final Map<String, Tool<?>> tools = new HashMap<>();
+        private ExecutorService executor;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a tool. Each request for the tool parses its arguments into a new object from the supplier without displaying help, calling
+         * the events registered with the parser on the request thread, then runs the command. If parsing fails, the failure and the help of the
+         * parser are written to the client's stderr and the request exits with {@link ParseServer#EXIT_PARSE_FAILURE}.
+         *
+         * @param name
+         *            the name of the tool, sent by the client.
+         * @param parser
+         *            the parser of the tool's arguments.
+         * @param supplier
+         *            the supplier of a new object for each request.
+         * @param command
+         *            the command run with the parsed object.
+         * @return this builder.
+         * @throws IllegalArgumentException
+         *             if a tool with the name has already been registered.
+         */
+        public <T> Builder tool(String name, ArgumentParser<T> parser, Supplier<? extends T> supplier, Command<? super T> command) {
+            if (tools.containsKey(name))
+                throw new IllegalArgumentException("A tool has already been registered with the name: " + name);
+            tools.put(name, new Tool<>(parser, supplier, command));
+            return this;
+        }
+
+        /**
+         * Sets the executor requests run on, which isn't shut down when the server is closed. (Default: a virtual thread per request if supported,
+         * otherwise a cached pool of daemon threads)
+         *
+         * @param executor
+         *            the executor, or null for the default.
+         * @return this builder.
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds a server, which starts accepting requests once it's {@link ParseServer#bind(Path) bound}.
+         *
+         * @return a new server.
+         */
+        public ParseServer build() {
+            return new ParseServer(this);
+        }
+    }
+}
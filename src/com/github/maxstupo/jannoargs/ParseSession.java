@@ -0,0 +1,616 @@
+package com.github.maxstupo.jannoargs;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+/**
+ * The state of a single parse, fed one argument at a time. Arguments can be any {@link CharSequence}, such as a String or the reusable buffer of an
+ * {@link ArgumentTokenizer}, and keys are matched directly against the characters of the argument without creating a substring.
+ * <p>
+ *
+ * The values of multi-valued fields are collected by an {@link Accumulator} per key, and the fields are set once parsing finishes.
+ * <p>
+ *
+ * Only the keys that have a registered event are recorded, so memory use doesn't grow with the number of arguments.
+ * <p>
+ *
+ * Values that violate their {@link CmdArgument} constraints aren't set, and parsing continues so every violation, including required keys that
+ * aren't present, is reported together when parsing finishes.
+ * <p>
+ *
+ * Values from an {@link ArgumentSource} are applied before the command line, each source binding its multi-valued fields before the next so a
+ * later source replaces their values instead of adding to them. If sources are tracked, the name of the source that set each key is kept.
+ * <p>
+ *
+ * If a working directory is set, e.g. the directory of a {@link ParseServer} client, the values of path-valued keys are resolved against it
+ * before they're converted.
+ * <p>
+ *
+ * If a {@link ParseListener} is attached, the time spent in each {@link ParsePhase phase} is accumulated and reported by {@link #report()}.
+ * Without a listener nothing is timed.
+ *
+ * @author Maxstupo
+ */
+final class ParseSession {
+
+    /** The maximum number of keys suggested for an unknown key. */
+    private static final int MAX_SUGGESTIONS = 3;
+
+    private final ArgumentTarget target;
+    private final Object obj;
+    private final ArgumentTarget[] ignoreTargets;
+
+    private final boolean abbreviations;
+    private final boolean multiValued;
+    private Map<String, Accumulator> accumulators;
+
+    private final Map<String, IArgumentEvent> events;
+    private final Set<String> recordedKeys;
+
+    /** The state of checking constraints, or null if the target has none. */
+    private final ConstraintCheck constraints;
+    private final List<String> keys = new ArrayList<>();
+
+    /** The directory relative paths are resolved against, or null for the working directory of this process. */
+    private Path workingDirectory;
+
+    /** The source that set each key, or null if sources aren't tracked. */
+    private Map<String, String> sources;
+    /** The name of the source being applied, or null for the command line. */
+    private String sourceName;
+
+    private final Class<?> type;
+    private final ParseListener listener;
+    private final long startNanos;
+    private final long[] phaseNanos;
+    private long acceptNanos;
+
+    private boolean failed;
+    private FailureCause failureCause;
+    private String failure;
+
+    private boolean assignNext;
+    private String key;
+    private String unknownKey;
+
+    /**
+     * @param target
+     *            the target of the object.
+     * @param obj
+     *            the object to set the fields of, or the staging area of a target bound through its constructor.
+     * @param ignoreTargets
+     *            the targets of keys that will be skipped.
+     * @param events
+     *            the registered events, only keys with an event are recorded.
+     * @param perOccurrence
+     *            if true a key is recorded each time it is present, otherwise only the first time.
+     * @param listener
+     *            the listener to report to, or null to not time this parse.
+     * @param abbreviations
+     *            if true keys of the target can be abbreviated to an unambiguous prefix.
+     */
+    ParseSession(ArgumentTarget target, Object obj, ArgumentTarget[] ignoreTargets, Map<String, IArgumentEvent> events, boolean perOccurrence, ParseListener listener, boolean abbreviations) {
+        this.target = target;
+        this.obj = obj;
+        this.ignoreTargets = ignoreTargets;
+        this.abbreviations = abbreviations;
+        this.multiValued = target.hasMultiValuedKeys();
+        this.events = events;
+        this.recordedKeys = perOccurrence ? null : new HashSet<String>();
+        this.constraints = target.hasConstraints() ? new ConstraintCheck(target.getRequired()) : null;
+
+        if (target instanceof ArgumentSchema && ((ArgumentSchema) target).getConstructorBinder() != null && !(obj instanceof ConstructorBinder.Staging))
+            throw new IllegalArgumentException(obj.getClass().getName() + " is bound through its constructor and can't be parsed into an existing object");
+        this.type = obj instanceof ConstructorBinder.Staging ? ((ConstructorBinder.Staging) obj).getType() : obj.getClass();
+        this.listener = listener;
+        this.startNanos = listener == null ? 0 : System.nanoTime();
+        this.phaseNanos = listener == null ? null : new long[ParsePhase.values().length];
+    }
+
+    /**
+     * Parses the next argument. The argument is only read during this call, so a reusable buffer can be passed.
+     *
+     * @param arg
+     *            the argument.
+     * @return false if parsing has failed.
+     */
+    boolean accept(CharSequence arg) {
+        if (listener == null)
+            return next(arg);
+
+        long start = System.nanoTime();
+        try {
+            return next(arg);
+        } finally {
+            acceptNanos += System.nanoTime() - start;
+        }
+    }
+
+    private boolean next(CharSequence arg) {
+        if (failed)
+            return false;
+
+        if (assignNext) {
+            assignNext = false;
+            if (key == null)
+                return failUnknown(unknownKey, 2);
+
+            return assign(key, arg.toString());
+        }
+
+        int length = arg.length();
+        if (length >= 2 && arg.charAt(0) == '-' && arg.charAt(1) == '-') {
+            if (isIgnored(arg, 2, length))
+                return true;
+
+            // An unknown key only fails once a value is given, as in previous versions.
+            key = target.getKeyIndex().find(arg, 2, length, abbreviations);
+            unknownKey = key == null ? arg.toString() : null;
+            assignNext = true;
+
+        } else if (length >= 1 && (arg.charAt(0) == '-' || arg.charAt(0) == '+')) {
+            if (isIgnored(arg, 1, length))
+                return true;
+
+            String flagKey = target.getKeyIndex().find(arg, 1, length, abbreviations);
+            if (flagKey == null)
+                return failUnknown(arg.toString(), 1);
+
+            long start = listener == null ? 0 : System.nanoTime();
+            boolean set = target.setBoolean(obj, flagKey, arg.charAt(0) == '+');
+            if (listener != null)
+                time(ParsePhase.BINDING, start);
+            if (!set)
+                return fail(FailureCause.NOT_A_BOOLEAN, "Argument isn't a boolean: " + arg);
+            record(flagKey);
+        }
+        return true;
+    }
+
+    /**
+     * Converts and sets the value of the given key, or adds it to the accumulator of a multi-valued key.
+     *
+     * @return false if the value couldn't be converted.
+     */
+    private boolean assign(String key, String value) {
+        if (constraints != null) {
+            String violation = target.checkValue(key, value);
+            if (violation != null) {
+                // Parsing continues, so every violation is reported together.
+                constraints.violate(violation + fromSource());
+                record(key);
+                return true;
+            }
+        }
+
+        Accumulator accumulator = multiValued ? accumulator(key) : null;
+        // Failures report the value as it was given, not as it was resolved.
+        String resolved = workingDirectory != null && target.isPath(key) ? resolve(value, accumulator != null) : value;
+        if (accumulator != null) {
+            long start = start();
+            boolean added = accumulator.addAll(resolved);
+            time(ParsePhase.CONVERSION, start);
+            if (!added)
+                return fail(FailureCause.INVALID_VALUE, "Invalid value for --" + key + ": '" + value + "'" + fromSource());
+
+        } else if (!(listener == null ? target.setValue(obj, key, resolved) : setValueTimed(key, resolved))) {
+            // Bounds are checked on the converted number, the value is only parsed again to report which check rejected it.
+            String violation = constraints == null ? null : target.checkBounds(key, value);
+            if (violation == null)
+                return fail(FailureCause.INVALID_VALUE, "Invalid value for --" + key + ": '" + value + "'" + fromSource());
+            constraints.violate(violation + fromSource());
+        }
+        record(key);
+        return true;
+    }
+
+    /**
+     * Applies the values of the given source. Boolean fields accept {@code true} or {@code false}, ignoring case. Sources must be applied in order
+     * of increasing precedence, before any argument is accepted.
+     *
+     * @param source
+     *            the source.
+     * @return false if parsing has failed.
+     * @throws java.io.UncheckedIOException
+     *             if the source can't be read.
+     */
+    boolean applySource(ArgumentSource source) {
+        if (failed)
+            return false;
+
+        long start = start();
+        final long[] assignNanos = new long[1];
+        sourceName = source.getName();
+        try {
+            source.resolve(target.getKeyIndex(), new BiConsumer<String, String>() {
+                @Override
+                public void accept(String key, String value) {
+                    if (failed)
+                        return;
+                    long assignStart = start();
+                    if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+                        long bindStart = start();
+                        boolean set = target.setBoolean(obj, key, value.length() == 4);
+                        time(ParsePhase.BINDING, bindStart);
+                        if (set)
+                            record(key);
+                        else
+                            assign(key, value);
+                    } else {
+                        assign(key, value);
+                    }
+                    if (listener != null)
+                        assignNanos[0] += System.nanoTime() - assignStart;
+                }
+            });
+            bindAccumulators();
+        } finally {
+            sourceName = null;
+        }
+
+        // Conversion and binding are reported as their own phases.
+        if (listener != null)
+            phaseNanos[ParsePhase.SOURCE_LOOKUP.ordinal()] += System.nanoTime() - start - assignNanos[0];
+        return !failed;
+    }
+
+    /**
+     * Resolves the given path, or each comma separated path of a multi-valued key, against the working directory. A path that isn't valid is
+     * left as it is, to be rejected by its converter.
+     */
+    private String resolve(String value, boolean multiValued) {
+        StringBuilder resolved = new StringBuilder(value.length() + 32);
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || (multiValued && value.charAt(i) == ',')) {
+                String path = value.substring(start, i);
+                if (start > 0)
+                    resolved.append(',');
+                try {
+                    resolved.append(path.isEmpty() ? path : workingDirectory.resolve(path).toString());
+                } catch (InvalidPathException e) {
+                    resolved.append(path);
+                }
+                start = i + 1;
+            }
+        }
+        return resolved.toString();
+    }
+
+    /**
+     * Sets the directory relative argument files and paths are resolved against. Must be set before any argument or source is applied.
+     *
+     * @param workingDirectory
+     *            the directory, or null for the working directory of this process.
+     */
+    void setWorkingDirectory(Path workingDirectory) {
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * @return the directory relative paths are resolved against, or null for the working directory of this process.
+     */
+    Path getWorkingDirectory() {
+        return workingDirectory;
+    }
+
+    /**
+     * Keeps the name of the source that set each key, see {@link #getSources()}.
+     */
+    void trackSources() {
+        if (sources == null)
+            sources = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns the name of the source that last set each key, {@link ArgumentSource#COMMAND_LINE} for the command line.
+     *
+     * @return the sources referenced by key, or null if sources aren't tracked.
+     */
+    Map<String, String> getSources() {
+        return sources;
+    }
+
+    private String fromSource() {
+        return sourceName == null ? "" : " (from " + sourceName + ")";
+    }
+
+    /**
+     * Converts and sets a value, timing conversion and binding separately.
+     */
+    private boolean setValueTimed(String key, String value) {
+        long start = System.nanoTime();
+        if (!(target instanceof ArgumentSchema)) {
+            boolean set = target.setValue(obj, key, value);
+            time(ParsePhase.BINDING, start);
+            return set;
+        }
+
+        ArgumentBinding binding = ((ArgumentSchema) target).get(key);
+        Object objValue = binding.convert(value);
+        time(ParsePhase.CONVERSION, start);
+        if (objValue == null)
+            return false;
+
+        start = System.nanoTime();
+        binding.getBinder().set(obj, objValue);
+        time(ParsePhase.BINDING, start);
+        return true;
+    }
+
+    /**
+     * Fails with an unknown key, or if abbreviations are allowed and the key is the prefix of several keys, an ambiguous key. An unknown key
+     * suggests the closest keys, if any are close.
+     *
+     * @param arg
+     *            the argument.
+     * @param start
+     *            the start index of the key within the argument.
+     * @return false.
+     */
+    private boolean failUnknown(String arg, int start) {
+        if (abbreviations && arg.length() > start) {
+            String[] candidates = target.getKeyIndex().startingWith(arg, start, arg.length());
+            if (candidates.length > 1)
+                return fail(FailureCause.AMBIGUOUS_KEY, "Ambiguous argument: " + arg + " (" + String.join(", ", candidates) + ")");
+        }
+        String[] suggestions = target.getKeyIndex().suggest(arg, start, arg.length(), MAX_SUGGESTIONS);
+        if (suggestions.length == 0)
+            return fail(FailureCause.UNKNOWN_KEY, "Unknown argument: " + arg);
+
+        // Suggest the keys with the same syntax as the argument.
+        StringBuilder sb = new StringBuilder("Unknown argument: ").append(arg).append(" (did you mean ");
+        for (int i = 0; i < suggestions.length; i++) {
+            if (i > 0)
+                sb.append(i == suggestions.length - 1 ? " or " : ", ");
+            sb.append(arg, 0, start).append(suggestions[i]);
+        }
+        return fail(FailureCause.UNKNOWN_KEY, sb.append("?)").toString());
+    }
+
+    /**
+     * Fails with every violation of the constraints, adding the required keys that aren't present.
+     */
+    private void checkConstraints() {
+        if (failed || constraints == null)
+            return;
+
+        for (Constraints required : constraints.required) {
+            if (!constraints.present.contains(required.getKey()))
+                constraints.violate(required.missing());
+        }
+        if (constraints.violations != null)
+            fail(FailureCause.CONSTRAINT_VIOLATION, String.join("; ", constraints.violations));
+    }
+
+    /**
+     * Marks this parse as failed, if it hasn't already failed.
+     *
+     * @param cause
+     *            the cause of the failure.
+     * @param reason
+     *            the reason parsing failed.
+     * @return false.
+     */
+    boolean fail(FailureCause cause, String reason) {
+        if (!failed) {
+            failed = true;
+            failureCause = cause;
+            failure = reason;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the reason parsing failed.
+     *
+     * @return the reason parsing failed, or null if parsing hasn't failed.
+     */
+    String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the cause of the failure.
+     *
+     * @return the cause of the failure, or null if parsing hasn't failed.
+     */
+    FailureCause getFailureCause() {
+        return failureCause;
+    }
+
+    /**
+     * Returns the result of this parse. A value argument without a value fails the parse.
+     *
+     * @return the recorded keys in the order they were present, or null if parsing failed.
+     */
+    List<String> finish() {
+        if (assignNext) {
+            assignNext = false;
+            if (key == null)
+                failUnknown(unknownKey, 2);
+            else
+                fail(FailureCause.MISSING_VALUE, "Missing value for --" + key);
+        }
+        checkConstraints();
+
+        bindAccumulators();
+        return failed ? null : keys;
+    }
+
+    /**
+     * Sets the multi-valued fields collected so far, unless parsing has failed, and starts collecting them again.
+     */
+    private void bindAccumulators() {
+        if (accumulators == null)
+            return;
+
+        if (!failed) {
+            long start = start();
+            for (Accumulator accumulator : accumulators.values())
+                accumulator.bind(obj);
+            time(ParsePhase.BINDING, start);
+        }
+        accumulators = null;
+    }
+
+    /**
+     * Returns the accumulator of the given key for this parse, creating it on the first occurrence of the key.
+     *
+     * @return the accumulator, or null if the key doesn't reference a multi-valued field.
+     */
+    private Accumulator accumulator(String key) {
+        Accumulator accumulator = accumulators == null ? null : accumulators.get(key);
+        if (accumulator == null) {
+            accumulator = target.newAccumulator(key);
+            if (accumulator != null) {
+                if (accumulators == null)
+                    accumulators = new LinkedHashMap<>();
+                accumulators.put(key, accumulator);
+            }
+        }
+        return accumulator;
+    }
+
+    /**
+     * Finishes this parse, calls the events of the recorded keys on the calling thread if parsing succeeded and reports to the listener.
+     *
+     * @return false if parsing failed.
+     */
+    boolean complete() {
+        List<String> keys = finish();
+        try {
+            if (keys != null) {
+                long start = start();
+                EventDispatcher.dispatch(events, keys);
+                time(ParsePhase.EVENT_DISPATCH, start);
+            }
+        } finally {
+            report();
+        }
+        return keys != null;
+    }
+
+    /**
+     * Finishes this parse, submits the events of the recorded keys to the given executor if parsing succeeded and reports to the listener. Only
+     * the time taken to submit the events is reported.
+     *
+     * @return a future that completes when all events have completed, or null if parsing failed.
+     */
+    CompletableFuture<Void> completeAsync(Executor executor) {
+        List<String> keys = finish();
+        try {
+            if (keys == null)
+                return null;
+
+            long start = start();
+            CompletableFuture<Void> future = EventDispatcher.dispatchAsync(events, keys, executor);
+            time(ParsePhase.EVENT_DISPATCH, start);
+            return future;
+        } finally {
+            report();
+        }
+    }
+
+    /**
+     * Returns the current time if this parse is timed.
+     *
+     * @return the current time in nanoseconds, or 0 if no listener is attached.
+     */
+    long start() {
+        return listener == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Adds the time since the given start time to the given phase, if this parse is timed.
+     */
+    void time(ParsePhase phase, long start) {
+        if (listener != null)
+            phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+    }
+
+    /**
+     * Adds the time since the given start time to the tokenizing phase, excluding the time spent parsing the arguments it produced.
+     *
+     * @param acceptedNanos
+     *            the value of {@link #getAcceptNanos()} when tokenizing started.
+     */
+    void timeTokenizing(long start, long acceptedNanos) {
+        if (listener != null)
+            phaseNanos[ParsePhase.TOKENIZING.ordinal()] += System.nanoTime() - start - (acceptNanos - acceptedNanos);
+    }
+
+    /**
+     * Returns the total time spent within {@link #accept(CharSequence)}.
+     */
+    long getAcceptNanos() {
+        return acceptNanos;
+    }
+
+    /**
+     * Reports the phases and the failure of this parse to the listener, if one is attached.
+     */
+    void report() {
+        if (listener == null)
+            return;
+
+        for (ParsePhase phase : ParsePhase.values()) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos != 0)
+                listener.onPhase(type, phase, nanos);
+        }
+        if (failed)
+            listener.onFailure(type, failureCause, failure);
+        listener.onParse(type, !failed, System.nanoTime() - startNanos);
+    }
+
+    private void record(String key) {
+        if (constraints != null && constraints.present != null)
+            constraints.present.add(key);
+        if (sources != null)
+            sources.put(key, sourceName == null ? ArgumentSource.COMMAND_LINE : sourceName);
+        // Events are only fired for arguments present on the command line, not for values from a source.
+        if (sourceName != null || !events.containsKey(key))
+            return;
+        if (recordedKeys != null && !recordedKeys.add(key))
+            return;
+        keys.add(key);
+    }
+
+    private boolean isIgnored(CharSequence arg, int start, int end) {
+        for (ArgumentTarget ignoreTarget : ignoreTargets) {
+            if (ignoreTarget.getKeyIndex().find(arg, start, end) != null)
+                return true;
+        }
+        return false;
+    }
+
+    /** The keys present and the violations of a parse of a target with constraints. */
+    private static final class ConstraintCheck {
+
+        private final Constraints[] required;
+        /** The keys present, or null if no key is required. */
+        private final Set<String> present;
+        private List<String> violations;
+
+        ConstraintCheck(Constraints[] required) {
+            this.required = required;
+            this.present = required.length == 0 ? null : new HashSet<String>();
+        }
+
+        void violate(String violation) {
+            if (violations == null)
+                violations = new ArrayList<>();
+            violations.add(violation);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.maxstupo.jannoargs;
+
+/**
+ * A built-in {@link Converter} for a primitive type that can also parse a value straight into a {@link FieldBinder}, without boxing it.
+ *
+ * @author Maxstupo
+ * @param <T>
+ *            the wrapper type of the primitive.
+ */
+abstract class PrimitiveConverter<T> implements Converter<T> {
+
+    /**
+     * Converts the given string value and sets it using the given binder, if it's within the given bounds.
+     *
+     * @param binder
+     *            the binder of the field.
+     * @param obj
+     *            the object to set the field of.
+     * @param value
+     *            the string value.
+     * @param bounds
+     *            the constraints whose bounds the converted value must be within, or null if the field isn't bounded.
+     * @return false if the string can't be converted or the converted value is out of bounds.
+     */
+    abstract boolean bind(FieldBinder binder, Object obj, String value, Constraints bounds);
+}
@@ -0,0 +1,469 @@
+package com.github.maxstupo.jannoargs;
+
+import java.io.PrintStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * An immutable registry of git-style subcommands, each with its own options type, e.g. {@code tool commit --message text}. Commands are
+ * registered by class name or by a supplier of options objects, so building the registry loads no options type; only the selected command's type
+ * is loaded, reflected and parsed, and only its events are called. Startup cost stays the same however many commands are registered.
+ * <p>
+ *
+ * The names and descriptions of the commands form an index built with the registry, which finds the selected command, suggests the closest
+ * commands for a mistyped name and renders the top-level help without touching any options type.
+ *
+ * @author Maxstupo
+ * @see #builder()
+ */
+public final class Subcommands {
+
+    /** The number of closest commands suggested for an unknown command. */
+    private static final int MAX_SUGGESTIONS = 3;
+
+    private final Map<String, Command> commands;
+    private final KeyIndex index;
+    private final String help;
+    private final boolean displayHelp;
+
+    private Subcommands(Builder builder) {
+        Map<String, IArgumentEvent> commonEvents = Collections.unmodifiableMap(new HashMap<>(builder.events));
+        this.commands = new HashMap<>(builder.commands.size() * 2);
+        for (Command command : builder.commands.values())
+            commands.put(command.name, command.build(builder, commonEvents));
+
+        this.index = new KeyIndex(builder.commands.keySet());
+
+        String[] names = builder.commands.keySet().toArray(new String[builder.commands.size()]);
+        String[] descs = new String[names.length];
+        for (int i = 0; i < names.length; i++)
+            descs[i] = builder.commands.get(names[i]).desc;
+        this.help = HelpFormatter.commands(builder.programDescription, names, descs);
+        this.displayHelp = builder.displayHelp;
+    }
+
+    /**
+     * Parses the given arguments, the first of which is the name of the command and the rest its arguments. The options type of the command is
+     * loaded and its parser built the first time the command is selected; the options object is created through its no-arg constructor, or
+     * through its {@link CmdArgument} constructor as {@link ArgumentParser#newInstance(String...)} does. Events of the command are called on the
+     * calling thread once parsing has succeeded.
+     * <p>
+     *
+     * If help is {@link Builder#displayHelp(boolean) displayed} it's the top-level help for an unknown command, or the help of the command for
+     * any other failure.
+     *
+     * @param args
+     *            the name of the command followed by its arguments.
+     * @return the result holding the options object of the command, or the failure. No command, or one that isn't registered, fails with
+     *         {@link FailureCause#UNKNOWN_COMMAND}.
+     * @throws IllegalStateException
+     *             if the options type of the command can't be loaded or created.
+     */
+    public ParseResult<Object> parse(String... args) {
+        if (args.length == 0)
+            return unknownCommand("No command given");
+
+        String name = args[0];
+        Command command = commands.get(name);
+        if (command == null) {
+            StringBuilder sb = new StringBuilder("Unknown command: ").append(name);
+            String[] suggestions = index.suggest(name, 0, name.length(), MAX_SUGGESTIONS);
+            for (int i = 0; i < suggestions.length; i++)
+                sb.append(i == 0 ? " (did you mean " : i == suggestions.length - 1 ? " or " : ", ").append(suggestions[i]);
+            if (suggestions.length > 0)
+                sb.append("?)");
+            return unknownCommand(sb.toString());
+        }
+
+        ParseResult<Object> result = command.parse(Arrays.copyOfRange(args, 1, args.length));
+        if (!result.isSuccess() && displayHelp)
+            System.out.println(command.parser.generateHelp());
+        return result;
+    }
+
+    private ParseResult<Object> unknownCommand(String failure) {
+        if (displayHelp)
+            System.out.println(help);
+        return ParseResult.failure(FailureCause.UNKNOWN_COMMAND, failure);
+    }
+
+    /**
+     * Returns true if a command is registered with the given name.
+     *
+     * @param name
+     *            the name of the command.
+     * @return true if the command is registered.
+     */
+    public boolean hasCommand(String name) {
+        return commands.containsKey(name);
+    }
+
+    /**
+     * Returns the names of the registered commands.
+     *
+     * @return the names of the commands, sorted.
+     */
+    public List<String> getCommands() {
+        return Collections.unmodifiableList(Arrays.asList(index.keys()));
+    }
+
+    /**
+     * Returns the top-level help, listing each command with its description. The help is rendered when the registry is built, from the names and
+     * descriptions alone.
+     *
+     * @return a formatted help string ready to be printed to the console.
+     */
+    public String generateHelp() {
+        return help;
+    }
+
+    /**
+     * Prints the top-level help to the given stream, the same as {@link #generateHelp()}.
+     *
+     * @param out
+     *            the stream to print the help to.
+     */
+    public void generateHelp(PrintStream out) {
+        out.print(help);
+    }
+
+    /**
+     * Returns the help of the given command, loading its options type if it hasn't been selected before.
+     *
+     * @param name
+     *            the name of the command.
+     * @return a formatted help string ready to be printed to the console.
+     * @throws IllegalArgumentException
+     *             if no command is registered with the name.
+     * @throws IllegalStateException
+     *             if the options type of the command can't be loaded.
+     */
+    public String generateHelp(String name) {
+        Command command = commands.get(name);
+        if (command == null)
+            throw new IllegalArgumentException("No command registered with the name: " + name);
+        return command.parser(command.type()).generateHelp();
+    }
+
+    /**
+     * Returns a new builder for a registry of subcommands.
+     *
+     * @return a new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A registered command, whose options type and parser are resolved on first use.
+     */
+    private static final class Command {
+
+        private final String name;
+        private final String desc;
+        private final String className;
+        private final Supplier<?> supplier;
+        private final Map<String, IArgumentEvent> events = new HashMap<>();
+
+        // Set when the registry is built.
+        private ClassLoader classLoader;
+        private Map<String, IArgumentEvent> commonEvents;
+        private boolean fireEventsPerOccurrence;
+        private boolean allowAbbreviations;
+        private ParseListener listener;
+        private String programDescription;
+
+        /** The parser of the options type, racy but idempotent. */
+        private volatile ArgumentParser<Object> parser;
+
+        Command(String name, String desc, String className, Supplier<?> supplier) {
+            this.name = name;
+            this.desc = desc;
+            this.className = className;
+            this.supplier = supplier;
+        }
+
+        /**
+         * Returns a copy of this command with the settings of the given builder, so registries built from the same builder don't share state.
+         */
+        Command build(Builder builder, Map<String, IArgumentEvent> commonEvents) {
+            Command command = new Command(name, desc, className, supplier);
+            command.events.putAll(events);
+            command.classLoader = builder.classLoader;
+            command.commonEvents = commonEvents;
+            command.fireEventsPerOccurrence = builder.fireEventsPerOccurrence;
+            command.allowAbbreviations = builder.allowAbbreviations;
+            command.listener = builder.listener;
+            command.programDescription = builder.programDescription == null || builder.programDescription.isEmpty() ? name + ": " + desc : builder.programDescription + " " + name + ": " + desc;
+            return command;
+        }
+
+        ParseResult<Object> parse(String[] args) {
+            if (supplier != null) {
+                Object obj = supplier.get();
+                return parser(obj.getClass()).parseResult(obj, args);
+            }
+
+            ArgumentParser<Object> parser = parser(type());
+            if (parser.isConstructorBound())
+                return parser.newInstance(args);
+            return parser.parseResult(instantiate(parser.getType()), args);
+        }
+
+        /**
+         * @return the options type of this command, loaded without being initialized.
+         */
+        Class<?> type() {
+            ArgumentParser<Object> parser = this.parser;
+            if (parser != null)
+                return parser.getType();
+            if (supplier != null)
+                return supplier.get().getClass();
+
+            try {
+                return Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new IllegalStateException("Unable to load the options of command " + name + ": " + className, e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentParser<Object> parser(Class<?> type) {
+            ArgumentParser<Object> parser = this.parser;
+            if (parser == null || parser.getType() != type) {
+                ArgumentParser.Builder<Object> builder = ArgumentParser.builder((Class<Object>) type);
+                for (Map.Entry<String, IArgumentEvent> entry : commonEvents.entrySet()) {
+                    if (!events.containsKey(entry.getKey()))
+                        builder.event(entry.getKey(), entry.getValue());
+                }
+                for (Map.Entry<String, IArgumentEvent> entry : events.entrySet())
+                    builder.event(entry.getKey(), entry.getValue());
+
+                this.parser = parser = builder.fireEventsPerOccurrence(fireEventsPerOccurrence).allowAbbreviations(allowAbbreviations).listener(listener).programDescription(programDescription).build();
+            }
+            return parser;
+        }
+
+        private Object instantiate(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor.newInstance();
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Unable to create the options of command " + name, e.getCause());
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new IllegalStateException("Unable to create the options of command " + name, e);
+            }
+        }
+    }
+
+    /**
+     * A builder of {@link Subcommands} registries. Builders aren't thread-safe, but the registries they build are.
+     *
+     * @author Maxstupo
+     */
+    public static final class Builder {
+
+        private final Map<String, Command> commands = new TreeMap<>();
+        private final Map<String, IArgumentEvent> events = new HashMap<>();
+        private ClassLoader classLoader = Subcommands.class.getClassLoader();
+        private boolean fireEventsPerOccurrence;
+        private boolean allowAbbreviations;
+        private ParseListener listener;
+
+        private boolean displayHelp;
+        private String programDescription;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a command whose options type is loaded by name the first time the command is selected. The type must have a no-arg
+         * constructor, which may be private, or a constructor with {@link CmdArgument} parameters.
+         *
+         * @param name
+         *            the name of the command.
+         * @param desc
+         *            the description of the command, shown in the top-level help.
+         * @param className
+         *            the binary name of the options type, e.g. {@code com.example.CommitOptions}.
+         * @return this builder.
+         * @throws IllegalArgumentException
+         *             if a command has already been registered with the name.
+         */
+        public Builder command(String name, String desc, String className) {
+            if (className == null)
+                throw new IllegalArgumentException("className must not be null");
+            return add(new Command(name, desc, className, null));
+        }
+
+        /**
+         * Registers a command whose options objects are created by the given supplier, called each time the command is selected. The supplier
+         * should only refer to the options type within its body, e.g. an anonymous class, as a constructor reference loads the type when it's
+         * created.
+         *
+         * @param name
+         *            the name of the command.
+         * @param desc
+         *            the description of the command, shown in the top-level help.
+         * @param supplier
+         *            the supplier of a new options object for each parse.
+         * @return this builder.
+         * @throws IllegalArgumentException
+         *             if a command has already been registered with the name.
+         */
+        public Builder command(String name, String desc, Supplier<?> supplier) {
+            if (supplier == null)
+                throw new IllegalArgumentException("supplier must not be null");
+            return add(new Command(name, desc, null, supplier));
+        }
+
+        private Builder add(Command command) {
+            if (command.name == null || command.name.isEmpty())
+                throw new IllegalArgumentException("name must not be empty");
+            if (commands.containsKey(command.name))
+                throw new IllegalArgumentException("A command has already been registered with the name: " + command.name);
+            commands.put(command.name, command);
+            return this;
+        }
+
+        /**
+         * Registers an event with the argument name of a single command, called only when that command is selected.
+         *
+         * @param command
+         *            the name of the command, which must already be registered.
+         * @param argumentName
+         *            the name of the argument.
+         * @param evt
+         *            the event that will be called if the argument is present.
+         * @return this builder.
+         * @throws IllegalArgumentException
+         *             if no command has been registered with the name, or the argument name has already been registered for the command.
+         */
+        public Builder event(String command, String argumentName, IArgumentEvent evt) {
+            Command registered = commands.get(command);
+            if (registered == null)
+                throw new IllegalArgumentException("No command registered with the name: " + command);
+            if (registered.events.containsKey(argumentName))
+                throw new IllegalArgumentException("An event has already been registered for argument: " + argumentName);
+            registered.events.put(argumentName, evt);
+            return this;
+        }
+
+        /**
+         * Registers an event with the argument name for every command that has the argument, called when the selected command has it. An event
+         * registered for a single command takes precedence.
+         *
+         * @param argumentName
+         *            the name of the argument.
+         * @param evt
+         *            the event that will be called if the argument is present.
+         * @return this builder.
+         * @throws IllegalArgumentException
+         *             if the argument name has already been registered.
+         */
+        public Builder event(String argumentName, IArgumentEvent evt) {
+            if (events.containsKey(argumentName))
+                throw new IllegalArgumentException("An event has already been registered for argument: " + argumentName);
+            events.put(argumentName, evt);
+            return this;
+        }
+
+        /**
+         * Sets the class loader that options types registered by class name are loaded with. (Default: the class loader of this library)
+         *
+         * @param classLoader
+         *            the class loader.
+         * @return this builder.
+         */
+        public Builder classLoader(ClassLoader classLoader) {
+            if (classLoader == null)
+                throw new IllegalArgumentException("classLoader must not be null");
+            this.classLoader = classLoader;
+            return this;
+        }
+
+        /**
+         * Sets if events should be called each time their argument is present, instead of once regardless of how many times the argument is
+         * present. (Default: false)
+         *
+         * @param fireEventsPerOccurrence
+         *            if true events will be called each time their argument is present.
+         * @return this builder.
+         */
+        public Builder fireEventsPerOccurrence(boolean fireEventsPerOccurrence) {
+            this.fireEventsPerOccurrence = fireEventsPerOccurrence;
+            return this;
+        }
+
+        /**
+         * Sets if the keys of each command can be abbreviated, the same as {@link ArgumentParser.Builder#allowAbbreviations(boolean)}. Command
+         * names must always be matched exactly. (Default: false)
+         *
+         * @param allowAbbreviations
+         *            if true keys can be abbreviated.
+         * @return this builder.
+         */
+        public Builder allowAbbreviations(boolean allowAbbreviations) {
+            this.allowAbbreviations = allowAbbreviations;
+            return this;
+        }
+
+        /**
+         * Sets the listener that receives the timings and failures of each parse of every command. (Default: null)
+         *
+         * @param listener
+         *            the listener, or null to not time parses.
+         * @return this builder.
+         */
+        public Builder listener(ParseListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Sets if generated help will be displayed if an error occurred. (Default: false)
+         *
+         * @param displayHelp
+         *            if true generated help will be displayed if an error occurred.
+         * @return this builder.
+         */
+        public Builder displayHelp(boolean displayHelp) {
+            this.displayHelp = displayHelp;
+            return this;
+        }
+
+        /**
+         * Sets the description that will be used in the top-level help, and before the name of the command in the help of each command.
+         * (Default: null)
+         *
+         * @param programDescription
+         *            the description, null or empty to disable the description.
+         * @return this builder.
+         */
+        public Builder programDescription(String programDescription) {
+            this.programDescription = programDescription;
+            return this;
+        }
+
+        /**
+         * Builds an immutable registry. No options type is loaded.
+         *
+         * @return a new registry.
+         * @throws IllegalStateException
+         *             if no commands have been registered.
+         */
+        public Subcommands build() {
+            if (commands.isEmpty())
+                throw new IllegalStateException("At least one command must be registered");
+            return new Subcommands(this);
+        }
+    }
+}
@@ -25,6 +25,7 @@ public final class Util {
         primitiveToWrapperMap.put(long.class, Long.class);
         primitiveToWrapperMap.put(short.class, Short.class);
         primitiveToWrapperMap.put(byte.class, Byte.class);
+        primitiveToWrapperMap.put(char.class, Character.class);
     }
 
     /**
@@ -51,6 +52,23 @@ public final class Util {
         }
     }
 
+    /**
+     * Returns true if all given types are loaded by the class loader of the first, so a cache entry held by the first type doesn't keep a class
+     * loader alive that would otherwise be released.
+     *
+     * @param types
+     *            the types, at least one.
+     * @return true if all the types share the class loader of the first.
+     */
+    static boolean sharesLoader(Class<?>... types) {
+        ClassLoader loader = types[0].getClassLoader();
+        for (Class<?> type : types) {
+            if (type.getClassLoader() != loader)
+                return false;
+        }
+        return true;
+    }
+
     private static <K, V> Map<V, K> flipMap(Map<K, V> map) {
         Map<V, K> flippedMap = new HashMap<>();
         for (Entry<K, V> entry : map.entrySet())
@@ -66,12 +84,7 @@ public final class Util {
      * @return true if the given string can be converted to a integer.
      */
     public static boolean isInt(String n) {
-        try {
-            Integer.parseInt(n);
-            return true;
-        } catch (Exception e) {
-        }
-        return false;
+        return n != null && NumberParser.parseInt(n) != NumberParser.INVALID;
     }
 
     /**
@@ -82,12 +95,7 @@ public final class Util {
      * @return true if the given string can be converted to a float.
      */
     public static boolean isFloat(String n) {
-        try {
-            Float.parseFloat(n);
-            return true;
-        } catch (Exception e) {
-        }
-        return false;
+        return n != null && NumberParser.isFloatingPoint(n);
     }
 
     /**
@@ -98,12 +106,7 @@ public final class Util {
      * @return true if the given string can be converted to a double.
      */
     public static boolean isDouble(String n) {
-        try {
-            Double.parseDouble(n);
-            return true;
-        } catch (Exception e) {
-        }
-        return false;
+        return n != null && NumberParser.isFloatingPoint(n);
     }
 
     /**
@@ -114,12 +117,7 @@ public final class Util {
      * @return true if the given string can be converted to a long.
      */
     public static boolean isLong(String n) {
-        try {
-            Long.parseLong(n);
-            return true;
-        } catch (Exception e) {
-        }
-        return false;
+        return n != null && (NumberParser.parseLong(n) != NumberParser.INVALID || NumberParser.isLongMin(n));
     }
 
 }
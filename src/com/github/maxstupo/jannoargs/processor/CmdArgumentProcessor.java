@@ -0,0 +1,453 @@
+package com.github.maxstupo.jannoargs.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import com.github.maxstupo.jannoargs.CmdArgument;
+import com.github.maxstupo.jannoargs.Converter;
+import com.github.maxstupo.jannoargs.Converters;
+import com.github.maxstupo.jannoargs.GeneratedParser;
+
+/**
+ * An annotation processor that generates a reflection-free {@link GeneratedParser} for each class containing fields annotated with
+ * {@link CmdArgument}. For a class named {@code Xxx} a parser named {@code XxxArgs} is generated within the same package, dispatching keys with a
+ * {@code switch}, writing fields directly and containing the help as a constant. Values are converted by the same {@link Converters} as the
+ * reflective path, and the parsers are registered as services in {@code META-INF/services}, so they're found without reflection.
+ * <p>
+ *
+ * A parser can only write fields it can access, so no parser is generated for a class if any of its {@link CmdArgument} fields (including inherited
+ * fields) are private, final or of an unsupported type. These classes will be parsed using reflection instead.
+ *
+ * @author Maxstupo
+ */
+@SupportedAnnotationTypes("com.github.maxstupo.jannoargs.CmdArgument")
+public class CmdArgumentProcessor extends AbstractProcessor {
+
+    private static final String SUFFIX = "Args";
+
+    private static final String SERVICES = "META-INF/services/" + GeneratedParser.class.getName();
+
+    /** The names of the parsers generated, and of those no longer generated as their class was skipped. */
+    private final Set<String> generated = new TreeSet<>();
+    private final Set<String> skipped = new TreeSet<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    private enum FieldKind {
+        BOOLEAN("Boolean"), STRING("String"), INT("Integer"), LONG("Long"), FLOAT("Float"), DOUBLE("Double");
+
+        /** The type the value of a field is converted to. */
+        final String wrapper;
+
+        FieldKind(String wrapper) {
+            this.wrapper = wrapper;
+        }
+    }
+
+    private static final class FieldInfo {
+        final VariableElement field;
+        final CmdArgument argument;
+        final FieldKind kind;
+
+        FieldInfo(VariableElement field, CmdArgument argument, FieldKind kind) {
+            this.field = field;
+            this.argument = argument;
+            this.kind = kind;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return false;
+        }
+
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(CmdArgument.class)) {
+            if (element.getKind() == ElementKind.FIELD)
+                types.add((TypeElement) element.getEnclosingElement());
+        }
+
+        for (TypeElement type : types) {
+            try {
+                generate(type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate parser: " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_') + SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        String reason = checkType(type);
+        if (reason != null) {
+            skip(type, qualifiedName, reason);
+            return;
+        }
+
+        // Superclass fields are added first, allowing subclasses to redeclare a key.
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement cls = type; cls != null; cls = superclassOf(cls))
+            hierarchy.push(cls);
+
+        Map<String, FieldInfo> fields = new LinkedHashMap<>();
+        for (TypeElement cls : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(cls.getEnclosedElements())) {
+                CmdArgument argument = field.getAnnotation(CmdArgument.class);
+                if (argument == null)
+                    continue;
+
+                reason = checkField(field, pkg);
+                if (reason != null) {
+                    skip(type, qualifiedName, reason);
+                    return;
+                }
+
+                FieldKind kind = kindOf(field.asType());
+                if (kind == null) {
+                    skip(type, qualifiedName, "field '" + field.getSimpleName() + "' has an unsupported type " + field.asType());
+                    return;
+                }
+                fields.remove(argument.key());
+                fields.put(argument.key(), new FieldInfo(field, argument, kind));
+            }
+        }
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(render(packageName, simpleName, type.getQualifiedName().toString(), fields));
+        }
+        generated.add(qualifiedName);
+        originatingElements.add(type);
+    }
+
+    /**
+     * Registers the generated parsers as services. An incremental build only processes the changed classes, so the parsers registered by an
+     * earlier build are kept, unless their class was skipped by this one.
+     */
+    private void writeServices() {
+        if (generated.isEmpty() && skipped.isEmpty())
+            return;
+
+        Set<String> services = new TreeSet<>(generated);
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+                for (String line; (line = reader.readLine()) != null;) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#") && !skipped.contains(line))
+                        services.add(line);
+                }
+            }
+        } catch (IOException e) {
+            // Nothing has been registered by an earlier build.
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES, originatingElements.toArray(new Element[originatingElements.size()]));
+            try (Writer writer = file.openWriter()) {
+                for (String service : services)
+                    writer.write(service + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to register generated parsers: " + e.getMessage());
+        }
+    }
+
+    private String render(String packageName, String simpleName, String typeName, Map<String, FieldInfo> fields) {
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty())
+            sb.append("package ").append(packageName).append(";\n\n");
+
+        sb.append("/**\n");
+        sb.append(" * Parser for {@link ").append(typeName).append("}, generated by {@link ").append(CmdArgumentProcessor.class.getName()).append("}.\n");
+        sb.append(" */\n");
+        sb.append("public final class ").append(simpleName).append(" implements ").append(GeneratedParser.class.getName()).append('<').append(typeName).append("> {\n\n");
+
+        sb.append("    private static final String HELP = ").append(literal(help(fields))).append(";\n\n");
+
+        sb.append("    private static final String[] KEYS = { ");
+        String separator = "";
+        for (String key : fields.keySet()) {
+            sb.append(separator).append(literal(key));
+            separator = ", ";
+        }
+        sb.append(" };\n\n");
+
+        // The converters are looked up on first use rather than when the parser is loaded, as the reflective schema does.
+        StringBuilder converters = new StringBuilder();
+        int index = 0;
+        for (FieldInfo info : fields.values()) {
+            if (info.kind != FieldKind.BOOLEAN) {
+                converters.append("        static final ").append(Converter.class.getName()).append("<? extends ").append(info.kind.wrapper).append("> CONVERTER_").append(index);
+                converters.append(" = ").append(Converters.class.getName()).append(".get(").append(processingEnv.getTypeUtils().erasure(info.field.asType())).append(".class);\n");
+            }
+            index++;
+        }
+        if (converters.length() > 0)
+            sb.append("    private static final class ValueConverters {\n").append(converters).append("    }\n\n");
+
+        // type
+        sb.append("    @Override\n");
+        sb.append("    public Class<").append(typeName).append("> type() {\n");
+        sb.append("        return ").append(typeName).append(".class;\n");
+        sb.append("    }\n\n");
+
+        // keys
+        sb.append("    @Override\n");
+        sb.append("    public String[] keys() {\n");
+        sb.append("        return KEYS.clone();\n");
+        sb.append("    }\n\n");
+
+        // containsKey
+        sb.append("    @Override\n");
+        sb.append("    public boolean containsKey(String key) {\n");
+        sb.append("        switch (key) {\n");
+        for (String key : fields.keySet())
+            sb.append("        case ").append(literal(key)).append(":\n");
+        if (!fields.isEmpty())
+            sb.append("            return true;\n");
+        sb.append("        default:\n");
+        sb.append("            return false;\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+
+        // setBoolean
+        sb.append("    @Override\n");
+        sb.append("    public boolean setBoolean(").append(typeName).append(" obj, String key, boolean state) {\n");
+        sb.append("        switch (key) {\n");
+        for (FieldInfo info : fields.values()) {
+            if (info.kind != FieldKind.BOOLEAN)
+                continue;
+            sb.append("        case ").append(literal(info.argument.key())).append(":\n");
+            sb.append("            ").append(target(info)).append(" = state;\n");
+            sb.append("            return true;\n");
+        }
+        sb.append("        default:\n");
+        sb.append("            return false;\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+
+        // setValue
+        sb.append("    @Override\n");
+        sb.append("    public boolean setValue(").append(typeName).append(" obj, String key, String value) {\n");
+        sb.append("        switch (key) {\n");
+        index = 0;
+        for (FieldInfo info : fields.values()) {
+            if (info.kind != FieldKind.BOOLEAN) {
+                sb.append("        case ").append(literal(info.argument.key())).append(": {\n");
+                sb.append("            ").append(info.kind.wrapper).append(" converted = ValueConverters.CONVERTER_").append(index).append(".convert(value);\n");
+                sb.append("            if (converted == null)\n");
+                sb.append("                return false;\n");
+                sb.append("            ").append(target(info)).append(" = converted;\n");
+                sb.append("            return true;\n");
+                sb.append("        }\n");
+            }
+            index++;
+        }
+        sb.append("        default:\n");
+        sb.append("            return false;\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+
+        // help
+        sb.append("    @Override\n");
+        sb.append("    public String help() {\n");
+        sb.append("        return HELP;\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static String target(FieldInfo info) {
+        if (info.field.getModifiers().contains(Modifier.STATIC))
+            return ((TypeElement) info.field.getEnclosingElement()).getQualifiedName() + "." + info.field.getSimpleName();
+        return "obj." + info.field.getSimpleName();
+    }
+
+    /**
+     * Renders the help lines in the same format as {@code JAnnoArgs.generateHelp}.
+     */
+    private static String help(Map<String, FieldInfo> fields) {
+        Map<String, FieldInfo> sorted = new TreeMap<>();
+        for (FieldInfo info : fields.values()) {
+            if (!info.argument.hide())
+                sorted.put(info.argument.key(), info);
+        }
+
+        int maxKeyLength = 0;
+        for (String key : sorted.keySet())
+            maxKeyLength = Math.max(maxKeyLength, key.length());
+
+        StringBuilder sb = new StringBuilder();
+        for (FieldInfo info : sorted.values()) {
+            String prefix = info.kind == FieldKind.BOOLEAN ? "+/-" : "--";
+            sb.append(String.format("  %3s%-" + maxKeyLength + "s         %s", prefix, info.argument.key(), info.argument.desc()));
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    private String checkType(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty())
+            return "the class is generic";
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            for (VariableElement parameter : constructor.getParameters()) {
+                if (parameter.getAnnotation(CmdArgument.class) != null)
+                    return "the class is bound through its constructor";
+            }
+        }
+
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE))
+                return "the class isn't accessible";
+            if (((TypeElement) element).getNestingKind() == NestingKind.LOCAL || ((TypeElement) element).getNestingKind() == NestingKind.ANONYMOUS)
+                return "the class isn't accessible";
+        }
+        return null;
+    }
+
+    private String checkField(VariableElement field, PackageElement pkg) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE))
+            return "field '" + field.getSimpleName() + "' is private";
+        if (modifiers.contains(Modifier.FINAL))
+            return "field '" + field.getSimpleName() + "' is final";
+
+        PackageElement fieldPkg = processingEnv.getElementUtils().getPackageOf(field);
+        if (!modifiers.contains(Modifier.PUBLIC) && !fieldPkg.equals(pkg))
+            return "field '" + field.getSimpleName() + "' isn't accessible from package " + pkg.getQualifiedName();
+
+        // Constraints are compiled by the reflective schema.
+        CmdArgument argument = field.getAnnotation(CmdArgument.class);
+        if (argument.required() || argument.min() != Double.NEGATIVE_INFINITY || argument.max() != Double.POSITIVE_INFINITY || argument.minLong() != Long.MIN_VALUE
+                || argument.maxLong() != Long.MAX_VALUE || !argument.pattern().isEmpty() || argument.allowed().length != 0)
+            return "field '" + field.getSimpleName() + "' has constraints";
+        return null;
+    }
+
+    private FieldKind kindOf(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return FieldKind.BOOLEAN;
+            case INT:
+                return FieldKind.INT;
+            case LONG:
+                return FieldKind.LONG;
+            case FLOAT:
+                return FieldKind.FLOAT;
+            case DOUBLE:
+                return FieldKind.DOUBLE;
+            case DECLARED:
+                String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+                switch (name) {
+                    case "java.lang.String":
+                        return FieldKind.STRING;
+                    case "java.lang.Boolean":
+                        return FieldKind.BOOLEAN;
+                    case "java.lang.Integer":
+                        return FieldKind.INT;
+                    case "java.lang.Long":
+                        return FieldKind.LONG;
+                    case "java.lang.Float":
+                        return FieldKind.FLOAT;
+                    case "java.lang.Double":
+                        return FieldKind.DOUBLE;
+                    default:
+                        return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED)
+            return null;
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        if (element.getQualifiedName().contentEquals("java.lang.Object"))
+            return null;
+        return element;
+    }
+
+    private void skip(TypeElement type, String qualifiedName, String reason) {
+        skipped.add(qualifiedName);
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No parser generated for " + type.getQualifiedName() + ", " + reason + ". Reflection will be used instead.", type);
+    }
+
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}